@@ -0,0 +1,61 @@
+package com.hanabank.bankadviser.domain.consultation.controller;
+
+import com.hanabank.bankadviser.domain.consultation.service.FrameEncodingBenchmarkService;
+import com.hanabank.bankadviser.domain.consultation.service.SessionMessageBenchmarkService;
+import com.hanabank.bankadviser.global.shared.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * WebSocket 메시지 처리 벤치마크 API
+ * 요청 스레드에서 수십만 회 반복을 실행하므로 측정 환경에서만 등록 (websocket.benchmark.enabled=true)
+ */
+@RestController
+@RequestMapping("/api/websocket/benchmark")
+@ConditionalOnProperty(name = "websocket.benchmark.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class WebSocketBenchmarkController {
+
+    private static final int MAX_ITERATIONS = 1_000_000;
+
+    private final SessionMessageBenchmarkService sessionMessageBenchmarkService;
+    private final FrameEncodingBenchmarkService frameEncodingBenchmarkService;
+
+    /**
+     * 세션 메시지 직렬화 처리량 비교 (Map vs 타입 메시지)
+     */
+    @GetMapping("/serialization")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> serialization(
+            @RequestParam(defaultValue = "20000") int warmup,
+            @RequestParam(defaultValue = "100000") int iterations) {
+        if (warmup < 0 || iterations <= 0 || warmup > MAX_ITERATIONS || iterations > MAX_ITERATIONS) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("반복 횟수는 1 ~ " + MAX_ITERATIONS + " 범위여야 합니다."));
+        }
+
+        log.info("세션 메시지 직렬화 벤치마크 요청 - warmup: {}, iterations: {}", warmup, iterations);
+        return ResponseEntity.ok(ApiResponse.success(sessionMessageBenchmarkService.run(warmup, iterations)));
+    }
+
+    /**
+     * 프레임 형식별 전송 바이트 수와 인코딩/디코딩 비용 비교 (JSON vs 압축 바이너리)
+     */
+    @GetMapping("/frame-encoding")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> frameEncoding(
+            @RequestParam(defaultValue = "20000") int warmup,
+            @RequestParam(defaultValue = "100000") int iterations) {
+        if (warmup < 0 || iterations <= 0 || warmup > MAX_ITERATIONS || iterations > MAX_ITERATIONS) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("반복 횟수는 1 ~ " + MAX_ITERATIONS + " 범위여야 합니다."));
+        }
+
+        log.info("프레임 형식 벤치마크 요청 - warmup: {}, iterations: {}", warmup, iterations);
+        return ResponseEntity.ok(ApiResponse.success(frameEncodingBenchmarkService.run(warmup, iterations)));
+    }
+}
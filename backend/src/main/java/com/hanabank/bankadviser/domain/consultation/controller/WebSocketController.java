@@ -1,11 +1,56 @@
 package com.hanabank.bankadviser.domain.consultation.controller;
 
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.ConnectionTestEnvelope;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.CustomerSelectedEnvelope;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.CustomerSelectedRequest;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.DataEnvelope;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.EnrollmentData;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.ErrorEnvelope;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.FieldFocusData;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.FieldFocusRequest;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.FieldInputCompletedEnvelope;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.FieldInputCompletedRequest;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.FormDataEnvelope;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.FormDataRequest;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.FormNavigationData;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.FormNavigationRequest;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.JoinSessionRequest;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.LegacyFieldInput;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.LegacyFieldInputRequest;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.PassThroughRequest;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.ProductDescriptionData;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.ProductDescriptionRequest;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.ProductDetailSyncRequest;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.ProductEnrollmentRequest;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.ProductSimulationRequest;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.RecommendationData;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.RecommendationEnvelope;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.RecommendationProgressEnvelope;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.RecommendationRequest;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.RelayEnvelope;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.RelayRequest;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.ScreenHighlightRequest;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.ScreenSyncRequest;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.SessionJoinedEnvelope;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.SessionRequest;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.SessionResumeRequest;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.TabletCustomer;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.TestConnectionRequest;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.TypedDataRequest;
+import com.hanabank.bankadviser.domain.consultation.service.EnrollmentPayloadCache;
+import com.hanabank.bankadviser.domain.consultation.service.FieldEventCoalescer;
+import com.hanabank.bankadviser.domain.consultation.service.SessionMessagePublisher;
 import com.hanabank.bankadviser.domain.consultation.service.SessionService;
 import com.hanabank.bankadviser.domain.product.service.ProductService;
 import com.hanabank.bankadviser.domain.customer.service.CustomerService;
+import com.hanabank.bankadviser.domain.product.service.OpenAIService;
 import com.hanabank.bankadviser.domain.product.service.RecommendationPipelineService;
+import com.hanabank.bankadviser.domain.product.service.RecommendationProgressListener;
+import com.hanabank.bankadviser.domain.product.service.RecommendationRequestDeduplicator;
 import com.hanabank.bankadviser.domain.product.entity.FinancialProduct;
 import com.hanabank.bankadviser.global.config.WebSocketConfig;
+import com.hanabank.bankadviser.global.websocket.HandlerTaskExecutor;
+import com.hanabank.bankadviser.global.websocket.SessionReplayBuffer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
@@ -13,6 +58,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.socket.TextMessage;
@@ -20,10 +66,14 @@ import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 import com.hanabank.bankadviser.global.config.WebSocketConfig;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Controller
@@ -37,16 +87,21 @@ public class WebSocketController extends TextWebSocketHandler {
     private final SessionService sessionService;
     private final ProductService productService;
     private final RecommendationPipelineService recommendationPipelineService;
+    private final RecommendationRequestDeduplicator recommendationRequestDeduplicator;
+    private final FieldEventCoalescer fieldEventCoalescer;
+    private final EnrollmentPayloadCache enrollmentPayloadCache;
+    private final SessionMessagePublisher sessionMessagePublisher;
+    private final HandlerTaskExecutor handlerTaskExecutor;
     
     // 단순 WebSocket 세션 저장소
     private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
 
     // STOMP 메시지 핸들러들
     @MessageMapping("/join-session")
-    public void joinSession(@Payload Map<String, Object> payload, SimpMessageHeaderAccessor headerAccessor) {
-        String sessionId = (String) payload.get("sessionId");
-        String userType = (String) payload.get("userType");
-        String userId = (String) payload.get("userId");
+    public void joinSession(@Payload JoinSessionRequest payload, SimpMessageHeaderAccessor headerAccessor) {
+        String sessionId = payload.getSessionId();
+        String userType = payload.getUserType();
+        String userId = payload.getUserId();
         
         log.info("세션 참여 요청 - sessionId: {}, userType: {}, userId: {}", sessionId, userType, userId);
         
@@ -74,70 +129,95 @@ public class WebSocketController extends TextWebSocketHandler {
         }
         
         // 세션 참여 결과 응답
-        Map<String, Object> response = new HashMap<>();
-        response.put("type", "session-joined");
-        response.put("userType", userType);
-        response.put("userId", userId != null ? userId : "anonymous");
-        response.put("success", joinSuccess);
-        response.put("sessionId", sessionId);
+        SessionJoinedEnvelope response = new SessionJoinedEnvelope(
+            userType, userId != null ? userId : "anonymous", joinSuccess, sessionId);
         
         if (joinSuccess) {
             // 성공한 경우 세션 참가자들에게 알림
             sessionService.notifyParticipants(sessionId, "participant-joined", response);
+            
+            // 참여한 클라이언트에는 현재 화면 상태 스냅샷 전송 (이전 이벤트 재생 불필요)
+            sendToConnection(headerAccessor.getSessionId(), "/queue/snapshot", sessionService.getSessionSnapshot(sessionId));
         } else {
             // 실패한 경우 해당 클라이언트에게만 응답
             messagingTemplate.convertAndSendToUser(
-                headerAccessor.getSessionId(), 
-                "/queue/reply", 
+                headerAccessor.getSessionId(),
+                "/queue/reply",
                 response
             );
         }
     }
     
+    /**
+     * 재연결한 클라이언트에 놓친 세션 메시지 재전송 (요청한 연결의 /user/queue/replay로만 응답)
+     */
+    @MessageMapping("/session-resume")
+    public void sessionResume(@Payload SessionResumeRequest payload, SimpMessageHeaderAccessor headerAccessor) {
+        String sessionId = payload.getSessionId();
+        long lastSeq = payload.getLastSeq() != null ? payload.getLastSeq() : 0L;
+        
+        log.info("세션 재연결 재전송 요청 - sessionId: {}, epoch: {}, lastSeq: {}", sessionId, payload.getEpoch(), lastSeq);
+        
+        SessionReplayBuffer.Replay replay = sessionService.resumeSession(sessionId, payload.getEpoch(), lastSeq);
+        sendToConnection(headerAccessor.getSessionId(), "/queue/replay", replay);
+    }
+    
+    /**
+     * 핸들러 실행기 포화로 요청을 처리하지 못한 경우 세션에 알림
+     */
+    private void sendBusyError(String sessionId, String errorType) {
+        sessionMessagePublisher.send("/topic/session/" + sessionId,
+            new ErrorEnvelope(errorType, "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요."));
+    }
+    
+    /**
+     * 특정 STOMP 연결에만 메시지 전송 (/user/queue/...)
+     */
+    private void sendToConnection(String stompSessionId, String destination, Object message) {
+        SimpMessageHeaderAccessor replyHeaders = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        replyHeaders.setSessionId(stompSessionId);
+        replyHeaders.setLeaveMutable(true);
+        messagingTemplate.convertAndSendToUser(stompSessionId, destination, message, replyHeaders.getMessageHeaders());
+    }
+    
     @MessageMapping("/customer-selected")
-    public void customerSelected(@Payload Map<String, Object> payload) {
-        String sessionId = (String) payload.get("sessionId");
-        Map<String, Object> customerData = (Map<String, Object>) payload.get("customerData");
+    public void customerSelected(@Payload CustomerSelectedRequest payload) {
+        String sessionId = payload.getSessionId();
+        Map<String, Object> customerData = payload.getCustomerData();
         
-        log.info("고객 선택됨 - sessionId: {}, 고객: {}", sessionId, customerData.get("name"));
+        log.info("고객 선택됨 - sessionId: {}, 고객: {}", sessionId, customerData != null ? customerData.get("name") : null);
         
         // STOMP와 단순 WebSocket 모두에 전송 (호환성을 위해 data와 customerData 모두 포함)
-        Map<String, Object> message = new HashMap<>();
-        message.put("type", "customer-selected");
-        message.put("data", customerData);
-        message.put("customerData", customerData);
-        message.put("timestamp", System.currentTimeMillis());
+        sessionMessagePublisher.publish(sessionId, new CustomerSelectedEnvelope(customerData));
         
-        // STOMP 전송
-        messagingTemplate.convertAndSend("/topic/session/" + sessionId, message);
-        
-        // 단순 WebSocket 브리지 전송
-        WebSocketConfig.SimpleWebSocketHandler.broadcastToSimpleWebSocket(sessionId, message);
+        // 추천 요청 전에 고객 프로필 스냅샷을 미리 적재 (파이프라인 실행기에서 비동기 조회)
+        Object customerId = customerData != null ? customerData.get("customerId") : null;
+        if (customerId != null) {
+            recommendationPipelineService.warmCustomerProfile(customerId.toString());
+        }
     }
     
     @MessageMapping("/customer-info-update")
-    public void customerInfoUpdate(@Payload Map<String, Object> payload) {
-        String sessionId = (String) payload.get("sessionId");
+    public void customerInfoUpdate(@Payload PassThroughRequest payload) {
+        String sessionId = payload.getSessionId();
         
         log.info("고객 정보 업데이트 - sessionId: {}", sessionId);
         
         // STOMP와 단순 WebSocket 모두에 전송
-        Map<String, Object> message = Map.of(
-            "type", "customer-info-updated",
-            "data", payload
-        );
-        
-        // STOMP 전송
-        messagingTemplate.convertAndSend("/topic/session/" + sessionId, message);
-        
-        // 단순 WebSocket 브리지 전송
-        WebSocketConfig.SimpleWebSocketHandler.broadcastToSimpleWebSocket(sessionId, message);
+        sessionMessagePublisher.publish(sessionId, new DataEnvelope("customer-info-updated", payload));
     }
     
     @MessageMapping("/product-detail-sync")
-    public void productDetailSync(@Payload Map<String, Object> payload) {
-        String sessionId = (String) payload.get("sessionId");
-        Object productData = payload.get("productData");
+    public void productDetailSync(@Payload ProductDetailSyncRequest payload) {
+        // 서식 조회(JDBC)는 핸들러 실행기에서 세션별 순서대로 처리 (가입 / 서식 이동 메시지와 순서 유지)
+        handlerTaskExecutor.executeInOrder(payload.getSessionId(), "product-detail-sync",
+            () -> processProductDetailSync(payload),
+            () -> sendBusyError(payload.getSessionId(), "product_detail_busy"));
+    }
+    
+    private void processProductDetailSync(ProductDetailSyncRequest payload) {
+        String sessionId = payload.getSessionId();
+        Object productData = payload.getProductData();
         
         log.info("상품 상세보기 동기화 - sessionId: {}", sessionId);
         
@@ -152,43 +232,36 @@ public class WebSocketController extends TextWebSocketHandler {
         } catch (Exception e) {
             log.warn("상품 폼 보강 중 오류: {}", e.getMessage());
         }
-
-        // STOMP와 단순 WebSocket 모두에 전송
-        Map<String, Object> message = new HashMap<>();
-        message.put("type", "product-visualization-sync");
-        message.put("data", normalized);
-        message.put("timestamp", System.currentTimeMillis());
         
-        // STOMP 전송
-        messagingTemplate.convertAndSend("/topic/session/" + sessionId, message);
-        
-        // 단순 WebSocket 브리지 전송
-        WebSocketConfig.SimpleWebSocketHandler.broadcastToSimpleWebSocket(sessionId, message);
+        // STOMP와 단순 WebSocket 모두에 전송
+        sessionMessagePublisher.publish(sessionId, new DataEnvelope("product-visualization-sync", normalized));
     }
     
     @MessageMapping("/screen-sync")
-    public void screenSync(@Payload Map<String, Object> payload) {
-        String sessionId = (String) payload.get("sessionId");
-        Object screenData = payload.get("screenData");
+    public void screenSync(@Payload ScreenSyncRequest payload) {
+        String sessionId = payload.getSessionId();
         
         log.info("화면 동기화 - sessionId: {}", sessionId);
         
         // 고객 화면에 동기화
-        messagingTemplate.convertAndSend("/topic/session/" + sessionId, Map.of(
-            "type", "screen-updated",
-            "data", screenData
-        ));
+        sessionMessagePublisher.send("/topic/session/" + sessionId, new DataEnvelope("screen-updated", payload.getScreenData()));
     }
     
     /**
      * 상품 가입 시 서식 표시 (PC와 태블릿 동기화)
      */
     @MessageMapping("/product-enrollment")
-    public void productEnrollment(@Payload Map<String, Object> payload) {
-        String sessionId = (String) payload.get("sessionId");
-        Object productIdObj = payload.get("productId");
-        String productId = productIdObj != null ? productIdObj.toString() : null;
-        String customerId = (String) payload.get("customerId");
+    public void productEnrollment(@Payload ProductEnrollmentRequest payload) {
+        // 서식 조회(JDBC)는 핸들러 실행기에서 세션별 순서대로 처리 (인바운드 스레드는 즉시 반환)
+        handlerTaskExecutor.executeInOrder(payload.getSessionId(), "product-enrollment",
+            () -> processProductEnrollment(payload),
+            () -> sendBusyError(payload.getSessionId(), "enrollment_busy"));
+    }
+    
+    private void processProductEnrollment(ProductEnrollmentRequest payload) {
+        String sessionId = payload.getSessionId();
+        String productId = payload.getProductId();
+        String customerId = payload.getCustomerId();
         
         log.info("상품 가입 시작 - sessionId: {}, productId: {}, customerId: {}", sessionId, productId, customerId);
         
@@ -213,127 +286,11 @@ public class WebSocketController extends TextWebSocketHandler {
             
             log.info("정규화된 상품 ID: {}", normalizedProductId);
             
-            Optional<FinancialProduct> productOpt = productService.getProductById(normalizedProductId);
-            if (productOpt.isPresent()) {
-                FinancialProduct product = productOpt.get();
-                
-                // 실제 DB에서 EForm 목록 조회
-                List<Map<String, Object>> forms = productService.getProductForms(product.getProductId(), product.getProductType());
-                
-                // 서식이 없으면 로그 출력
-                if (forms == null || forms.isEmpty()) {
-                    log.warn("상품 {}에 대한 서식이 데이터베이스에 없습니다. 서식 개수: {}", normalizedProductId, forms != null ? forms.size() : 0);
-                }
-                
-                Map<String, Object> enrollmentData = new HashMap<>();
-                enrollmentData.put("productId", product.getProductId());
-                enrollmentData.put("productName", product.getProductName());
-                enrollmentData.put("productType", product.getProductType());
-                enrollmentData.put("customerId", customerId);
-                enrollmentData.put("forms", forms);
-                enrollmentData.put("currentFormIndex", 0); // 첫 번째 서식부터 시작
-                enrollmentData.put("totalForms", forms.size());
-                
-                Map<String, Object> message = Map.of(
-                    "type", "product-enrollment",
-                    "data", enrollmentData,
-                    "action", "start_enrollment",
-                    "timestamp", System.currentTimeMillis()
-                );
-                
-                messagingTemplate.convertAndSend("/topic/session/" + sessionId, message);
-                WebSocketConfig.SimpleWebSocketHandler.broadcastToSimpleWebSocket(sessionId, message);
-                log.info("상품 가입 서식 표시 메시지 전송 완료 - 서식 개수: {}", forms.size());
-            } else {
-                log.warn("상품 ID를 찾을 수 없습니다: {}", normalizedProductId);
-                log.info("기본 서식으로 상품 가입 시작 - 상품 ID: {}", normalizedProductId);
-                
-                // 모든 상품에 대해 기본 서식 4개 제공
-                Map<String, Object> defaultData = new HashMap<>();
-                defaultData.put("productId", normalizedProductId);
-                defaultData.put("productName", "상품 가입");
-                defaultData.put("productType", "일반");
-                defaultData.put("customerId", customerId);
-                
-                // 기본 서식 4개 (개인정보 수집·이용 동의서, 은행거래신청서, 개인 전자금융서비스 신청서, 금융거래목적확인서)
-                List<Map<String, Object>> defaultForms = List.of(
-                    Map.of(
-                        "formId", "consent_form",
-                        "formName", "개인정보 수집·이용 동의서",
-                        "formType", "consent",
-                        "fields", List.of(
-                            Map.of("id", "customer_name", "name", "고객명", "type", "text", "required", true),
-                            Map.of("id", "customer_id", "name", "주민등록번호", "type", "text", "required", true),
-                            Map.of("id", "phone", "name", "연락처", "type", "text", "required", true),
-                            Map.of("id", "address", "name", "주소", "type", "text", "required", true),
-                            Map.of("id", "consent_agree", "name", "개인정보 수집·이용 동의", "type", "checkbox", "required", true),
-                            Map.of("id", "consentDate", "name", "동의일자", "type", "date", "required", true),
-                            Map.of("id", "signature", "name", "서명", "type", "signature", "required", true)
-                        )
-                    ),
-                    Map.of(
-                        "formId", "application_form",
-                        "formName", "은행거래신청서",
-                        "formType", "application",
-                        "fields", List.of(
-                            Map.of("id", "account_type", "name", "계좌유형", "type", "select", "required", true),
-                            Map.of("id", "deposit_amount", "name", "예금금액", "type", "number", "required", true),
-                            Map.of("id", "maturity_date", "name", "만기일", "type", "date", "required", true),
-                            Map.of("id", "auto_renewal", "name", "자동재예치", "type", "checkbox", "required", false),
-                            Map.of("id", "applicationDate", "name", "신청일자", "type", "date", "required", true),
-                            Map.of("id", "signature", "name", "서명", "type", "signature", "required", true)
-                        )
-                    ),
-                    Map.of(
-                        "formId", "electronic_finance_form",
-                        "formName", "개인 전자금융서비스 신청서",
-                        "formType", "electronic_finance",
-                        "fields", List.of(
-                            Map.of("id", "applicationType", "name", "신청구분", "type", "radio", "required", true),
-                            Map.of("id", "serviceType", "name", "서비스 유형", "type", "checkbox", "required", true),
-                            Map.of("id", "customerName", "name", "성명", "type", "text", "required", true),
-                            Map.of("id", "customerAddress", "name", "주소", "type", "text", "required", true),
-                            Map.of("id", "customerEmail", "name", "E-Mail주소", "type", "email", "required", false),
-                            Map.of("id", "userId", "name", "이용자 ID", "type", "text", "required", true),
-                            Map.of("id", "dailyTransferLimit", "name", "1일이체한도", "type", "text", "required", true),
-                            Map.of("id", "singleTransferLimit", "name", "1회이체한도", "type", "text", "required", true),
-                            Map.of("id", "applicationDate", "name", "신청일자", "type", "date", "required", true),
-                            Map.of("id", "signature", "name", "서명", "type", "signature", "required", true)
-                        )
-                    ),
-                    Map.of(
-                        "formId", "financial_purpose_form",
-                        "formName", "금융거래목적확인서",
-                        "formType", "financial_purpose",
-                        "fields", List.of(
-                            Map.of("id", "customerName", "name", "고객명", "type", "text", "required", true),
-                            Map.of("id", "customerId", "name", "주민등록번호", "type", "text", "required", true),
-                            Map.of("id", "transactionPurpose", "name", "거래목적", "type", "select", "required", true),
-                            Map.of("id", "expectedAmount", "name", "예상거래금액", "type", "number", "required", true),
-                            Map.of("id", "fundSource", "name", "자금출처", "type", "select", "required", true),
-                            Map.of("id", "riskTolerance", "name", "위험성향", "type", "radio", "required", true),
-                            Map.of("id", "investmentPeriod", "name", "투자기간", "type", "select", "required", true),
-                            Map.of("id", "confirmationDate", "name", "확인일자", "type", "date", "required", true),
-                            Map.of("id", "signature", "name", "서명", "type", "signature", "required", true)
-                        )
-                    )
-                );
-                
-                defaultData.put("forms", defaultForms);
-                defaultData.put("currentFormIndex", 0);
-                defaultData.put("totalForms", defaultForms.size());
-                
-                Map<String, Object> message = Map.of(
-                    "type", "product-enrollment",
-                    "data", defaultData,
-                    "action", "start_enrollment",
-                    "timestamp", System.currentTimeMillis()
-                );
-                
-                messagingTemplate.convertAndSend("/topic/session/" + sessionId, message);
-                WebSocketConfig.SimpleWebSocketHandler.broadcastToSimpleWebSocket(sessionId, message);
-                log.info("기본 서식으로 상품 가입 메시지 전송 완료 - 서식 개수: {}", defaultForms.size());
-            }
+            // 상품 + 서식 페이로드는 상품 ID별로 캐시 (상품을 찾을 수 없으면 기본 서식 4개)
+            EnrollmentData enrollmentData = enrollmentPayloadCache.getEnrollmentData(normalizedProductId, customerId);
+            
+            sessionMessagePublisher.publish(sessionId, new DataEnvelope("product-enrollment", enrollmentData, "start_enrollment"));
+            log.info("상품 가입 서식 표시 메시지 전송 완료 - 서식 개수: {}", enrollmentData.getTotalForms());
         } catch (Exception e) {
             log.error("상품 가입 처리 중 오류 발생", e);
         }
@@ -343,34 +300,25 @@ public class WebSocketController extends TextWebSocketHandler {
      * 화면 하이라이트/밑줄 동기화
      */
     @MessageMapping("/screen-highlight")
-    public void screenHighlight(@Payload Map<String, Object> payload) {
-        String sessionId = (String) payload.get("sessionId");
-        Map<String, Object> data = (Map<String, Object>) payload.get("data");
+    public void screenHighlight(@Payload ScreenHighlightRequest payload) {
+        String sessionId = payload.getSessionId();
+        Map<String, Object> data = payload.getData();
         
-        log.info("화면 하이라이트 동기화 - sessionId: {}, payload: {}", sessionId, payload);
+        log.info("화면 하이라이트 동기화 - sessionId: {}, data: {}", sessionId, data);
         
-        // 새로운 메시지 구조 처리
+        // 새로운 메시지 구조 처리 (data는 클라이언트가 정한 임의 구조이므로 Map 유지)
         Map<String, Object> highlightData = new HashMap<>();
         if (data != null) {
             highlightData.putAll(data);
         } else {
             // 기존 구조 호환성 유지
-            highlightData.put("elementId", payload.get("elementId"));
-            highlightData.put("highlightType", payload.get("highlightType"));
-            highlightData.put("color", payload.get("color"));
+            highlightData.put("elementId", payload.getElementId());
+            highlightData.put("highlightType", payload.getHighlightType());
+            highlightData.put("color", payload.getColor());
         }
         highlightData.put("timestamp", System.currentTimeMillis());
         
-        Map<String, Object> message = Map.of(
-            "type", "screen-highlight",
-            "data", highlightData,
-            "timestamp", System.currentTimeMillis()
-        );
-        
-        log.info("하이라이트 메시지 생성: {}", message);
-        
-        messagingTemplate.convertAndSend("/topic/session/" + sessionId, message);
-        WebSocketConfig.SimpleWebSocketHandler.broadcastToSimpleWebSocket(sessionId, message);
+        sessionMessagePublisher.publish(sessionId, new DataEnvelope("screen-highlight", highlightData));
         log.info("화면 하이라이트 동기화 메시지 전송 완료");
     }
     
@@ -378,29 +326,19 @@ public class WebSocketController extends TextWebSocketHandler {
      * 상품설명서 동기화
      */
     @MessageMapping("/product-description")
-    public void productDescription(@Payload Map<String, Object> payload) {
-        String sessionId = (String) payload.get("sessionId");
-        Map<String, Object> product = (Map<String, Object>) payload.get("product");
-        Integer currentPage = (Integer) payload.get("currentPage");
-        Integer totalPages = (Integer) payload.get("totalPages");
+    public void productDescription(@Payload ProductDescriptionRequest payload) {
+        String sessionId = payload.getSessionId();
+        Map<String, Object> product = payload.getProduct();
+        Integer currentPage = payload.getCurrentPage();
+        Integer totalPages = payload.getTotalPages();
         
-        log.info("상품설명서 동기화 - sessionId: {}, product: {}, page: {}/{}", 
+        log.info("상품설명서 동기화 - sessionId: {}, product: {}, page: {}/{}",
                 sessionId, product != null ? product.get("productName") : "null", currentPage, totalPages);
         
-        Map<String, Object> descriptionData = new HashMap<>();
-        descriptionData.put("product", product);
-        descriptionData.put("currentPage", currentPage);
-        descriptionData.put("totalPages", totalPages);
-        descriptionData.put("timestamp", System.currentTimeMillis());
-        
-        Map<String, Object> message = Map.of(
-            "type", "product-description",
-            "data", descriptionData,
-            "timestamp", System.currentTimeMillis()
-        );
+        ProductDescriptionData descriptionData = new ProductDescriptionData(
+            product, currentPage, totalPages, System.currentTimeMillis());
         
-        messagingTemplate.convertAndSend("/topic/session/" + sessionId, message);
-        WebSocketConfig.SimpleWebSocketHandler.broadcastToSimpleWebSocket(sessionId, message);
+        sessionMessagePublisher.publish(sessionId, new DataEnvelope("product-description", descriptionData));
         log.info("상품설명서 동기화 메시지 전송 완료");
     }
     
@@ -408,11 +346,11 @@ public class WebSocketController extends TextWebSocketHandler {
      * 상품 시뮬레이션 동기화
      */
     @MessageMapping("/product-simulation")
-    public void productSimulation(@Payload Map<String, Object> payload) {
-        String sessionId = (String) payload.get("sessionId");
-        Map<String, Object> data = (Map<String, Object>) payload.get("data");
+    public void productSimulation(@Payload ProductSimulationRequest payload) {
+        String sessionId = payload.getSessionId();
+        Map<String, Object> data = payload.getData();
         
-        log.info("상품 시뮬레이션 동기화 - sessionId: {}, payload: {}", sessionId, payload);
+        log.info("상품 시뮬레이션 동기화 - sessionId: {}, data: {}", sessionId, data);
         
         Map<String, Object> simulationData = new HashMap<>();
         if (data != null) {
@@ -420,16 +358,7 @@ public class WebSocketController extends TextWebSocketHandler {
         }
         simulationData.put("timestamp", System.currentTimeMillis());
         
-        Map<String, Object> message = Map.of(
-            "type", "product-simulation",
-            "data", simulationData,
-            "timestamp", System.currentTimeMillis()
-        );
-        
-        log.info("시뮬레이션 메시지 생성: {}", message);
-        
-        messagingTemplate.convertAndSend("/topic/session/" + sessionId, message);
-        WebSocketConfig.SimpleWebSocketHandler.broadcastToSimpleWebSocket(sessionId, message);
+        sessionMessagePublisher.publish(sessionId, new DataEnvelope("product-simulation", simulationData));
         log.info("상품 시뮬레이션 동기화 메시지 전송 완료");
     }
     
@@ -437,21 +366,13 @@ public class WebSocketController extends TextWebSocketHandler {
      * 상품설명서 닫기
      */
     @MessageMapping("/product-description-close")
-    public void productDescriptionClose(@Payload Map<String, Object> payload) {
-        String sessionId = (String) payload.get("sessionId");
-        
-        log.info("상품설명서 닫기 요청 수신 - sessionId: {}, payload: {}", sessionId, payload);
+    public void productDescriptionClose(@Payload SessionRequest payload) {
+        String sessionId = payload.getSessionId();
         
-        Map<String, Object> message = Map.of(
-            "type", "product-description-close",
-            "data", Map.of("sessionId", sessionId),
-            "timestamp", System.currentTimeMillis()
-        );
+        log.info("상품설명서 닫기 요청 수신 - sessionId: {}", sessionId);
         
-        log.info("상품설명서 닫기 메시지 생성: {}", message);
-        
-        messagingTemplate.convertAndSend("/topic/session/" + sessionId, message);
-        WebSocketConfig.SimpleWebSocketHandler.broadcastToSimpleWebSocket(sessionId, message);
+        sessionMessagePublisher.publish(sessionId,
+            new DataEnvelope("product-description-close", Collections.singletonMap("sessionId", sessionId)));
         log.info("상품설명서 닫기 메시지 전송 완료 - sessionId: {}", sessionId);
     }
     
@@ -459,11 +380,18 @@ public class WebSocketController extends TextWebSocketHandler {
      * 서식 네비게이션 (다음/이전 서식)
      */
     @MessageMapping("/form-navigation")
-    public void formNavigation(@Payload Map<String, Object> payload) {
-        String sessionId = (String) payload.get("sessionId");
-        String direction = (String) payload.get("direction"); // "next", "prev"
-        Integer currentIndex = (Integer) payload.get("currentIndex");
-        String productId = (String) payload.get("productId");
+    public void formNavigation(@Payload FormNavigationRequest payload) {
+        // 상품 가입과 같은 세션 순서로 실행 (가입 서식 표시 전에 서식 이동이 처리되지 않도록)
+        handlerTaskExecutor.executeInOrder(payload.getSessionId(), "form-navigation",
+            () -> processFormNavigation(payload),
+            () -> sendBusyError(payload.getSessionId(), "form_navigation_busy"));
+    }
+    
+    private void processFormNavigation(FormNavigationRequest payload) {
+        String sessionId = payload.getSessionId();
+        String direction = payload.getDirection(); // "next", "prev"
+        Integer currentIndex = payload.getCurrentIndex();
+        String productId = payload.getProductId();
         
         log.info("서식 네비게이션 - sessionId: {}, direction: {}, currentIndex: {}", sessionId, direction, currentIndex);
         
@@ -480,22 +408,16 @@ public class WebSocketController extends TextWebSocketHandler {
                     newIndex = currentIndex - 1;
                 }
                 
-                Map<String, Object> formData = new HashMap<>();
-                formData.put("productId", productId);
-                formData.put("currentFormIndex", newIndex);
-                formData.put("currentForm", forms.get(newIndex));
-                formData.put("totalForms", forms.size());
-                formData.put("canGoNext", newIndex < forms.size() - 1);
-                formData.put("canGoPrev", newIndex > 0);
+                FormNavigationData formData = FormNavigationData.builder()
+                    .productId(productId)
+                    .currentFormIndex(newIndex)
+                    .currentForm(forms.get(newIndex))
+                    .totalForms(forms.size())
+                    .canGoNext(newIndex < forms.size() - 1)
+                    .canGoPrev(newIndex > 0)
+                    .build();
                 
-                Map<String, Object> message = Map.of(
-                    "type", "form-navigation",
-                    "data", formData,
-                    "timestamp", System.currentTimeMillis()
-                );
-                
-                messagingTemplate.convertAndSend("/topic/session/" + sessionId, message);
-                WebSocketConfig.SimpleWebSocketHandler.broadcastToSimpleWebSocket(sessionId, message);
+                sessionMessagePublisher.publish(sessionId, new DataEnvelope("form-navigation", formData));
                 log.info("서식 네비게이션 메시지 전송 완료 - 새 인덱스: {}", newIndex);
             }
         } catch (Exception e) {
@@ -536,15 +458,14 @@ public class WebSocketController extends TextWebSocketHandler {
     }
     
     @MessageMapping("/send-to-session")
-    public void sendToSession(@Payload Map<String, Object> payload) {
+    public void sendToSession(@Payload TypedDataRequest payload) {
         try {
-            String sessionId = (String) payload.get("sessionId");
-            String type = (String) payload.get("type");
-            Object data = payload.get("data");
+            String sessionId = payload.getSessionId();
+            String type = payload.getType();
+            Object data = payload.getData();
             
             log.info("=== 메시지 수신 ===");
             log.info("세션으로 데이터 전송 - sessionId: {}, type: {}", sessionId, type);
-            log.info("전체 페이로드: {}", payload);
             
             if (sessionId == null || sessionId.trim().isEmpty()) {
                 log.error("세션 ID가 없습니다!");
@@ -552,57 +473,50 @@ public class WebSocketController extends TextWebSocketHandler {
             }
             
             // 태블릿으로 데이터 전송 - 메시지 타입별 구체적 처리
-            Map<String, Object> response = new HashMap<>();
-            response.put("type", type);
-            response.put("timestamp", System.currentTimeMillis());
+            DataEnvelope response = new DataEnvelope(type, data);
             
             // 메시지 타입별 데이터 구조화
             if ("customer-info-display".equals(type) && data instanceof Map) {
                 @SuppressWarnings("unchecked")
                 Map<String, Object> dataMap = (Map<String, Object>) data;
-                Map<String, Object> customerInfo = (Map<String, Object>) dataMap.get("customer");
-                if (customerInfo != null) {
+                Object customer = dataMap.get("customer");
+                if (customer instanceof Map) {
+                    @SuppressWarnings("unchecked")
+                    Map<String, Object> customerInfo = (Map<String, Object>) customer;
                     // 고객 정보를 태블릿 친화적 형태로 재구성
-                    Map<String, Object> tabletFriendlyCustomer = new HashMap<>();
-                    tabletFriendlyCustomer.put("customerId", customerInfo.get("CustomerID"));
-                    tabletFriendlyCustomer.put("name", customerInfo.get("Name"));
-                    tabletFriendlyCustomer.put("phone", customerInfo.get("Phone"));
-                    tabletFriendlyCustomer.put("age", customerInfo.get("Age"));
-                    tabletFriendlyCustomer.put("address", customerInfo.get("Address"));
-                    tabletFriendlyCustomer.put("idNumber", customerInfo.get("IdNumber"));
+                    TabletCustomer tabletFriendlyCustomer = TabletCustomer.builder()
+                        .customerId(customerInfo.get("CustomerID"))
+                        .name(customerInfo.get("Name"))
+                        .phone(customerInfo.get("Phone"))
+                        .age(customerInfo.get("Age"))
+                        .address(customerInfo.get("Address"))
+                        .idNumber(customerInfo.get("IdNumber"))
+                        .build();
                     
-                    response.put("data", tabletFriendlyCustomer);
-                    response.put("action", "show_customer_info");
+                    response = new DataEnvelope(type, tabletFriendlyCustomer, "show_customer_info");
                     
                     log.info("고객 정보 태블릿 전송 - 고객: {}", customerInfo.get("Name"));
-                } else {
-                    response.put("data", data);
                 }
-            } else {
-                response.put("data", data);
             }
             
             String destination = "/topic/session/" + sessionId;
             log.info("메시지 전송 대상: {}", destination);
             
-            // STOMP 전송
-            messagingTemplate.convertAndSend(destination, response);
-            
-            // 단순 WebSocket 브리지 전송
-            WebSocketConfig.SimpleWebSocketHandler.broadcastToSimpleWebSocket(sessionId, response);
+            // STOMP + 단순 WebSocket 브리지 전송
+            sessionMessagePublisher.publish(sessionId, response);
             
             log.info("메시지 전송 완료 (STOMP + WebSocket 브리지)");
-            
+        
         } catch (Exception e) {
             log.error("메시지 처리 중 오류 발생: ", e);
         }
     }
     
     @MessageMapping("/send-message")
-    public void sendMessage(@Payload Map<String, Object> payload) {
-        String sessionId = (String) payload.get("sessionId");
-        String type = (String) payload.get("type");
-        Object data = payload.get("data");
+    public void sendMessage(@Payload TypedDataRequest payload) {
+        String sessionId = payload.getSessionId();
+        String type = payload.getType();
+        Object data = payload.getData();
         
         log.info("메시지 전송 - sessionId: {}, type: {}", sessionId, type);
         
@@ -612,85 +526,60 @@ public class WebSocketController extends TextWebSocketHandler {
         }
         
         // 세션 내 다른 참가자들에게 메시지 전송 (원본 타입 유지)
-        Map<String, Object> message = new HashMap<>();
-        message.put("type", type);
-        message.put("data", data);
-        message.put("timestamp", System.currentTimeMillis());
-        
-        messagingTemplate.convertAndSend("/topic/session/" + sessionId, message);
+        sessionMessagePublisher.send("/topic/session/" + sessionId, new DataEnvelope(type, data));
         log.info("메시지 전송 완료 - sessionId: {}, type: {}", sessionId, type);
     }
     
     @MessageMapping("/client-to-tablet")
-    public void clientToTablet(@Payload Map<String, Object> payload) {
-        String sessionId = (String) payload.get("sessionId");
-        String messageType = (String) payload.get("messageType");
-        Object data = payload.get("data");
+    public void clientToTablet(@Payload RelayRequest payload) {
+        String sessionId = payload.getSessionId();
+        String messageType = payload.getMessageType();
         
         log.info("클라이언트에서 태블릿으로 메시지 - sessionId: {}, messageType: {}", sessionId, messageType);
         
         // 태블릿으로 메시지 전송
-        Map<String, Object> response = new HashMap<>();
-        response.put("type", "client-message");
-        response.put("messageType", messageType);
-        response.put("data", data);
-        response.put("timestamp", System.currentTimeMillis());
-        
-        messagingTemplate.convertAndSend("/topic/session/" + sessionId, response);
+        sessionMessagePublisher.send("/topic/session/" + sessionId,
+            new RelayEnvelope("client-message", messageType, payload.getData()));
         log.info("클라이언트 메시지 태블릿 전송 완료");
     }
     
     @MessageMapping("/send-to-employee")
-    public void sendToEmployee(@Payload Map<String, Object> payload) {
+    public void sendToEmployee(@Payload TypedDataRequest payload) {
         try {
-            String sessionId = (String) payload.get("sessionId");
-            String type = (String) payload.get("type");
-            Object data = payload.get("data");
+            String sessionId = payload.getSessionId();
+            String type = payload.getType();
             
             log.info("=== 태블릿에서 직원 PC로 메시지 전송 ===");
             log.info("sessionId: {}, type: {}", sessionId, type);
-            log.info("전체 페이로드: {}", payload);
             
             if (sessionId == null || sessionId.trim().isEmpty()) {
                 log.error("세션 ID가 없습니다!");
                 return;
             }
             
-            // 직원 PC로 메시지 전송
-            Map<String, Object> response = new HashMap<>();
-            response.put("type", type);
-            response.put("data", data);
-            response.put("timestamp", System.currentTimeMillis());
-            
             String destination = "/topic/employee/" + sessionId;
             log.info("직원 PC로 메시지 전송 대상: {}", destination);
             
             // STOMP 전송
-            messagingTemplate.convertAndSend(destination, response);
+            sessionMessagePublisher.send(destination, new DataEnvelope(type, payload.getData()));
             
             log.info("직원 PC로 메시지 전송 완료");
-            
+        
         } catch (Exception e) {
             log.error("직원 PC로 메시지 전송 중 오류 발생: ", e);
         }
     }
     
     @MessageMapping("/tablet-to-client")
-    public void tabletToClient(@Payload Map<String, Object> payload) {
-        String sessionId = (String) payload.get("sessionId");
-        String messageType = (String) payload.get("messageType");
-        Object data = payload.get("data");
+    public void tabletToClient(@Payload RelayRequest payload) {
+        String sessionId = payload.getSessionId();
+        String messageType = payload.getMessageType();
         
         log.info("태블릿에서 클라이언트로 메시지 - sessionId: {}, messageType: {}", sessionId, messageType);
         
         // 클라이언트로 메시지 전송
-        Map<String, Object> response = new HashMap<>();
-        response.put("type", "tablet-message");
-        response.put("messageType", messageType);
-        response.put("data", data);
-        response.put("timestamp", System.currentTimeMillis());
-        
-        messagingTemplate.convertAndSend("/topic/session/" + sessionId, response);
+        sessionMessagePublisher.send("/topic/session/" + sessionId,
+            new RelayEnvelope("tablet-message", messageType, payload.getData()));
         log.info("태블릿 메시지 클라이언트 전송 완료");
     }
     
@@ -698,91 +587,64 @@ public class WebSocketController extends TextWebSocketHandler {
      * PC에서 필드 포커스 처리 (태블릿에 필드 입력 모드 활성화)
      */
     @MessageMapping("/field-focus")
-    public void fieldFocus(@Payload Map<String, Object> payload) {
-        log.info("=== 필드 포커스 메시지 수신 (하이라이트와 동일한 구조) ===");
-        log.info("전체 payload: {}", payload);
+    public void fieldFocus(@Payload FieldFocusRequest payload) {
+        String sessionId = payload.getSessionId();
         
-        String sessionId = (String) payload.get("sessionId");
+        log.info("필드 포커스 메시지 수신 - sessionId: {}, fieldId: {}", sessionId, payload.getFieldId());
         
         // 하이라이트와 동일한 메시지 구조 - data 객체에 필드 정보 포함
-        Map<String, Object> fieldData = new HashMap<>();
-        fieldData.put("fieldId", payload.get("fieldId"));
-        fieldData.put("fieldName", payload.get("fieldName"));
-        fieldData.put("fieldLabel", payload.get("fieldLabel"));
-        fieldData.put("fieldType", payload.get("fieldType"));
-        fieldData.put("fieldPlaceholder", payload.get("fieldPlaceholder"));
-        fieldData.put("formIndex", payload.get("formIndex"));
-        fieldData.put("formName", payload.get("formName"));
-        fieldData.put("timestamp", System.currentTimeMillis());
-        
-        Map<String, Object> message = new HashMap<>();
-        message.put("type", "field-focus");
-        message.put("data", fieldData);
-        message.put("timestamp", System.currentTimeMillis());
-        
-        log.info("전송할 메시지 (하이라이트와 동일한 구조): {}", message);
-        
-        // STOMP 전송
-        messagingTemplate.convertAndSend("/topic/session/" + sessionId, message);
-        
-        // 단순 WebSocket 브리지 전송
-        WebSocketConfig.SimpleWebSocketHandler.broadcastToSimpleWebSocket(sessionId, message);
-        
-        log.info("필드 포커스 메시지 전송 완료");
+        FieldFocusData fieldData = FieldFocusData.builder()
+            .fieldId(payload.getFieldId())
+            .fieldName(payload.getFieldName())
+            .fieldLabel(payload.getFieldLabel())
+            .fieldType(payload.getFieldType())
+            .fieldPlaceholder(payload.getFieldPlaceholder())
+            .formIndex(payload.getFormIndex())
+            .formName(payload.getFormName())
+            .timestamp(System.currentTimeMillis())
+            .build();
+        
+        // STOMP + 단순 WebSocket 브리지 전송 (같은 필드의 연속 포커스는 병합 후 마지막 값만 전송)
+        fieldEventCoalescer.submit(sessionId, "field-focus", payload.getFieldId(), new DataEnvelope("field-focus", fieldData));
+        
+        log.info("필드 포커스 메시지 전송 예약 완료");
     }
-
+    
     /**
      * 태블릿에서 필드 입력 완료 처리 (PC와 태블릿 동기화) - 새로운 형식
      */
     @MessageMapping("/field-input-completed")
-    public void fieldInputCompleted(@Payload Map<String, Object> payload) {
-        String sessionId = (String) payload.get("sessionId");
-        String fieldId = (String) payload.get("fieldId");
-        String fieldValue = (String) payload.get("fieldValue");
-        String fieldLabel = (String) payload.get("fieldLabel");
-        String formId = (String) payload.get("formId");
+    public void fieldInputCompleted(@Payload FieldInputCompletedRequest payload) {
+        String sessionId = payload.getSessionId();
+        String fieldId = payload.getFieldId();
+        String fieldValue = payload.getFieldValue();
         
         log.info("필드 입력 완료 (새로운 형식) - sessionId: {}, fieldId: {}, value: {}", sessionId, fieldId, fieldValue);
         
         // PC와 태블릿 모두에 필드 입력 완료 메시지 전송
-        Map<String, Object> message = new HashMap<>();
-        message.put("type", "field-input-completed");
-        message.put("fieldId", fieldId);
-        message.put("fieldValue", fieldValue);
-        message.put("fieldLabel", fieldLabel);
-        message.put("formId", formId);
-        message.put("timestamp", System.currentTimeMillis());
-        
-        // STOMP 전송
-        messagingTemplate.convertAndSend("/topic/session/" + sessionId, message);
+        FieldInputCompletedEnvelope message = new FieldInputCompletedEnvelope(
+            fieldId, fieldValue, payload.getFieldLabel(), payload.getFormId(), null);
         
-        // 단순 WebSocket 브리지 전송
-        WebSocketConfig.SimpleWebSocketHandler.broadcastToSimpleWebSocket(sessionId, message);
+        // STOMP + 단순 WebSocket 브리지 전송 (같은 필드의 연속 입력은 병합 후 마지막 값만 전송)
+        fieldEventCoalescer.submit(sessionId, "field-input-completed", fieldId, message);
         
-        log.info("필드 입력 완료 메시지 전송 완료 - PC와 태블릿 동기화");
+        log.info("필드 입력 완료 메시지 전송 예약 완료 - PC와 태블릿 동기화");
     }
     
     /**
      * 태블릿에서 필드 입력 완료 처리 (PC와 태블릿 동기화) - 기존 형식
      */
     @MessageMapping("/field-input-complete")
-    public void fieldInputComplete(@Payload Map<String, Object> payload) {
-        String sessionId = (String) payload.get("sessionId");
-        Object dataObj = payload.get("data");
+    public void fieldInputComplete(@Payload LegacyFieldInputRequest payload) {
+        String sessionId = payload.getSessionId();
+        LegacyFieldInput data = payload.getData();
         
-        log.info("필드 입력 완료 (기존 형식) - sessionId: {}, payload: {}", sessionId, payload);
+        log.info("필드 입력 완료 (기존 형식) - sessionId: {}", sessionId);
         
         // 기존 메시지 구조에서 데이터 추출
-        String fieldId = "";
-        String fieldValue = "";
-        String fieldLabel = "";
-        
-        if (dataObj instanceof Map) {
-            Map<String, Object> data = (Map<String, Object>) dataObj;
-            fieldId = (String) data.get("fieldId");
-            fieldValue = (String) data.get("value");
-            fieldLabel = (String) data.get("fieldName");
-        }
+        String fieldId = data != null ? data.getFieldId() : "";
+        String fieldValue = data != null ? data.getValue() : "";
+        String fieldLabel = data != null ? data.getFieldName() : "";
         
         if (fieldId == null || fieldValue == null || fieldId.isEmpty() || fieldValue.isEmpty()) {
             log.warn("기존 형식 필드 입력 완료 데이터 누락: fieldId={}, value={}", fieldId, fieldValue);
@@ -796,124 +658,167 @@ public class WebSocketController extends TextWebSocketHandler {
         log.info("기존 형식 필드 입력 완료 파싱 - fieldId: {}, value: {}, label: {}", fieldId, fieldValue, fieldLabel);
         
         // PC와 태블릿 모두에 필드 입력 완료 메시지 전송 (새로운 형식으로 변환)
-        Map<String, Object> message = new HashMap<>();
-        message.put("type", "field-input-completed");
-        message.put("fieldId", fieldId);
-        message.put("fieldValue", fieldValue);
-        message.put("fieldLabel", fieldLabel);
-        message.put("fieldType", "text");
-        message.put("timestamp", System.currentTimeMillis());
+        FieldInputCompletedEnvelope message = new FieldInputCompletedEnvelope(fieldId, fieldValue, fieldLabel, null, "text");
         
-        // STOMP 전송
-        messagingTemplate.convertAndSend("/topic/session/" + sessionId, message);
+        // 새로운 형식과 같은 메시지로 변환되므로 같은 병합 키 사용
+        fieldEventCoalescer.submit(sessionId, "field-input-completed", fieldId, message);
         
-        // 단순 WebSocket 브리지 전송
-        WebSocketConfig.SimpleWebSocketHandler.broadcastToSimpleWebSocket(sessionId, message);
-        
-        log.info("기존 형식 필드 입력 완료 메시지 전송 완료 - PC와 태블릿 동기화");
+        log.info("기존 형식 필드 입력 완료 메시지 전송 예약 완료 - PC와 태블릿 동기화");
     }
     
     @MessageMapping("/form-data")
-    public void handleFormData(@Payload Map<String, Object> payload) {
-        String sessionId = (String) payload.get("sessionId");
-        String formType = (String) payload.get("formType");
-        Object formData = payload.get("formData");
+    public void handleFormData(@Payload FormDataRequest payload) {
+        String sessionId = payload.getSessionId();
+        String formType = payload.getFormType();
         
         log.info("폼 데이터 처리 - sessionId: {}, formType: {}", sessionId, formType);
         
         // 세션 내 모든 참가자에게 폼 데이터 전송
-        Map<String, Object> response = new HashMap<>();
-        response.put("type", "form-data-updated");
-        response.put("formType", formType);
-        response.put("formData", formData);
-        response.put("timestamp", System.currentTimeMillis());
-        
-        messagingTemplate.convertAndSend("/topic/session/" + sessionId, response);
+        sessionMessagePublisher.send("/topic/session/" + sessionId, new FormDataEnvelope(formType, payload.getFormData()));
         log.info("폼 데이터 전송 완료");
     }
     
     @MessageMapping("/test-connection")
-    public void testConnection(@Payload Map<String, Object> payload) {
-        String sessionId = (String) payload.get("sessionId");
-        String clientType = (String) payload.get("clientType");
+    public void testConnection(@Payload TestConnectionRequest payload) {
+        String sessionId = payload.getSessionId();
+        String clientType = payload.getClientType();
         
         log.info("연결 테스트 - sessionId: {}, clientType: {}", sessionId, clientType);
         
         // 연결 확인 응답
-        Map<String, Object> response = new HashMap<>();
-        response.put("type", "connection-test-response");
-        response.put("clientType", clientType);
-        response.put("sessionId", sessionId);
-        response.put("message", "연결이 정상적으로 작동 중입니다.");
-        response.put("timestamp", System.currentTimeMillis());
-        
-        messagingTemplate.convertAndSend("/topic/session/" + sessionId, response);
+        sessionMessagePublisher.send("/topic/session/" + sessionId,
+            new ConnectionTestEnvelope(clientType, sessionId, "연결이 정상적으로 작동 중입니다."));
         log.info("연결 테스트 응답 전송 완료");
     }
     
     @MessageMapping("/request-recommendation")
-    public void handleRecommendationRequest(@Payload Map<String, Object> payload) {
+    public void handleRecommendationRequest(@Payload RecommendationRequest payload) {
+        // OpenAI 추천 파이프라인은 수 초가 걸리므로 핸들러 실행기에서 처리 (다른 세션의 메시지 처리를 막지 않도록)
+        handlerTaskExecutor.execute("request-recommendation",
+            () -> processRecommendationRequest(payload),
+            () -> sendBusyError(payload.getSessionId(), "recommendation_busy"));
+    }
+    
+    private void processRecommendationRequest(RecommendationRequest payload) {
         try {
-            String sessionId = (String) payload.get("sessionId");
-            String customerId = (String) payload.get("customerId");
-            String intent = (String) payload.get("intent");
-            String transcript = (String) payload.get("transcript");
+            String sessionId = payload.getSessionId();
+            String customerId = payload.getCustomerId();
+            String intent = payload.getIntent();
+            String transcript = payload.getTranscript();
             
-            log.info("🎯 추천 요청 수신 - sessionId: {}, customerId: {}, intent: {}, transcript: {}", 
+            log.info("🎯 추천 요청 수신 - sessionId: {}, customerId: {}, intent: {}, transcript: {}",
                     sessionId, customerId, intent, transcript);
             
-            // 추천 파이프라인 서비스 호출
-            RecommendationPipelineService.RecommendationResult result = 
-                recommendationPipelineService.executeRecommendationPipeline(customerId, transcript);
+            // 추천 파이프라인 서비스 호출 (단계가 끝날 때마다 세션 토픽으로 진행 상황 전송)
+            // 같은 고객 / 음성 텍스트로 실행 중인 요청이 있으면 그 실행의 진행 상황을 이 세션에도 받고 결과를 공유
+            RecommendationRequestDeduplicator.Outcome outcome = recommendationRequestDeduplicator.execute(customerId, transcript,
+                sessionId != null ? new SessionProgressListener(sessionId, customerId) : RecommendationProgressListener.NONE);
+            if (!outcome.isLeader()) {
+                // 최종 결과는 먼저 실행한 요청이 이미 브로드캐스트함
+                log.info("✅ 동일 추천 요청 결과 공유, 최종 결과 브로드캐스트 생략 - sessionId: {}", sessionId);
+                return;
+            }
+            RecommendationPipelineService.RecommendationResult result = outcome.getResult();
             
             // WebSocket으로 추천 결과 전송
-            Map<String, Object> recommendationData = new HashMap<>();
-            recommendationData.put("sessionId", sessionId);
-            recommendationData.put("customerId", customerId);
-            recommendationData.put("intent", result.getIntentAnalysis() != null ? result.getIntentAnalysis().getIntent() : intent);
-            recommendationData.put("confidence", result.getConfidence());
-            recommendationData.put("recommendations", result.getRecommendations());
-            recommendationData.put("timestamp", result.getTimestamp());
+            RecommendationData recommendationData = RecommendationData.builder()
+                .sessionId(sessionId)
+                .customerId(customerId)
+                .intent(result.getIntentAnalysis() != null ? result.getIntentAnalysis().getIntent() : intent)
+                .confidence(result.getConfidence())
+                .recommendations(result.getRecommendations())
+                .timestamp(result.getTimestamp())
+                .build();
             
             // 추천 결과 전송
             sendRecommendationResult(customerId, recommendationData);
             
             log.info("✅ 추천 요청 처리 완료 - sessionId: {}", sessionId);
-            
+        
         } catch (Exception e) {
             log.error("추천 요청 처리 중 오류 발생", e);
             
             // 오류 응답 전송
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("type", "recommendation_error");
-            errorResponse.put("error", "추천 처리 중 오류가 발생했습니다.");
-            errorResponse.put("timestamp", System.currentTimeMillis());
-            
-            messagingTemplate.convertAndSend("/topic/session/" + payload.get("sessionId"), errorResponse);
+            sessionMessagePublisher.send("/topic/session/" + payload.getSessionId(),
+                new ErrorEnvelope("recommendation_error", "추천 처리 중 오류가 발생했습니다."));
+        }
+    }
+    
+    /**
+     * 추천 진행 단계를 /topic/session/{sessionId}로 전송하는 리스너
+     * 행원 화면은 의도 -> 상품 목록 -> 상품별 추천 이유 순서로 먼저 표시하고, 최종 ai-recommendations로 확정
+     * 같은 세션 / 고객의 리스너는 같은 것으로 취급 (중복 요청이 같은 실행에 붙어도 세션에는 한 번만 전송)
+     */
+    private class SessionProgressListener implements RecommendationProgressListener {
+        private final String sessionId;
+        private final String customerId;
+        private final String destination;
+        private final String requestId = UUID.randomUUID().toString();
+
+        private SessionProgressListener(String sessionId, String customerId) {
+            this.sessionId = sessionId;
+            this.customerId = customerId;
+            this.destination = "/topic/session/" + sessionId;
+        }
+
+        @Override
+        public void onIntentAnalyzed(OpenAIService.IntentAnalysis intentAnalysis) {
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("intent", intentAnalysis.getIntent());
+            data.put("confidence", intentAnalysis.getConfidence());
+            data.put("keywords", intentAnalysis.getKeywords());
+            sessionMessagePublisher.send(destination,
+                new RecommendationProgressEnvelope("recommendation-intent", requestId, customerId, data));
+        }
+
+        @Override
+        public void onProductsScored(List<RecommendationPipelineService.ProductRecommendation> recommendations) {
+            sessionMessagePublisher.send(destination,
+                new RecommendationProgressEnvelope("recommendation-products", requestId, customerId,
+                    Map.of("recommendations", recommendations)));
+        }
+
+        @Override
+        public void onReasonGenerated(int rank, RecommendationPipelineService.ProductRecommendation recommendation) {
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("rank", rank);
+            data.put("productId", recommendation.getProductId());
+            data.put("reason", recommendation.getReason());
+            sessionMessagePublisher.send(destination,
+                new RecommendationProgressEnvelope("recommendation-reason", requestId, customerId, data));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof SessionProgressListener)) {
+                return false;
+            }
+            SessionProgressListener that = (SessionProgressListener) other;
+            return sessionId.equals(that.sessionId) && Objects.equals(customerId, that.customerId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sessionId, customerId);
         }
     }
     
     @MessageMapping("/web-to-tablet")
-    public void webToTablet(@Payload Map<String, Object> payload) {
-        String sessionId = (String) payload.get("sessionId");
-        String messageType = (String) payload.get("messageType");
-        Object data = payload.get("data");
+    public void webToTablet(@Payload RelayRequest payload) {
+        String sessionId = payload.getSessionId();
+        String messageType = payload.getMessageType();
         
         log.info("웹에서 태블릿으로 메시지 - sessionId: {}, messageType: {}", sessionId, messageType);
         
         try {
             // STOMP로 브로드캐스트 (태블릿도 받을 수 있도록)
-            Map<String, Object> response = new HashMap<>();
-            response.put("type", "web-message");
-            response.put("messageType", messageType);
-            response.put("sessionId", sessionId);
-            response.put("data", data);
-            response.put("source", "web");
-            response.put("timestamp", System.currentTimeMillis());
-            
-            messagingTemplate.convertAndSend("/topic/session/" + sessionId, response);
+            sessionMessagePublisher.send("/topic/session/" + sessionId,
+                new RelayEnvelope("web-message", messageType, payload.getData(), sessionId, "web"));
             log.info("웹 메시지 브로드캐스트 완료");
-            
+        
         } catch (Exception e) {
             log.error("웹-태블릿 메시지 전송 오류: ", e);
         }
@@ -963,7 +868,7 @@ public class WebSocketController extends TextWebSocketHandler {
     /**
      * 추천 결과를 WebSocket으로 전송
      */
-    public void sendRecommendationResult(String customerId, Map<String, Object> recommendationData) {
+    public void sendRecommendationResult(String customerId, RecommendationData recommendationData) {
         try {
             log.info("📡 추천 결과 WebSocket 전송 - 고객ID: {}", customerId);
             
@@ -977,27 +882,21 @@ public class WebSocketController extends TextWebSocketHandler {
                 log.warn("고객 이름 조회 실패, 기본값 사용: {}", e.getMessage());
             }
             
-            // 추천 데이터를 새로운 HashMap으로 복사하고 고객 이름 추가
-            Map<String, Object> enhancedRecommendationData = new HashMap<>(recommendationData);
-            enhancedRecommendationData.put("customerName", customerName);
-            
-            Map<String, Object> message = new HashMap<>();
-            message.put("type", "ai-recommendations");
-            message.put("customerId", customerId);
-            message.put("data", enhancedRecommendationData);
-            message.put("timestamp", System.currentTimeMillis());
+            // 추천 데이터에 고객 이름 추가
+            RecommendationEnvelope message = new RecommendationEnvelope(customerId,
+                recommendationData.toBuilder().customerName(customerName).build());
             
             // 고객 세션으로 전송
-            messagingTemplate.convertAndSend("/topic/customer/" + customerId, message);
+            sessionMessagePublisher.send("/topic/customer/" + customerId, message);
             
             // 전체 세션으로도 전송 (행원 화면용)
-            messagingTemplate.convertAndSend("/topic/recommendations", message);
+            sessionMessagePublisher.send("/topic/recommendations", message);
             
             // 태블릿 세션으로도 전송
-            messagingTemplate.convertAndSend("/topic/session/tablet_main", message);
+            sessionMessagePublisher.send("/topic/session/tablet_main", message);
             
             log.info("✅ 추천 결과 전송 완료 - 고객ID: {}", customerId);
-            
+        
         } catch (Exception e) {
             log.error("추천 결과 WebSocket 전송 중 오류 발생", e);
         }
@@ -0,0 +1,542 @@
+package com.hanabank.bankadviser.domain.consultation.dto;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.hanabank.bankadviser.global.websocket.CoalescibleMessage;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상담 세션 WebSocket 메시지 타입
+ * 수신 페이로드(~Request)와 송신 메시지(~Envelope, ~Data)를 타입으로 정의하여
+ * Map 기반 수동 형변환과 메시지마다 생성되던 HashMap을 제거
+ *
+ * JSON 필드 구성은 기존 Map 메시지와 동일하게 유지 (클라이언트 호환)
+ */
+public final class SessionMessages {
+
+    /**
+     * 기동 시 직렬화기를 미리 생성할 송신 메시지 타입 (SessionMessagePublisher)
+     */
+    public static final List<Class<?>> OUTBOUND_TYPES = Collections.unmodifiableList(Arrays.asList(
+        Envelope.class,
+        DataEnvelope.class,
+        CustomerSelectedEnvelope.class,
+        RelayEnvelope.class,
+        FieldInputCompletedEnvelope.class,
+        FormDataEnvelope.class,
+        ConnectionTestEnvelope.class,
+        ErrorEnvelope.class,
+        SessionJoinedEnvelope.class,
+        RecommendationEnvelope.class
+    ));
+
+    private SessionMessages() {
+    }
+
+    // ===== 수신 페이로드 =====
+
+    /**
+     * 모든 수신 메시지의 공통 필드
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class SessionRequest {
+        private String sessionId;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class JoinSessionRequest extends SessionRequest {
+        private String userType;
+        private String userId;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class CustomerSelectedRequest extends SessionRequest {
+        private Map<String, Object> customerData;
+    }
+
+    /**
+     * 구조가 정해지지 않은 페이로드를 그대로 전달하는 메시지 (customer-info-update)
+     */
+    @NoArgsConstructor
+    public static class PassThroughRequest extends SessionRequest {
+        private final Map<String, Object> properties = new LinkedHashMap<>();
+
+        @JsonAnySetter
+        public void setProperty(String name, Object value) {
+            properties.put(name, value);
+        }
+
+        @JsonAnyGetter
+        public Map<String, Object> getProperties() {
+            return properties;
+        }
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class ProductDetailSyncRequest extends SessionRequest {
+        private Object productData;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class ScreenSyncRequest extends SessionRequest {
+        private Object screenData;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class ProductEnrollmentRequest extends SessionRequest {
+        private String productId;
+        private String customerId;
+    }
+
+    /**
+     * 화면 하이라이트 (data 구조 우선, 기존 평면 구조 호환)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class ScreenHighlightRequest extends SessionRequest {
+        private Map<String, Object> data;
+        private Object elementId;
+        private Object highlightType;
+        private Object color;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class ProductDescriptionRequest extends SessionRequest {
+        private Map<String, Object> product;
+        private Integer currentPage;
+        private Integer totalPages;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class ProductSimulationRequest extends SessionRequest {
+        private Map<String, Object> data;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class FormNavigationRequest extends SessionRequest {
+        private String direction; // "next", "prev"
+        private Integer currentIndex;
+        private String productId;
+    }
+
+    /**
+     * 타입을 지정해 세션/직원 PC로 전달하는 메시지 (send-to-session, send-message, send-to-employee)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class TypedDataRequest extends SessionRequest {
+        private String type;
+        private Object data;
+    }
+
+    /**
+     * 클라이언트/태블릿/웹 간 중계 메시지 (client-to-tablet, tablet-to-client, web-to-tablet)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class RelayRequest extends SessionRequest {
+        private String messageType;
+        private Object data;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class FieldFocusRequest extends SessionRequest {
+        private String fieldId;
+        private String fieldName;
+        private String fieldLabel;
+        private String fieldType;
+        private String fieldPlaceholder;
+        private Integer formIndex;
+        private String formName;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class FieldInputCompletedRequest extends SessionRequest {
+        private String fieldId;
+        private String fieldValue;
+        private String fieldLabel;
+        private String formId;
+    }
+
+    /**
+     * 필드 입력 완료 - 기존 형식 (data 안에 fieldId, value, fieldName)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class LegacyFieldInputRequest extends SessionRequest {
+        private LegacyFieldInput data;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class LegacyFieldInput {
+        private String fieldId;
+        private String value;
+        private String fieldName;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class FormDataRequest extends SessionRequest {
+        private String formType;
+        private Object formData;
+    }
+
+    /**
+     * 재연결 후 놓친 메시지 재전송 요청 (마지막으로 받은 메시지의 epoch, seq)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class SessionResumeRequest extends SessionRequest {
+        private String epoch;
+        private Long lastSeq;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class TestConnectionRequest extends SessionRequest {
+        private String clientType;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class RecommendationRequest extends SessionRequest {
+        private String customerId;
+        private String intent;
+        private String transcript;
+    }
+
+    // ===== 송신 메시지 =====
+
+    /**
+     * 모든 송신 메시지의 공통 필드
+     */
+    @Getter
+    public static class Envelope implements CoalescibleMessage {
+        private final String type;
+        private final long timestamp;
+
+        public Envelope(String type) {
+            this.type = type;
+            this.timestamp = System.currentTimeMillis();
+        }
+
+        @Override
+        public String coalesceKey() {
+            return null;
+        }
+    }
+
+    /**
+     * { type, data, timestamp } 구조의 일반 메시지 (action은 있을 때만 포함)
+     */
+    @Getter
+    public static class DataEnvelope extends Envelope {
+        private final Object data;
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private final String action;
+
+        public DataEnvelope(String type, Object data) {
+            this(type, data, null);
+        }
+
+        public DataEnvelope(String type, Object data, String action) {
+            super(type);
+            this.data = data;
+            this.action = action;
+        }
+
+        @Override
+        public String coalesceKey() {
+            if (data instanceof FieldFocusData && ((FieldFocusData) data).getFieldId() != null) {
+                return getType() + ":" + ((FieldFocusData) data).getFieldId();
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 고객 선택 (호환성을 위해 data와 customerData 모두 포함)
+     */
+    @Getter
+    public static class CustomerSelectedEnvelope extends DataEnvelope {
+        private final Object customerData;
+
+        public CustomerSelectedEnvelope(Object customerData) {
+            super("customer-selected", customerData);
+            this.customerData = customerData;
+        }
+    }
+
+    /**
+     * 클라이언트/태블릿/웹 간 중계 메시지 (sessionId, source는 웹 메시지에만 포함)
+     */
+    @Getter
+    public static class RelayEnvelope extends Envelope {
+        private final String messageType;
+        private final Object data;
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private final String sessionId;
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private final String source;
+
+        public RelayEnvelope(String type, String messageType, Object data) {
+            this(type, messageType, data, null, null);
+        }
+
+        public RelayEnvelope(String type, String messageType, Object data, String sessionId, String source) {
+            super(type);
+            this.messageType = messageType;
+            this.data = data;
+            this.sessionId = sessionId;
+            this.source = source;
+        }
+    }
+
+    /**
+     * 필드 입력 완료 (새로운 형식은 formId, 기존 형식 변환 시 fieldType 포함)
+     */
+    @Getter
+    public static class FieldInputCompletedEnvelope extends Envelope {
+        private final String fieldId;
+        private final String fieldValue;
+        private final String fieldLabel;
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private final String formId;
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private final String fieldType;
+
+        public FieldInputCompletedEnvelope(String fieldId, String fieldValue, String fieldLabel, String formId, String fieldType) {
+            super("field-input-completed");
+            this.fieldId = fieldId;
+            this.fieldValue = fieldValue;
+            this.fieldLabel = fieldLabel;
+            this.formId = formId;
+            this.fieldType = fieldType;
+        }
+
+        @Override
+        public String coalesceKey() {
+            return fieldId != null ? getType() + ":" + fieldId : null;
+        }
+    }
+
+    @Getter
+    public static class FormDataEnvelope extends Envelope {
+        private final String formType;
+        private final Object formData;
+
+        public FormDataEnvelope(String formType, Object formData) {
+            super("form-data-updated");
+            this.formType = formType;
+            this.formData = formData;
+        }
+    }
+
+    @Getter
+    public static class ConnectionTestEnvelope extends Envelope {
+        private final String clientType;
+        private final String sessionId;
+        private final String message;
+
+        public ConnectionTestEnvelope(String clientType, String sessionId, String message) {
+            super("connection-test-response");
+            this.clientType = clientType;
+            this.sessionId = sessionId;
+            this.message = message;
+        }
+    }
+
+    @Getter
+    public static class ErrorEnvelope extends Envelope {
+        private final String error;
+
+        public ErrorEnvelope(String type, String error) {
+            super(type);
+            this.error = error;
+        }
+    }
+
+    @Getter
+    public static class SessionJoinedEnvelope extends Envelope {
+        private final String userType;
+        private final String userId;
+        private final boolean success;
+        private final String sessionId;
+
+        public SessionJoinedEnvelope(String userType, String userId, boolean success, String sessionId) {
+            super("session-joined");
+            this.userType = userType;
+            this.userId = userId;
+            this.success = success;
+            this.sessionId = sessionId;
+        }
+    }
+
+    @Getter
+    public static class RecommendationEnvelope extends Envelope {
+        private final String customerId;
+        private final RecommendationData data;
+
+        public RecommendationEnvelope(String customerId, RecommendationData data) {
+            super("ai-recommendations");
+            this.customerId = customerId;
+            this.data = data;
+        }
+    }
+
+    /**
+     * 추천 진행 단계 알림 (recommendation-intent -> recommendation-products -> recommendation-reason)
+     * 같은 요청의 알림은 requestId로 묶이며, 모든 단계가 끝나면 기존과 같이 ai-recommendations 전송
+     */
+    @Getter
+    public static class RecommendationProgressEnvelope extends Envelope {
+        private final String requestId;
+        private final String customerId;
+        private final Object data;
+
+        public RecommendationProgressEnvelope(String type, String requestId, String customerId, Object data) {
+            super(type);
+            this.requestId = requestId;
+            this.customerId = customerId;
+            this.data = data;
+        }
+    }
+
+    // ===== 송신 메시지 data =====
+
+    /**
+     * 상품 가입 서식 정보
+     */
+    @Getter
+    @Builder(toBuilder = true)
+    @AllArgsConstructor
+    public static class EnrollmentData {
+        private final String productId;
+        private final String productName;
+        private final String productType;
+        private final String customerId;
+        private final List<?> forms;
+        private final int currentFormIndex;
+        private final int totalForms;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ProductDescriptionData {
+        private final Map<String, Object> product;
+        private final Integer currentPage;
+        private final Integer totalPages;
+        private final long timestamp;
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class FormNavigationData {
+        private final String productId;
+        private final int currentFormIndex;
+        private final Object currentForm;
+        private final int totalForms;
+        private final boolean canGoNext;
+        private final boolean canGoPrev;
+    }
+
+    /**
+     * 필드 포커스 (하이라이트와 동일한 data 구조)
+     */
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class FieldFocusData {
+        private final String fieldId;
+        private final String fieldName;
+        private final String fieldLabel;
+        private final String fieldType;
+        private final String fieldPlaceholder;
+        private final Integer formIndex;
+        private final String formName;
+        private final long timestamp;
+    }
+
+    /**
+     * 태블릿 표시용 고객 정보
+     */
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class TabletCustomer {
+        private final Object customerId;
+        private final Object name;
+        private final Object phone;
+        private final Object age;
+        private final Object address;
+        private final Object idNumber;
+    }
+
+    /**
+     * AI 추천 결과
+     */
+    @Getter
+    @Builder(toBuilder = true)
+    @AllArgsConstructor
+    public static class RecommendationData {
+        private final String sessionId;
+        private final String customerId;
+        private final String intent;
+        private final double confidence;
+        private final List<?> recommendations;
+        private final Object timestamp;
+        private final String customerName;
+    }
+}
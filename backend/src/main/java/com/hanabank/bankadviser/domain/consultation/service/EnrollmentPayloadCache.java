@@ -0,0 +1,248 @@
+package com.hanabank.bankadviser.domain.consultation.service;
+
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.EnrollmentData;
+import com.hanabank.bankadviser.domain.product.entity.FinancialProduct;
+import com.hanabank.bankadviser.domain.product.event.ProductChangedEvent;
+import com.hanabank.bankadviser.domain.product.service.ProductService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품 가입 서식 페이로드 캐시
+ * 상품 조회(JDBC) + 서식 조회(공통/상품별) 결과를 상품 ID별로 조립해 두어
+ * 가입 시작(/app/product-enrollment) 시 캐시 한 번 조회로 메시지를 구성
+ *
+ * - 상품/서식 변경 시 ProductChangedEvent로 무효화
+ * - 서식은 DB에서 직접 수정될 수 있으므로 TTL 경과 시 다시 조회
+ * - 캐시된 페이로드는 고객과 무관한 템플릿이며, 고객 ID는 전송 시점에 채움
+ * - 같은 상품의 동시 미스는 먼저 등록한 요청 하나만 조회하고 나머지는 그 결과를 기다림 (조회는 맵 잠금 밖에서 실행)
+ * - 카탈로그에 없는 상품 ID는 캐시하지 않고 공유 기본 페이로드로 응답 (임의 ID로 캐시가 커지지 않도록)
+ */
+@Service
+@Slf4j
+public class EnrollmentPayloadCache {
+
+    // 기본 서식 4개 (개인정보 수집·이용 동의서, 은행거래신청서, 개인 전자금융서비스 신청서, 금융거래목적확인서)
+    // 상품을 찾을 수 없을 때 사용 - 기동 시 한 번만 생성
+    private static final List<Map<String, Object>> DEFAULT_FORMS = List.of(
+        Map.of(
+            "formId", "consent_form",
+            "formName", "개인정보 수집·이용 동의서",
+            "formType", "consent",
+            "fields", List.of(
+                Map.of("id", "customer_name", "name", "고객명", "type", "text", "required", true),
+                Map.of("id", "customer_id", "name", "주민등록번호", "type", "text", "required", true),
+                Map.of("id", "phone", "name", "연락처", "type", "text", "required", true),
+                Map.of("id", "address", "name", "주소", "type", "text", "required", true),
+                Map.of("id", "consent_agree", "name", "개인정보 수집·이용 동의", "type", "checkbox", "required", true),
+                Map.of("id", "consentDate", "name", "동의일자", "type", "date", "required", true),
+                Map.of("id", "signature", "name", "서명", "type", "signature", "required", true)
+            )
+        ),
+        Map.of(
+            "formId", "application_form",
+            "formName", "은행거래신청서",
+            "formType", "application",
+            "fields", List.of(
+                Map.of("id", "account_type", "name", "계좌유형", "type", "select", "required", true),
+                Map.of("id", "deposit_amount", "name", "예금금액", "type", "number", "required", true),
+                Map.of("id", "maturity_date", "name", "만기일", "type", "date", "required", true),
+                Map.of("id", "auto_renewal", "name", "자동재예치", "type", "checkbox", "required", false),
+                Map.of("id", "applicationDate", "name", "신청일자", "type", "date", "required", true),
+                Map.of("id", "signature", "name", "서명", "type", "signature", "required", true)
+            )
+        ),
+        Map.of(
+            "formId", "electronic_finance_form",
+            "formName", "개인 전자금융서비스 신청서",
+            "formType", "electronic_finance",
+            "fields", List.of(
+                Map.of("id", "applicationType", "name", "신청구분", "type", "radio", "required", true),
+                Map.of("id", "serviceType", "name", "서비스 유형", "type", "checkbox", "required", true),
+                Map.of("id", "customerName", "name", "성명", "type", "text", "required", true),
+                Map.of("id", "customerAddress", "name", "주소", "type", "text", "required", true),
+                Map.of("id", "customerEmail", "name", "E-Mail주소", "type", "email", "required", false),
+                Map.of("id", "userId", "name", "이용자 ID", "type", "text", "required", true),
+                Map.of("id", "dailyTransferLimit", "name", "1일이체한도", "type", "text", "required", true),
+                Map.of("id", "singleTransferLimit", "name", "1회이체한도", "type", "text", "required", true),
+                Map.of("id", "applicationDate", "name", "신청일자", "type", "date", "required", true),
+                Map.of("id", "signature", "name", "서명", "type", "signature", "required", true)
+            )
+        ),
+        Map.of(
+            "formId", "financial_purpose_form",
+            "formName", "금융거래목적확인서",
+            "formType", "financial_purpose",
+            "fields", List.of(
+                Map.of("id", "customerName", "name", "고객명", "type", "text", "required", true),
+                Map.of("id", "customerId", "name", "주민등록번호", "type", "text", "required", true),
+                Map.of("id", "transactionPurpose", "name", "거래목적", "type", "select", "required", true),
+                Map.of("id", "expectedAmount", "name", "예상거래금액", "type", "number", "required", true),
+                Map.of("id", "fundSource", "name", "자금출처", "type", "select", "required", true),
+                Map.of("id", "riskTolerance", "name", "위험성향", "type", "radio", "required", true),
+                Map.of("id", "investmentPeriod", "name", "투자기간", "type", "select", "required", true),
+                Map.of("id", "confirmationDate", "name", "확인일자", "type", "date", "required", true),
+                Map.of("id", "signature", "name", "서명", "type", "signature", "required", true)
+            )
+        )
+    );
+
+    // 상품을 찾을 수 없을 때 사용하는 기본 페이로드 (상품 ID / 고객 ID는 전송 시점에 채움)
+    private static final EnrollmentData DEFAULT_TEMPLATE = EnrollmentData.builder()
+        .productName("상품 가입")
+        .productType("일반")
+        .forms(DEFAULT_FORMS)
+        .currentFormIndex(0)
+        .totalForms(DEFAULT_FORMS.size())
+        .build();
+
+    private final ProductService productService;
+    private final long ttlMillis;
+
+    private final Map<String, CachedPayload> payloads = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter unknownCounter;
+
+    public EnrollmentPayloadCache(ProductService productService,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${product.enrollment-cache.ttl-ms:600000}") long ttlMillis) {
+        this.productService = productService;
+        this.ttlMillis = ttlMillis;
+
+        this.hitCounter = requestCounter(meterRegistry, "hit");
+        this.missCounter = requestCounter(meterRegistry, "miss");
+        this.unknownCounter = requestCounter(meterRegistry, "unknown");
+        Gauge.builder("product.enrollment.cache.size", payloads, Map::size)
+            .description("캐시된 상품 가입 페이로드 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 상품 가입 페이로드 조회 (캐시 미스 시 상품과 서식을 조회하여 조립)
+     *
+     * @param productId 정규화된 상품 ID
+     * @param customerId 가입 고객 ID
+     */
+    public EnrollmentData getEnrollmentData(String productId, String customerId) {
+        CachedPayload cached = payloads.get(productId);
+        if (cached != null && !cached.isExpired(ttlMillis)) {
+            hitCounter.increment();
+            return cached.template().toBuilder().customerId(customerId).build();
+        }
+
+        // 상품 조회는 메모리 카탈로그에서 처리되므로 캐시 등록 전에 확인
+        Optional<FinancialProduct> productOpt = productService.getProductById(productId);
+        if (productOpt.isEmpty()) {
+            unknownCounter.increment();
+            log.warn("상품 ID를 찾을 수 없습니다. 기본 서식으로 응답: {}", productId);
+            return DEFAULT_TEMPLATE.toBuilder().productId(productId).customerId(customerId).build();
+        }
+
+        missCounter.increment();
+        return loadOnce(productId, productOpt.get()).template().toBuilder().customerId(customerId).build();
+    }
+
+    /**
+     * 같은 상품의 동시 미스는 먼저 등록한 요청만 조회 (나머지는 등록된 결과를 기다림)
+     */
+    private CachedPayload loadOnce(String productId, FinancialProduct product) {
+        while (true) {
+            CachedPayload existing = payloads.get(productId);
+            if (existing != null && !existing.isExpired(ttlMillis)) {
+                return existing;
+            }
+            CachedPayload created = new CachedPayload();
+            boolean registered = existing == null
+                ? payloads.putIfAbsent(productId, created) == null
+                : payloads.replace(productId, existing, created);
+            if (!registered) {
+                continue;
+            }
+            try {
+                created.future.complete(load(product));
+            } catch (Throwable e) {
+                // 실패한 조회는 캐시에 남기지 않고 기다리던 요청에도 같은 예외 전달
+                payloads.remove(productId, created);
+                created.future.completeExceptionally(e);
+                throw e;
+            }
+            return created;
+        }
+    }
+
+    /**
+     * 상품 변경 시 해당 상품(또는 전체) 페이로드 무효화
+     */
+    @EventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.isAllProducts()) {
+            payloads.clear();
+            log.info("🗑️ 상품 가입 페이로드 캐시 전체 무효화");
+        } else {
+            payloads.remove(event.getProductId());
+            log.info("🗑️ 상품 가입 페이로드 캐시 무효화 - productId: {}", event.getProductId());
+        }
+    }
+
+    private EnrollmentData load(FinancialProduct product) {
+        // 실제 DB에서 EForm 목록 조회
+        List<Map<String, Object>> forms = productService.getProductForms(product.getProductId(), product.getProductType());
+
+        // 서식이 없으면 로그 출력
+        if (forms == null || forms.isEmpty()) {
+            log.warn("상품 {}에 대한 서식이 데이터베이스에 없습니다. 서식 개수: {}", product.getProductId(), forms != null ? forms.size() : 0);
+        }
+        List<Map<String, Object>> cachedForms = forms != null ? Collections.unmodifiableList(forms) : Collections.emptyList();
+
+        log.info("상품 가입 페이로드 캐시 적재 - productId: {}, 서식 개수: {}", product.getProductId(), cachedForms.size());
+        return EnrollmentData.builder()
+            .productId(product.getProductId())
+            .productName(product.getProductName())
+            .productType(product.getProductType())
+            .forms(cachedForms)
+            .currentFormIndex(0) // 첫 번째 서식부터 시작
+            .totalForms(cachedForms.size())
+            .build();
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("product.enrollment.cache.requests")
+            .description("상품 가입 페이로드 캐시 조회 결과")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    private static class CachedPayload {
+        private final CompletableFuture<EnrollmentData> future = new CompletableFuture<>();
+        private final long loadedAt = System.currentTimeMillis();
+
+        // 조회 중이면 완료될 때까지 대기
+        private EnrollmentData template() {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                throw cause instanceof RuntimeException ? (RuntimeException) cause : e;
+            }
+        }
+
+        private boolean isExpired(long ttlMillis) {
+            return ttlMillis > 0 && System.currentTimeMillis() - loadedAt > ttlMillis;
+        }
+    }
+}
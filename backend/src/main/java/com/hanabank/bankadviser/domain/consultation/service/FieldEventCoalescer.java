@@ -0,0 +1,140 @@
+package com.hanabank.bankadviser.domain.consultation.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 필드 포커스/입력 이벤트 병합
+ * 태블릿이 키 입력·blur마다 보내는 field-focus, field-input-completed 이벤트를
+ * 세션별로 짧은 구간 동안 모아 키마다 마지막 값만 발행
+ *
+ * - field-input-completed는 세션 + fieldId 단위, field-focus는 세션 단위로 병합 (포커스는 세션에 하나)
+ * - 대기 중인 이벤트는 처음 들어온 순서대로 발행
+ * - 같은 세션에 병합하지 않는 메시지(form-navigation 등)가 발행되면 대기 중인 이벤트를 먼저 발행
+ *   (SessionMessagePublisher가 발행 직전에 flushSession 호출)
+ */
+@Service
+@Slf4j
+public class FieldEventCoalescer {
+
+    private static final String FIELD_FOCUS = "field-focus";
+
+    private final SessionMessagePublisher sessionMessagePublisher;
+    private final long windowMillis;
+    private final ScheduledExecutorService flushScheduler;
+
+    // sessionId -> 발행 대기 중인 이벤트 (병합 키별 마지막 메시지)
+    private final Map<String, PendingEvents> pendingEvents = new ConcurrentHashMap<>();
+
+    private final Counter receivedCounter;
+    private final Counter publishedCounter;
+
+    public FieldEventCoalescer(SessionMessagePublisher sessionMessagePublisher,
+                               MeterRegistry meterRegistry,
+                               @Value("${websocket.field-coalesce.window-ms:80}") long windowMillis) {
+        this.sessionMessagePublisher = sessionMessagePublisher;
+        this.windowMillis = windowMillis;
+        this.flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "field-event-coalescer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.receivedCounter = Counter.builder("websocket.field.events")
+            .description("병합 전 수신한 필드 이벤트 수")
+            .tag("stage", "received")
+            .register(meterRegistry);
+        this.publishedCounter = Counter.builder("websocket.field.events")
+            .description("병합 후 발행한 필드 이벤트 수")
+            .tag("stage", "published")
+            .register(meterRegistry);
+        sessionMessagePublisher.setPendingEventFlusher(this::flushSession);
+    }
+
+    /**
+     * 필드 이벤트 제출 - 같은 키의 이벤트가 대기 중이면 새 메시지로 교체 (마지막 값 우선)
+     */
+    public void submit(String sessionId, String eventType, Object fieldId, Object message) {
+        receivedCounter.increment();
+
+        if (windowMillis <= 0 || sessionId == null || fieldId == null) {
+            sessionMessagePublisher.publish(sessionId, message);
+            publishedCounter.increment();
+            return;
+        }
+
+        String key = FIELD_FOCUS.equals(eventType) ? eventType : eventType + "|" + fieldId;
+        while (true) {
+            PendingEvents pending = pendingEvents.computeIfAbsent(sessionId, id -> new PendingEvents());
+            synchronized (pending) {
+                // 발행이 끝나 제거된 대기열이면 새 대기열로 다시 시도
+                if (pending.drained) {
+                    continue;
+                }
+                boolean first = pending.messages.isEmpty();
+                pending.messages.put(key, message);
+                if (first) {
+                    // 구간의 첫 이벤트일 때만 발행 예약 (이후 이벤트는 대기 메시지만 교체)
+                    flushScheduler.schedule(() -> drain(sessionId, pending), windowMillis, TimeUnit.MILLISECONDS);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * 세션의 대기 중인 필드 이벤트를 즉시 발행 (같은 세션의 다른 메시지보다 먼저 전달되도록)
+     */
+    public void flushSession(String sessionId) {
+        if (sessionId == null) {
+            return;
+        }
+        PendingEvents pending = pendingEvents.get(sessionId);
+        if (pending != null) {
+            drain(sessionId, pending);
+        }
+    }
+
+    private void drain(String sessionId, PendingEvents pending) {
+        // 잠금을 쥔 채 발행 - 동시에 발행되는 같은 세션의 다른 메시지가 대기 이벤트를 앞지르지 않도록
+        synchronized (pending) {
+            if (pending.drained) {
+                return;
+            }
+            pending.drained = true;
+            pendingEvents.remove(sessionId, pending);
+            for (Object message : pending.messages.values()) {
+                try {
+                    sessionMessagePublisher.publishCoalesced(sessionId, message);
+                    publishedCounter.increment();
+                } catch (Exception e) {
+                    log.error("필드 이벤트 발행 실패 - sessionId: {}", sessionId, e);
+                }
+            }
+            pending.messages.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 종료 전 대기 중인 이벤트는 즉시 발행
+        pendingEvents.keySet().forEach(this::flushSession);
+        flushScheduler.shutdownNow();
+    }
+
+    private static class PendingEvents {
+        // 병합 키 -> 마지막 메시지 (처음 들어온 순서 유지)
+        private final Map<String, Object> messages = new LinkedHashMap<>();
+        private boolean drained;
+    }
+}
@@ -0,0 +1,163 @@
+package com.hanabank.bankadviser.domain.consultation.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.DataEnvelope;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.FieldFocusData;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.FormNavigationData;
+import com.hanabank.bankadviser.global.websocket.CompactFrameCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 프레임 형식 벤치마크 (JSON 텍스트 프레임 vs 압축 바이너리 프레임)
+ * 메시지 타입별로 전송 바이트 수와 인코딩/디코딩 비용을 비교
+ *
+ * - JSON 인코딩: 메시지 -> JSON (기존 전송 경로)
+ * - 압축 인코딩: JSON -> 압축 프레임 (압축 협상 연결에 추가되는 변환 비용)
+ * - 디코딩: 클라이언트/서버가 수신 프레임을 트리로 복원하는 비용
+ */
+@Service
+@ConditionalOnProperty(name = "websocket.benchmark.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class FrameEncodingBenchmarkService {
+
+    private final ObjectMapper objectMapper;
+    private final SessionMessagePublisher sessionMessagePublisher;
+
+    // 측정 결과 소비용 (JIT가 측정 대상 연산을 제거하지 않도록)
+    private volatile long blackhole;
+
+    private static final Map<String, Object> SAMPLE_FORM = Map.of(
+        "formId", "application_form",
+        "formName", "은행거래신청서",
+        "formType", "application"
+    );
+
+    /**
+     * 벤치마크 실행
+     *
+     * @param warmupIterations  JIT 워밍업 반복 횟수 (측정 제외)
+     * @param measureIterations 측정 반복 횟수
+     */
+    public Map<String, Object> run(int warmupIterations, int measureIterations) {
+        Map<String, Object> results = new LinkedHashMap<>();
+        results.put("screen-updated", compare(this::screenSync, warmupIterations, measureIterations));
+        results.put("screen-highlight", compare(this::screenHighlight, warmupIterations, measureIterations));
+        results.put("form-navigation", compare(this::formNavigation, warmupIterations, measureIterations));
+        results.put("field-focus", compare(this::fieldFocus, warmupIterations, measureIterations));
+        results.put("warmupIterations", warmupIterations);
+        results.put("measureIterations", measureIterations);
+
+        log.info("프레임 형식 벤치마크 완료 - {}", results);
+        return results;
+    }
+
+    private Map<String, Object> compare(Supplier<Object> messageFactory, int warmup, int iterations) {
+        Object sample = messageFactory.get();
+        ObjectWriter writer = sessionMessagePublisher.writerFor(sample.getClass());
+
+        try {
+            byte[] json = writer.writeValueAsBytes(sample);
+            byte[] compact = CompactFrameCodec.encodeJson(objectMapper, json);
+
+            // 워밍업
+            runAll(messageFactory, writer, json, compact, warmup);
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("jsonBytes", json.length);
+            result.put("compactBytes", compact.length);
+            result.put("compactRatio", Math.round(compact.length * 1000.0 / json.length) / 1000.0);
+            result.putAll(runAll(messageFactory, writer, json, compact, iterations));
+            return result;
+        } catch (Exception e) {
+            throw new IllegalStateException("프레임 형식 벤치마크 실패", e);
+        }
+    }
+
+    private Map<String, Object> runAll(Supplier<Object> messageFactory, ObjectWriter writer,
+                                       byte[] json, byte[] compact, int iterations) throws Exception {
+        Map<String, Object> nanosPerOp = new LinkedHashMap<>();
+        nanosPerOp.put("jsonEncodeNanos", measure(() -> writer.writeValueAsBytes(messageFactory.get()), iterations));
+        nanosPerOp.put("compactEncodeNanos", measure(() -> CompactFrameCodec.encodeJson(objectMapper, json), iterations));
+        nanosPerOp.put("jsonDecodeNanos", measure(() -> objectMapper.readTree(json), iterations));
+        nanosPerOp.put("compactDecodeNanos", measure(() -> CompactFrameCodec.decode(compact), iterations));
+        return nanosPerOp;
+    }
+
+    private long measure(Operation operation, int iterations) throws Exception {
+        if (iterations <= 0) {
+            return 0;
+        }
+        long sink = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            Object result = operation.run();
+            sink += result instanceof byte[] ? ((byte[]) result).length : ((JsonNode) result).size();
+        }
+        long elapsedNanos = Math.max(System.nanoTime() - start, 1);
+        blackhole = sink;
+        return elapsedNanos / iterations;
+    }
+
+    // ===== 샘플 메시지 (WebSocketController가 전송하는 구조와 동일) =====
+
+    private Object screenSync() {
+        Map<String, Object> screenData = new HashMap<>();
+        screenData.put("currentPage", "product-detail");
+        screenData.put("productId", "P033");
+        screenData.put("scrollTop", 1280);
+        screenData.put("zoom", 1.25);
+        screenData.put("sessionId", "employee_1234");
+        screenData.put("timestamp", System.currentTimeMillis());
+        return new DataEnvelope("screen-updated", screenData);
+    }
+
+    private Object screenHighlight() {
+        Map<String, Object> highlightData = new HashMap<>();
+        highlightData.put("elementId", "interest-rate-table");
+        highlightData.put("highlightType", "underline");
+        highlightData.put("color", "#FFEB3B");
+        highlightData.put("sessionId", "employee_1234");
+        highlightData.put("timestamp", System.currentTimeMillis());
+        return new DataEnvelope("screen-highlight", highlightData);
+    }
+
+    private Object formNavigation() {
+        return new DataEnvelope("form-navigation", FormNavigationData.builder()
+            .productId("P033")
+            .currentFormIndex(1)
+            .currentForm(SAMPLE_FORM)
+            .totalForms(4)
+            .canGoNext(true)
+            .canGoPrev(true)
+            .build());
+    }
+
+    private Object fieldFocus() {
+        return new DataEnvelope("field-focus", FieldFocusData.builder()
+            .fieldId("customer_name")
+            .fieldName("customer_name")
+            .fieldLabel("고객명")
+            .fieldType("text")
+            .fieldPlaceholder("이름을 입력하세요")
+            .formIndex(0)
+            .formName("개인정보 수집·이용 동의서")
+            .timestamp(System.currentTimeMillis())
+            .build());
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        Object run() throws Exception;
+    }
+}
@@ -1,6 +1,7 @@
 package com.hanabank.bankadviser.domain.consultation.service;
 
 import com.hanabank.bankadviser.domain.product.entity.FinancialProduct;
+import com.hanabank.bankadviser.domain.product.event.ProductChangedEvent;
 import com.hanabank.bankadviser.domain.product.repository.FinancialProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,6 +10,7 @@ import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
@@ -29,6 +31,7 @@ import java.util.Map;
 public class HanaBankDataCollectorService {
 
     private final FinancialProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private final RestTemplate restTemplate = new RestTemplate();
 
     /**
@@ -145,6 +148,7 @@ public class HanaBankDataCollectorService {
      */
     @CacheEvict(value = {"products", "productInfo", "customerProducts"}, allEntries = true)
     public void evictProductCache() {
+        eventPublisher.publishEvent(ProductChangedEvent.all());
         log.info("🗑️ 상품 관련 캐시 무효화 완료");
     }
 
@@ -0,0 +1,219 @@
+package com.hanabank.bankadviser.domain.consultation.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JVM 내부 상담 세션 디렉터리 (단일 노드 기본값)
+ * sessionId -> 세션, employeeId -> sessionId 양방향 인덱스를 유지하고
+ * 마지막 활동 시각 기준으로 유휴 세션을 주기적으로 정리 (영업일 내내 메모리 사용량 일정 유지)
+ */
+@Component
+@ConditionalOnProperty(name = "session.directory.type", havingValue = "MEMORY", matchIfMissing = true)
+@Slf4j
+public class InMemorySessionDirectory implements SessionDirectory {
+
+    private final Map<String, SessionEntry> sessions = new ConcurrentHashMap<>();
+    private final Map<String, String> employeeSessions = new ConcurrentHashMap<>();
+
+    private final long idleThresholdMillis;
+    private final long idleTtlMillis;
+
+    private final Counter reapedCounter;
+
+    public InMemorySessionDirectory(MeterRegistry meterRegistry,
+                                    @Value("${session.registry.idle-threshold-ms:600000}") long idleThresholdMillis,
+                                    @Value("${session.registry.idle-ttl-ms:7200000}") long idleTtlMillis) {
+        this.idleThresholdMillis = idleThresholdMillis;
+        this.idleTtlMillis = idleTtlMillis;
+
+        Gauge.builder("session.registry.active", sessions, Map::size)
+            .description("등록된 상담 세션 수")
+            .register(meterRegistry);
+        Gauge.builder("session.registry.idle", this, InMemorySessionDirectory::countIdle)
+            .description("유휴 임계값 이상 활동이 없는 상담 세션 수")
+            .register(meterRegistry);
+        this.reapedCounter = Counter.builder("session.registry.reaped")
+            .description("유휴 시간 초과로 정리된 상담 세션 수")
+            .register(meterRegistry);
+
+        log.info("메모리 세션 디렉터리 초기화 - idleThreshold: {}ms, idleTtl: {}ms", idleThresholdMillis, idleTtlMillis);
+    }
+
+    @Override
+    public String registerEmployeeSession(String employeeId, String sessionId, Map<String, Object> employeeInfo) {
+        SessionEntry entry = new SessionEntry(sessionId, employeeId);
+        entry.getParticipants().put("employee", employeeInfo);
+        sessions.put(sessionId, entry);
+
+        String previousSessionId = employeeSessions.put(employeeId, sessionId);
+        if (previousSessionId != null && !previousSessionId.equals(sessionId)) {
+            sessions.remove(previousSessionId);
+        }
+        return previousSessionId;
+    }
+
+    @Override
+    public String resolveSessionId(String sessionIdOrEmployeeId) {
+        if (sessionIdOrEmployeeId == null) {
+            return null;
+        }
+        if (sessions.containsKey(sessionIdOrEmployeeId)) {
+            return sessionIdOrEmployeeId;
+        }
+        String sessionId = employeeSessions.get(sessionIdOrEmployeeId);
+        return sessionId != null && sessions.containsKey(sessionId) ? sessionId : null;
+    }
+
+    @Override
+    public boolean createIfAbsent(String sessionId) {
+        boolean[] created = {false};
+        SessionEntry entry = sessions.computeIfAbsent(sessionId, id -> {
+            created[0] = true;
+            SessionEntry newEntry = new SessionEntry(id, null);
+            newEntry.getParticipants().put("session_created", Map.of(
+                "timestamp", System.currentTimeMillis(),
+                "type", "tablet-initiated"
+            ));
+            return newEntry;
+        });
+        entry.touch();
+        return created[0];
+    }
+
+    @Override
+    public void putParticipant(String sessionId, String role, Map<String, Object> participant) {
+        SessionEntry entry = sessions.get(sessionId);
+        if (entry != null) {
+            entry.getParticipants().put(role, participant);
+            entry.touch();
+        }
+    }
+
+    @Override
+    public Map<String, Object> getParticipants(String sessionId) {
+        SessionEntry entry = sessionId != null ? sessions.get(sessionId) : null;
+        return entry != null ? entry.getParticipants() : null;
+    }
+
+    @Override
+    public String findSessionByEmployee(String employeeId) {
+        return employeeId != null ? employeeSessions.get(employeeId) : null;
+    }
+
+    @Override
+    public void touch(String sessionId) {
+        SessionEntry entry = sessionId != null ? sessions.get(sessionId) : null;
+        if (entry != null) {
+            entry.touch();
+        }
+    }
+
+    /**
+     * 세션에 기록된 행원 ID로 역방향 인덱스도 함께 제거 (전체 순회 없음)
+     */
+    @Override
+    public void remove(String sessionId) {
+        removeEntry(sessionId);
+    }
+
+    @Override
+    public Map<String, String> getEmployeeSessions() {
+        return new HashMap<>(employeeSessions);
+    }
+
+    /**
+     * 유휴 세션 정리 - 마지막 활동 후 idle-ttl이 지난 세션 제거
+     */
+    @Scheduled(fixedDelayString = "${session.registry.reap-interval-ms:60000}")
+    public void reapIdleSessions() {
+        if (idleTtlMillis <= 0) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        int reaped = 0;
+        for (SessionEntry entry : sessions.values()) {
+            if (now - entry.getLastActivityAt() > idleTtlMillis && removeIfIdle(entry)) {
+                reaped++;
+            }
+        }
+
+        if (reaped > 0) {
+            reapedCounter.increment(reaped);
+            log.info("🧹 유휴 세션 정리 완료 - {}개 제거, 남은 세션: {}", reaped, sessions.size());
+        }
+    }
+
+    /**
+     * 순회 중 읽은 바로 그 세션이 여전히 유휴 상태일 때만 제거
+     * (그 사이 다시 생성되었거나 활동이 기록된 세션은 유지)
+     */
+    private boolean removeIfIdle(SessionEntry idleEntry) {
+        boolean[] removed = {false};
+        sessions.computeIfPresent(idleEntry.getSessionId(), (id, entry) -> {
+            if (entry != idleEntry || System.currentTimeMillis() - entry.getLastActivityAt() <= idleTtlMillis) {
+                return entry;
+            }
+            removed[0] = true;
+            return null;
+        });
+        if (removed[0] && idleEntry.getEmployeeId() != null) {
+            employeeSessions.remove(idleEntry.getEmployeeId(), idleEntry.getSessionId());
+        }
+        return removed[0];
+    }
+
+    private SessionEntry removeEntry(String sessionId) {
+        SessionEntry entry = sessions.remove(sessionId);
+        if (entry != null && entry.getEmployeeId() != null) {
+            employeeSessions.remove(entry.getEmployeeId(), sessionId);
+        }
+        return entry;
+    }
+
+    private int countIdle() {
+        long now = System.currentTimeMillis();
+        int idle = 0;
+        for (SessionEntry entry : sessions.values()) {
+            if (now - entry.getLastActivityAt() > idleThresholdMillis) {
+                idle++;
+            }
+        }
+        return idle;
+    }
+
+    /**
+     * 세션 정보 (참가자 + 마지막 활동 시각)
+     */
+    @Getter
+    private static class SessionEntry {
+        private final String sessionId;
+        private final String employeeId;
+        private final Map<String, Object> participants = new ConcurrentHashMap<>();
+        private final long createdAt;
+        private volatile long lastActivityAt;
+
+        SessionEntry(String sessionId, String employeeId) {
+            this.sessionId = sessionId;
+            this.employeeId = employeeId;
+            this.createdAt = System.currentTimeMillis();
+            this.lastActivityAt = createdAt;
+        }
+
+        void touch() {
+            lastActivityAt = System.currentTimeMillis();
+        }
+    }
+}
@@ -0,0 +1,379 @@
+package com.hanabank.bankadviser.domain.consultation.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 해시 기반 상담 세션 디렉터리 (다중 노드용)
+ *
+ * 키 구성
+ * - {prefix}s:{sessionId} (해시): _employeeId, _createdAt, p:{역할} -> 참가자 JSON
+ *   활동할 때마다 만료 시간을 연장하여, 마지막 활동 후 idle-ttl이 지나면 Redis가 유휴 세션을 정리
+ * - {prefix}employees (해시): employeeId -> sessionId
+ *
+ * 여러 키를 읽어야 하는 조회는 파이프라인으로 한 번에 요청하고,
+ * 자주 읽는 값은 짧은 TTL의 노드 로컬 near-cache에 보관 (다른 노드의 변경은 near-cache TTL 이내에 반영)
+ */
+@Component
+@ConditionalOnProperty(name = "session.directory.type", havingValue = "REDIS")
+@Slf4j
+public class RedisSessionDirectory implements SessionDirectory {
+
+    private static final String EMPLOYEE_ID_FIELD = "_employeeId";
+    private static final String CREATED_AT_FIELD = "_createdAt";
+    private static final String PARTICIPANT_FIELD_PREFIX = "p:";
+
+    // 행원 -> 세션 매핑이 아직 해당 세션을 가리킬 때만 삭제 (다른 노드가 새 세션으로 교체한 경우 보존)
+    private static final RedisScript<Long> REMOVE_EMPLOYEE_MAPPING_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('HGET', KEYS[1], ARGV[1]) == ARGV[2] then return redis.call('HDEL', KEYS[1], ARGV[1]) end return 0",
+        Long.class);
+
+    // 세션이 존재할 때만 참가자 저장 (만료된 세션을 되살리지 않도록)
+    private static final RedisScript<Long> PUT_PARTICIPANT_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[1]) == 1 then "
+            + "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) "
+            + "if tonumber(ARGV[3]) > 0 then redis.call('PEXPIRE', KEYS[1], ARGV[3]) end "
+            + "return 1 end return 0",
+        Long.class);
+
+    // 세션 해시가 없을 때만 생성하고 만료 시간까지 한 번에 설정 (생성 직후 EXPIRE 전에 실패해도 TTL 없는 키가 남지 않도록)
+    private static final RedisScript<Long> CREATE_SESSION_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('HSETNX', KEYS[1], ARGV[1], ARGV[2]) == 0 then return 0 end "
+            + "redis.call('HSET', KEYS[1], ARGV[3], ARGV[4]) "
+            + "if tonumber(ARGV[5]) > 0 then redis.call('PEXPIRE', KEYS[1], ARGV[5]) end "
+            + "return 1",
+        Long.class);
+
+    // 이전 세션 조회, 이전 세션 삭제, 새 세션 생성 / 만료 설정, 행원 매핑 교체를 원자적으로 수행하고 이전 세션 ID 반환
+    // (같은 행원이 두 노드에서 동시에 등록해도 한쪽 세션 해시가 매핑 없이 남지 않도록)
+    // 이전 세션 키는 접두사 + 매핑 값으로 스크립트 안에서 구성 (단일 Redis / Sentinel 구성 기준)
+    private static final RedisScript<String> REGISTER_EMPLOYEE_SESSION_SCRIPT = new DefaultRedisScript<>(
+        "local previous = redis.call('HGET', KEYS[1], ARGV[1]) "
+            + "if previous and previous ~= ARGV[2] then redis.call('DEL', ARGV[3] .. previous) end "
+            + "redis.call('HMSET', KEYS[2], ARGV[4], ARGV[1], ARGV[5], ARGV[6], ARGV[7], ARGV[8]) "
+            + "if tonumber(ARGV[9]) > 0 then redis.call('PEXPIRE', KEYS[2], ARGV[9]) end "
+            + "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) "
+            + "return previous",
+        String.class);
+
+    private static final TypeReference<Map<String, Object>> PARTICIPANT_TYPE = new TypeReference<Map<String, Object>>() {};
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String keyPrefix;
+    private final String employeesKey;
+    private final long idleTtlMillis;
+    private final long nearCacheTtlMillis;
+    private final long touchIntervalMillis;
+
+    // near-cache: 세션 참가자, 세션 ID 해석 결과, 마지막으로 Redis에 기록한 활동 시각
+    private final Map<String, NearCacheEntry<Map<String, Object>>> participantsCache = new ConcurrentHashMap<>();
+    private final Map<String, NearCacheEntry<String>> resolvedSessionCache = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastTouchWritten = new ConcurrentHashMap<>();
+
+    private final Counter nearCacheHitCounter;
+    private final Counter nearCacheMissCounter;
+    private final Counter staleMappingCounter;
+
+    public RedisSessionDirectory(RedisConnectionFactory connectionFactory,
+                                 ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${session.directory.redis.key-prefix:hana:session:}") String keyPrefix,
+                                 @Value("${session.registry.idle-ttl-ms:7200000}") long idleTtlMillis,
+                                 @Value("${session.directory.near-cache-ttl-ms:1000}") long nearCacheTtlMillis,
+                                 @Value("${session.directory.touch-interval-ms:5000}") long touchIntervalMillis) {
+        this.redisTemplate = new StringRedisTemplate(connectionFactory);
+        this.objectMapper = objectMapper;
+        this.keyPrefix = keyPrefix;
+        this.employeesKey = keyPrefix + "employees";
+        this.idleTtlMillis = idleTtlMillis;
+        this.nearCacheTtlMillis = nearCacheTtlMillis;
+        this.touchIntervalMillis = touchIntervalMillis;
+
+        this.nearCacheHitCounter = nearCacheCounter(meterRegistry, "hit");
+        this.nearCacheMissCounter = nearCacheCounter(meterRegistry, "miss");
+        this.staleMappingCounter = Counter.builder("session.directory.stale.mappings")
+            .description("만료된 세션을 가리켜 정리된 행원 -> 세션 매핑 수")
+            .register(meterRegistry);
+
+        log.info("Redis 세션 디렉터리 활성화 - prefix: {}, idleTtl: {}ms, nearCacheTtl: {}ms",
+            keyPrefix, idleTtlMillis, nearCacheTtlMillis);
+    }
+
+    @Override
+    public String registerEmployeeSession(String employeeId, String sessionId, Map<String, Object> employeeInfo) {
+        String participantJson = toJson(employeeInfo);
+        long now = System.currentTimeMillis();
+
+        String previousSessionId = redisTemplate.execute(REGISTER_EMPLOYEE_SESSION_SCRIPT,
+            List.of(employeesKey, sessionKey(sessionId)),
+            employeeId, sessionId, sessionKey(""),
+            EMPLOYEE_ID_FIELD, CREATED_AT_FIELD, String.valueOf(now),
+            PARTICIPANT_FIELD_PREFIX + "employee", participantJson,
+            String.valueOf(idleTtlMillis));
+
+        invalidateLocal(sessionId);
+        resolvedSessionCache.remove(employeeId);
+        if (previousSessionId != null) {
+            invalidateLocal(previousSessionId);
+        }
+        return previousSessionId;
+    }
+
+    @Override
+    public String resolveSessionId(String sessionIdOrEmployeeId) {
+        if (sessionIdOrEmployeeId == null) {
+            return null;
+        }
+        NearCacheEntry<String> cached = resolvedSessionCache.get(sessionIdOrEmployeeId);
+        if (cached != null && !cached.isExpired(nearCacheTtlMillis)) {
+            nearCacheHitCounter.increment();
+            return cached.value;
+        }
+        nearCacheMissCounter.increment();
+
+        // 세션 존재 여부와 행원 매핑을 한 번의 왕복으로 조회
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            redis.exists(sessionKey(sessionIdOrEmployeeId));
+            redis.hGet(employeesKey, sessionIdOrEmployeeId);
+            return null;
+        });
+
+        String resolved = null;
+        if (Boolean.TRUE.equals(results.get(0))) {
+            resolved = sessionIdOrEmployeeId;
+        } else if (results.get(1) != null) {
+            String employeeSessionId = (String) results.get(1);
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(sessionKey(employeeSessionId)))) {
+                resolved = employeeSessionId;
+            } else {
+                removeEmployeeMapping(sessionIdOrEmployeeId, employeeSessionId);
+            }
+        }
+
+        if (resolved != null) {
+            resolvedSessionCache.put(sessionIdOrEmployeeId, new NearCacheEntry<>(resolved));
+        }
+        return resolved;
+    }
+
+    @Override
+    public boolean createIfAbsent(String sessionId) {
+        long now = System.currentTimeMillis();
+        Map<String, Object> sessionCreated = Map.of(
+            "timestamp", now,
+            "type", "tablet-initiated"
+        );
+        Long created = redisTemplate.execute(CREATE_SESSION_SCRIPT, Collections.singletonList(sessionKey(sessionId)),
+            CREATED_AT_FIELD, String.valueOf(now),
+            PARTICIPANT_FIELD_PREFIX + "session_created", toJson(sessionCreated),
+            String.valueOf(idleTtlMillis));
+        if (created != null && created > 0) {
+            lastTouchWritten.put(sessionId, now);
+            invalidateLocal(sessionId);
+            return true;
+        }
+        touch(sessionId);
+        return false;
+    }
+
+    @Override
+    public void putParticipant(String sessionId, String role, Map<String, Object> participant) {
+        redisTemplate.execute(PUT_PARTICIPANT_SCRIPT, Collections.singletonList(sessionKey(sessionId)),
+            PARTICIPANT_FIELD_PREFIX + role, toJson(participant), String.valueOf(idleTtlMillis));
+        lastTouchWritten.put(sessionId, System.currentTimeMillis());
+        participantsCache.remove(sessionId);
+    }
+
+    @Override
+    public Map<String, Object> getParticipants(String sessionId) {
+        if (sessionId == null) {
+            return null;
+        }
+        NearCacheEntry<Map<String, Object>> cached = participantsCache.get(sessionId);
+        if (cached != null && !cached.isExpired(nearCacheTtlMillis)) {
+            nearCacheHitCounter.increment();
+            return cached.value;
+        }
+        nearCacheMissCounter.increment();
+
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(sessionKey(sessionId));
+        if (fields.isEmpty()) {
+            participantsCache.remove(sessionId);
+            return null;
+        }
+
+        Map<String, Object> participants = new LinkedHashMap<>();
+        fields.forEach((field, value) -> {
+            String name = (String) field;
+            if (name.startsWith(PARTICIPANT_FIELD_PREFIX)) {
+                participants.put(name.substring(PARTICIPANT_FIELD_PREFIX.length()), fromJson((String) value));
+            }
+        });
+        Map<String, Object> snapshot = Collections.unmodifiableMap(participants);
+        participantsCache.put(sessionId, new NearCacheEntry<>(snapshot));
+        return snapshot;
+    }
+
+    @Override
+    public String findSessionByEmployee(String employeeId) {
+        if (employeeId == null) {
+            return null;
+        }
+        return (String) redisTemplate.<String, String>opsForHash().get(employeesKey, employeeId);
+    }
+
+    /**
+     * 활동 기록 - 세션 메시지마다 호출되므로 touch-interval 이내의 중복 기록은 생략
+     */
+    @Override
+    public void touch(String sessionId) {
+        if (sessionId == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        Long lastWritten = lastTouchWritten.get(sessionId);
+        if (lastWritten != null && now - lastWritten < touchIntervalMillis) {
+            return;
+        }
+        lastTouchWritten.put(sessionId, now);
+
+        // 만료 시간만 연장 (없는 키에는 적용되지 않으므로 만료된 세션을 되살리지 않음)
+        if (idleTtlMillis > 0) {
+            redisTemplate.expire(sessionKey(sessionId), idleTtlMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void remove(String sessionId) {
+        String employeeId = (String) redisTemplate.<String, String>opsForHash().get(sessionKey(sessionId), EMPLOYEE_ID_FIELD);
+        redisTemplate.delete(sessionKey(sessionId));
+        if (employeeId != null) {
+            removeEmployeeMapping(employeeId, sessionId);
+            resolvedSessionCache.remove(employeeId);
+        }
+        invalidateLocal(sessionId);
+    }
+
+    @Override
+    public Map<String, String> getEmployeeSessions() {
+        Map<String, String> result = new HashMap<>();
+        redisTemplate.<String, String>opsForHash().entries(employeesKey).forEach(result::put);
+        return result;
+    }
+
+    /**
+     * 만료된 세션을 가리키는 행원 매핑 정리 (세션 키 존재 여부를 파이프라인으로 일괄 조회)
+     * 세션 키는 Redis TTL로 만료되므로 여기서는 행원 -> 세션 인덱스와 로컬 near-cache만 정리
+     */
+    @Scheduled(fixedDelayString = "${session.registry.reap-interval-ms:60000}")
+    public void reapStaleMappings() {
+        try {
+            Map<String, String> mappings = getEmployeeSessions();
+            if (!mappings.isEmpty()) {
+                List<Map.Entry<String, String>> entries = new ArrayList<>(mappings.entrySet());
+                List<Object> exists = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    StringRedisConnection redis = (StringRedisConnection) connection;
+                    entries.forEach(entry -> redis.exists(sessionKey(entry.getValue())));
+                    return null;
+                });
+
+                int reaped = 0;
+                for (int i = 0; i < entries.size(); i++) {
+                    if (!Boolean.TRUE.equals(exists.get(i))) {
+                        removeEmployeeMapping(entries.get(i).getKey(), entries.get(i).getValue());
+                        reaped++;
+                    }
+                }
+                if (reaped > 0) {
+                    log.info("🧹 만료된 행원 세션 매핑 정리 완료 - {}개 제거", reaped);
+                }
+            }
+
+            long now = System.currentTimeMillis();
+            participantsCache.values().removeIf(entry -> entry.isExpired(nearCacheTtlMillis));
+            resolvedSessionCache.values().removeIf(entry -> entry.isExpired(nearCacheTtlMillis));
+            lastTouchWritten.values().removeIf(writtenAt -> now - writtenAt > Math.max(idleTtlMillis, touchIntervalMillis));
+        } catch (Exception e) {
+            log.warn("Redis 세션 매핑 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private void removeEmployeeMapping(String employeeId, String sessionId) {
+        Long removed = redisTemplate.execute(REMOVE_EMPLOYEE_MAPPING_SCRIPT, Collections.singletonList(employeesKey), employeeId, sessionId);
+        if (removed != null && removed > 0) {
+            staleMappingCounter.increment();
+        }
+    }
+
+    private void invalidateLocal(String sessionId) {
+        participantsCache.remove(sessionId);
+        resolvedSessionCache.remove(sessionId);
+        lastTouchWritten.remove(sessionId);
+    }
+
+    private String sessionKey(String sessionId) {
+        return keyPrefix + "s:" + sessionId;
+    }
+
+    private String toJson(Map<String, Object> value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (Exception e) {
+            throw new IllegalStateException("세션 참가자 직렬화 실패", e);
+        }
+    }
+
+    private Map<String, Object> fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, PARTICIPANT_TYPE);
+        } catch (Exception e) {
+            log.warn("세션 참가자 역직렬화 실패: {}", e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+
+    private static Counter nearCacheCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("session.directory.near-cache")
+            .description("Redis 세션 디렉터리 near-cache 조회 결과")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    private static class NearCacheEntry<T> {
+        private final T value;
+        private final long cachedAt;
+
+        private NearCacheEntry(T value) {
+            this.value = value;
+            this.cachedAt = System.currentTimeMillis();
+        }
+
+        private boolean isExpired(long ttlMillis) {
+            return System.currentTimeMillis() - cachedAt > ttlMillis;
+        }
+    }
+}
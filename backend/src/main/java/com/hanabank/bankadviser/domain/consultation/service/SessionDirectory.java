@@ -0,0 +1,63 @@
+package com.hanabank.bankadviser.domain.consultation.service;
+
+import java.util.Map;
+
+/**
+ * 상담 세션 디렉터리
+ * 행원 -> 세션, 세션 -> 참가자 매핑을 보관 (session.directory.type으로 구현 선택)
+ *
+ * - MEMORY: 단일 노드용 JVM 내부 저장소 (기본값)
+ * - REDIS: 여러 백엔드 노드가 공유하는 Redis 해시 저장소
+ *   (태블릿과 행원 PC가 서로 다른 노드에 연결되어도 같은 세션을 조회)
+ */
+public interface SessionDirectory {
+
+    /**
+     * 행원 세션 등록 (행원의 기존 세션은 제거 후 교체)
+     *
+     * @return 교체되어 제거된 이전 세션 ID (없으면 null)
+     */
+    String registerEmployeeSession(String employeeId, String sessionId, Map<String, Object> employeeInfo);
+
+    /**
+     * 세션 ID 또는 행원 ID로 실제 세션 ID 조회 (둘 다 없으면 null)
+     */
+    String resolveSessionId(String sessionIdOrEmployeeId);
+
+    /**
+     * 세션이 없으면 생성 (태블릿이 고정 세션 ID로 먼저 참여하는 경우)
+     *
+     * @return 새로 생성했으면 true
+     */
+    boolean createIfAbsent(String sessionId);
+
+    /**
+     * 세션 참가자 정보 저장 (employee, tablet 등 역할별)
+     */
+    void putParticipant(String sessionId, String role, Map<String, Object> participant);
+
+    /**
+     * 세션 참가자 정보 조회 (세션이 없으면 null)
+     */
+    Map<String, Object> getParticipants(String sessionId);
+
+    /**
+     * 행원 ID로 세션 ID 조회
+     */
+    String findSessionByEmployee(String employeeId);
+
+    /**
+     * 세션 활동 기록 (등록되지 않은 세션은 무시)
+     */
+    void touch(String sessionId);
+
+    /**
+     * 세션과 행원 -> 세션 매핑 제거
+     */
+    void remove(String sessionId);
+
+    /**
+     * 활성 세션 목록 (employeeId -> sessionId)
+     */
+    Map<String, String> getEmployeeSessions();
+}
@@ -0,0 +1,173 @@
+package com.hanabank.bankadviser.domain.consultation.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.DataEnvelope;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.EnrollmentData;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.FieldFocusData;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.RelayEnvelope;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 세션 메시지 직렬화 벤치마크
+ * 기존 방식(HashMap 생성 + ObjectMapper.writeValueAsString)과
+ * 타입 메시지(Envelope 생성 + 미리 생성한 ObjectWriter)의 처리량과 메시지 크기를 비교
+ *
+ * 메시지 생성부터 JSON 문자열까지 측정 (핸들러가 메시지마다 수행하는 작업과 동일)
+ */
+@Service
+@ConditionalOnProperty(name = "websocket.benchmark.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class SessionMessageBenchmarkService {
+
+    private final ObjectMapper objectMapper;
+    private final SessionMessagePublisher sessionMessagePublisher;
+
+    private static final List<Map<String, Object>> SAMPLE_FORMS = List.of(
+        Map.of("formId", "consent_form", "formName", "개인정보 수집·이용 동의서", "formType", "consent"),
+        Map.of("formId", "application_form", "formName", "은행거래신청서", "formType", "application")
+    );
+
+    /**
+     * 벤치마크 실행
+     *
+     * @param warmupIterations  JIT 워밍업 반복 횟수 (측정 제외)
+     * @param measureIterations 측정 반복 횟수
+     */
+    public Map<String, Object> run(int warmupIterations, int measureIterations) {
+        Map<String, Object> results = new LinkedHashMap<>();
+        results.put("field-focus", compare(this::fieldFocusMap, this::fieldFocusEnvelope, warmupIterations, measureIterations));
+        results.put("product-enrollment", compare(this::enrollmentMap, this::enrollmentEnvelope, warmupIterations, measureIterations));
+        results.put("client-message", compare(this::relayMap, this::relayEnvelope, warmupIterations, measureIterations));
+        results.put("warmupIterations", warmupIterations);
+        results.put("measureIterations", measureIterations);
+
+        log.info("세션 메시지 직렬화 벤치마크 완료 - {}", results);
+        return results;
+    }
+
+    private Map<String, Object> compare(Supplier<Object> legacy, Supplier<Object> typed, int warmup, int iterations) {
+        ObjectWriter typedWriter = sessionMessagePublisher.writerFor(typed.get().getClass());
+
+        // 워밍업 (두 방식 모두)
+        measure(legacy, objectMapper::writeValueAsString, warmup);
+        measure(typed, typedWriter::writeValueAsString, warmup);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("map", measure(legacy, objectMapper::writeValueAsString, iterations));
+        result.put("typed", measure(typed, typedWriter::writeValueAsString, iterations));
+        return result;
+    }
+
+    private Map<String, Object> measure(Supplier<Object> messageFactory, JsonSerializer serializer, int iterations) {
+        long totalBytes = 0;
+        long start = System.nanoTime();
+        try {
+            for (int i = 0; i < iterations; i++) {
+                totalBytes += serializer.serialize(messageFactory.get()).length();
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("벤치마크 직렬화 실패", e);
+        }
+        long elapsedNanos = Math.max(System.nanoTime() - start, 1);
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("opsPerSecond", Math.round(iterations * 1_000_000_000.0 / elapsedNanos));
+        stats.put("nanosPerOp", iterations > 0 ? elapsedNanos / iterations : 0);
+        stats.put("bytesPerMessage", iterations > 0 ? totalBytes / iterations : 0);
+        return stats;
+    }
+
+    // ===== 기존 Map 메시지 =====
+
+    private Object fieldFocusMap() {
+        Map<String, Object> fieldData = new HashMap<>();
+        fieldData.put("fieldId", "customer_name");
+        fieldData.put("fieldName", "customer_name");
+        fieldData.put("fieldLabel", "고객명");
+        fieldData.put("fieldType", "text");
+        fieldData.put("fieldPlaceholder", "이름을 입력하세요");
+        fieldData.put("formIndex", 0);
+        fieldData.put("formName", "개인정보 수집·이용 동의서");
+        fieldData.put("timestamp", System.currentTimeMillis());
+
+        Map<String, Object> message = new HashMap<>();
+        message.put("type", "field-focus");
+        message.put("data", fieldData);
+        message.put("timestamp", System.currentTimeMillis());
+        return message;
+    }
+
+    private Object enrollmentMap() {
+        Map<String, Object> enrollmentData = new HashMap<>();
+        enrollmentData.put("productId", "P033");
+        enrollmentData.put("productName", "아이 꿈하나 적금");
+        enrollmentData.put("productType", "적금");
+        enrollmentData.put("customerId", "C001");
+        enrollmentData.put("forms", SAMPLE_FORMS);
+        enrollmentData.put("currentFormIndex", 0);
+        enrollmentData.put("totalForms", SAMPLE_FORMS.size());
+
+        return Map.of(
+            "type", "product-enrollment",
+            "data", enrollmentData,
+            "action", "start_enrollment",
+            "timestamp", System.currentTimeMillis()
+        );
+    }
+
+    private Object relayMap() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("type", "client-message");
+        response.put("messageType", "privacy-consent");
+        response.put("data", "agree");
+        response.put("timestamp", System.currentTimeMillis());
+        return response;
+    }
+
+    // ===== 타입 메시지 =====
+
+    private Object fieldFocusEnvelope() {
+        return new DataEnvelope("field-focus", FieldFocusData.builder()
+            .fieldId("customer_name")
+            .fieldName("customer_name")
+            .fieldLabel("고객명")
+            .fieldType("text")
+            .fieldPlaceholder("이름을 입력하세요")
+            .formIndex(0)
+            .formName("개인정보 수집·이용 동의서")
+            .timestamp(System.currentTimeMillis())
+            .build());
+    }
+
+    private Object enrollmentEnvelope() {
+        return new DataEnvelope("product-enrollment", EnrollmentData.builder()
+            .productId("P033")
+            .productName("아이 꿈하나 적금")
+            .productType("적금")
+            .customerId("C001")
+            .forms(SAMPLE_FORMS)
+            .currentFormIndex(0)
+            .totalForms(SAMPLE_FORMS.size())
+            .build(), "start_enrollment");
+    }
+
+    private Object relayEnvelope() {
+        return new RelayEnvelope("client-message", "privacy-consent", "agree");
+    }
+
+    @FunctionalInterface
+    private interface JsonSerializer {
+        String serialize(Object message) throws Exception;
+    }
+}
@@ -0,0 +1,186 @@
+package com.hanabank.bankadviser.domain.consultation.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages;
+import com.hanabank.bankadviser.global.config.WebSocketConfig;
+import com.hanabank.bankadviser.global.websocket.ClusterMessage;
+import com.hanabank.bankadviser.global.websocket.ClusterMessageBus;
+import com.hanabank.bankadviser.global.websocket.SessionReplayBuffer;
+import com.hanabank.bankadviser.global.websocket.SessionStateStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Service;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 상담 세션 메시지 발행
+ * /topic/session/{sessionId} STOMP 구독자와 단순 WebSocket 브리지에 같은 메시지를 전송
+ *
+ * ClusterMessageBus가 있으면(REDIS, EMBEDDED 모드) 메시지를 한 번 직렬화하여 버스로 발행하고,
+ * 각 노드가 버스에서 받은 메시지를 자신에게 연결된 구독자에게 전달
+ *
+ * 메시지는 타입별로 기동 시 미리 생성한 ObjectWriter로 한 번만 직렬화하고,
+ * 같은 JSON을 STOMP 구독자와 단순 WebSocket 브리지에 재사용
+ *
+ * 세션 토픽 메시지는 전달 직전에 세션별 순번(seq)을 붙여 재전송 버퍼에 보관하고 (재연결 시 놓친 메시지만 재전송),
+ * 세션 화면 상태 저장소에 반영 (늦게 참여한 클라이언트에 스냅샷 전송)
+ * 화면 상태용 파싱은 메시지 타입으로 대상만 골라 순번 잠금 밖에서 수행
+ *
+ * 세션 메시지를 발행하기 전에 그 세션의 병합 대기 중인 필드 이벤트(FieldEventCoalescer)를 먼저 발행
+ */
+@Service
+@Slf4j
+public class SessionMessagePublisher {
+
+    private static final String SESSION_TOPIC_PREFIX = "/topic/session/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final ClusterMessageBus clusterMessageBus;
+    private final SessionDirectory sessionDirectory;
+    private final SessionReplayBuffer sessionReplayBuffer;
+    private final SessionStateStore sessionStateStore;
+    private final WebSocketConfig.SimpleWebSocketHandler simpleWebSocketHandler;
+
+    // 병합 대기 중인 필드 이벤트를 먼저 발행하는 함수 (FieldEventCoalescer가 등록)
+    private volatile Consumer<String> pendingEventFlusher = sessionId -> { };
+
+    // 메시지 타입별 직렬화기 (런타임 클래스 기준 - 상위 타입 직렬화기로 하위 타입 필드가 누락되지 않도록)
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public SessionMessagePublisher(SimpMessagingTemplate messagingTemplate,
+                                   ObjectMapper objectMapper,
+                                   ObjectProvider<ClusterMessageBus> clusterMessageBusProvider,
+                                   SessionDirectory sessionDirectory,
+                                   SessionReplayBuffer sessionReplayBuffer,
+                                   SessionStateStore sessionStateStore,
+                                   WebSocketConfig.SimpleWebSocketHandler simpleWebSocketHandler) {
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.sessionDirectory = sessionDirectory;
+        this.sessionReplayBuffer = sessionReplayBuffer;
+        this.sessionStateStore = sessionStateStore;
+        this.simpleWebSocketHandler = simpleWebSocketHandler;
+        this.clusterMessageBus = clusterMessageBusProvider.getIfAvailable();
+        SessionMessages.OUTBOUND_TYPES.forEach(this::writerFor);
+        log.info("세션 메시지 직렬화기 사전 생성 완료 - {}개 타입", writers.size());
+        if (clusterMessageBus != null) {
+            clusterMessageBus.subscribe(this::deliverLocally);
+            log.info("세션 메시지 노드 간 팬아웃 사용 - {}", clusterMessageBus.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * STOMP + 단순 WebSocket 브리지 전송 (세션의 병합 대기 이벤트를 먼저 발행)
+     */
+    public void publish(String sessionId, Object message) {
+        pendingEventFlusher.accept(sessionId);
+        send(SESSION_TOPIC_PREFIX + sessionId, sessionId, message);
+    }
+
+    /**
+     * 병합된 필드 이벤트 발행 (FieldEventCoalescer 전용, 대기 이벤트 발행 훅을 다시 호출하지 않음)
+     */
+    void publishCoalesced(String sessionId, Object message) {
+        send(SESSION_TOPIC_PREFIX + sessionId, sessionId, message);
+    }
+
+    void setPendingEventFlusher(Consumer<String> pendingEventFlusher) {
+        this.pendingEventFlusher = pendingEventFlusher;
+    }
+
+    /**
+     * STOMP 전송 (브리지 없음)
+     */
+    public void send(String destination, Object message) {
+        send(destination, null, message);
+    }
+
+    private void send(String destination, String bridgeSessionId, Object message) {
+        // 세션 토픽 발행을 세션 활동으로 기록 (유휴 세션 정리 기준)
+        if (destination.startsWith(SESSION_TOPIC_PREFIX)) {
+            sessionDirectory.touch(destination.substring(SESSION_TOPIC_PREFIX.length()));
+        }
+
+        ClusterMessage clusterMessage;
+        try {
+            String json = writerFor(message.getClass()).writeValueAsString(message);
+            String coalesceKey = WebSocketConfig.SimpleWebSocketHandler.coalesceKeyOf(message);
+            clusterMessage = new ClusterMessage(destination, bridgeSessionId, json, coalesceKey, typeOf(message));
+        } catch (Exception e) {
+            log.error("세션 메시지 직렬화 실패 - destination: {}", destination, e);
+            return;
+        }
+
+        if (clusterMessageBus == null) {
+            deliverLocally(clusterMessage);
+        } else {
+            clusterMessageBus.publish(clusterMessage);
+        }
+    }
+
+    /**
+     * 메시지 타입의 직렬화기 조회 (없으면 생성 후 캐시)
+     */
+    ObjectWriter writerFor(Class<?> type) {
+        return writers.computeIfAbsent(type, objectMapper::writerFor);
+    }
+
+    /**
+     * 버스에서 받은 메시지를 이 노드의 STOMP 구독자와 단순 WebSocket 소켓에 전달
+     */
+    private void deliverLocally(ClusterMessage clusterMessage) {
+        String destination = clusterMessage.getDestination();
+
+        // 세션 토픽 메시지는 순번 부여 후 재전송 버퍼에 보관하고 화면 상태에 반영 (STOMP와 브리지에 같은 순번 전달)
+        if (destination.startsWith(SESSION_TOPIC_PREFIX)) {
+            String sessionId = destination.substring(SESSION_TOPIC_PREFIX.length());
+            ObjectNode stateUpdate = sessionStateStore.parse(sessionId, clusterMessage.getType(), clusterMessage.getPayload());
+            sessionReplayBuffer.stampAndDeliver(sessionId, clusterMessage.getPayload(), (payload, epoch, seq) -> {
+                sessionStateStore.apply(sessionId, stateUpdate, epoch, seq);
+                deliver(clusterMessage, payload);
+            });
+        } else {
+            deliver(clusterMessage, clusterMessage.getPayload());
+        }
+    }
+
+    // 직렬화 전 메시지의 타입 (Envelope / Map 외에는 null)
+    private static String typeOf(Object message) {
+        if (message instanceof SessionMessages.Envelope) {
+            return ((SessionMessages.Envelope) message).getType();
+        }
+        if (message instanceof Map) {
+            Object type = ((Map<?, ?>) message).get("type");
+            return type != null ? type.toString() : null;
+        }
+        return null;
+    }
+
+    private void deliver(ClusterMessage clusterMessage, String payload) {
+        String destination = clusterMessage.getDestination();
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        Message<byte[]> stompMessage = MessageBuilder.createMessage(
+            payload.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+        messagingTemplate.send(destination, stompMessage);
+
+        if (clusterMessage.getBridgeSessionId() != null) {
+            simpleWebSocketHandler.broadcastJsonToSimpleWebSocket(
+                clusterMessage.getBridgeSessionId(), payload, clusterMessage.getCoalesceKey());
+        }
+    }
+}
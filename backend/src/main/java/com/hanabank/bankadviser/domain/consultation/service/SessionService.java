@@ -1,26 +1,29 @@
 package com.hanabank.bankadviser.domain.consultation.service;
 
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.DataEnvelope;
+import com.hanabank.bankadviser.global.websocket.SessionReplayBuffer;
+import com.hanabank.bankadviser.global.websocket.SessionStateStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
-import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class SessionService {
     
-    private final SimpMessagingTemplate messagingTemplate;
+    private final SessionMessagePublisher sessionMessagePublisher;
     
-    // 활성 세션 관리 (employeeId -> sessionId)
-    private final Map<String, String> employeeSessions = new ConcurrentHashMap<>();
+    // 세션 디렉터리 (sessionId <-> employeeId, 참가자 / 유휴 세션 자동 정리, 다중 노드 시 Redis 공유)
+    private final SessionDirectory sessionDirectory;
     
-    // 세션별 참가자 관리 (sessionId -> {employee, tablet})
-    private final Map<String, Map<String, Object>> sessionParticipants = new ConcurrentHashMap<>();
+    // 세션 메시지 순번 / 재전송 버퍼 (재연결 시 놓친 메시지만 재전송)
+    private final SessionReplayBuffer sessionReplayBuffer;
+    
+    // 세션별 현재 화면 상태 (참여 시 스냅샷 전송)
+    private final SessionStateStore sessionStateStore;
     
     /**
      * 행원이 로그인할 때 새 세션 생성
@@ -28,23 +31,16 @@ public class SessionService {
     public String createEmployeeSession(String employeeId, String employeeName) {
         String sessionId = generateSessionId(employeeId);
         
-        // 기존 세션이 있다면 정리
-        String oldSessionId = employeeSessions.get(employeeId);
-        if (oldSessionId != null) {
-            cleanupSession(oldSessionId);
-        }
-        
-        employeeSessions.put(employeeId, sessionId);
-        
-        // 세션 참가자 정보 초기화
-        Map<String, Object> participants = new HashMap<>();
-        participants.put("employee", Map.of(
+        // 세션 참가자 정보 초기화 (기존 세션이 있다면 교체하면서 정리)
+        String oldSessionId = sessionDirectory.registerEmployeeSession(employeeId, sessionId, Map.of(
             "id", employeeId,
             "name", employeeName,
             "type", "employee",
             "connected", true
         ));
-        sessionParticipants.put(sessionId, participants);
+        if (oldSessionId != null) {
+            log.info("기존 세션 정리 - employeeId: {}, sessionId: {}", employeeId, oldSessionId);
+        }
         
         log.info("새 세션 생성 - employeeId: {}, sessionId: {}", employeeId, sessionId);
         
@@ -55,40 +51,26 @@ public class SessionService {
      * 행원 ID로 세션 찾기 (태블릿에서 사용)
      */
     public String findSessionByEmployeeId(String employeeId) {
-        return employeeSessions.get(employeeId);
+        return sessionDirectory.findSessionByEmployee(employeeId);
     }
     
     /**
      * 태블릿이 세션에 참여 (행원 ID 또는 세션 ID 모두 지원)
      */
     public boolean joinTabletToSession(String sessionIdOrEmployeeId) {
-        String actualSessionId = sessionIdOrEmployeeId;
-        
-        // 먼저 세션 ID로 직접 찾아보기
-        Map<String, Object> participants = sessionParticipants.get(sessionIdOrEmployeeId);
-        
-        // 없으면 행원 ID로 세션 찾기
-        if (participants == null) {
-            actualSessionId = findSessionByEmployeeId(sessionIdOrEmployeeId);
-            if (actualSessionId != null) {
-                participants = sessionParticipants.get(actualSessionId);
-            }
-        }
+        // 세션 ID로 직접 찾고, 없으면 행원 ID로 세션 찾기
+        String actualSessionId = sessionDirectory.resolveSessionId(sessionIdOrEmployeeId);
         
-        // 여전히 없으면 새 세션 생성 (고정 세션 ID 지원)
-        if (participants == null) {
-            log.info("새 세션 생성 - sessionId: {}", sessionIdOrEmployeeId);
+        // 여전히 없으면 새 세션 생성 (고정 세션 ID 지원, 활동이 없으면 유휴 정리 대상)
+        if (actualSessionId == null) {
             actualSessionId = sessionIdOrEmployeeId;
-            participants = new HashMap<>();
-            participants.put("session_created", Map.of(
-                "timestamp", System.currentTimeMillis(),
-                "type", "tablet-initiated"
-            ));
-            sessionParticipants.put(actualSessionId, participants);
+            if (sessionDirectory.createIfAbsent(actualSessionId)) {
+                log.info("새 세션 생성 - sessionId: {}", actualSessionId);
+            }
         }
         
         // 태블릿 정보 추가
-        participants.put("tablet", Map.of(
+        sessionDirectory.putParticipant(actualSessionId, "tablet", Map.of(
             "type", "customer-tablet",
             "connected", true,
             "joinedAt", System.currentTimeMillis()
@@ -108,37 +90,47 @@ public class SessionService {
      * 행원 ID로 세션 ID 조회
      */
     public String getSessionByEmployee(String employeeId) {
-        return employeeSessions.get(employeeId);
+        return sessionDirectory.findSessionByEmployee(employeeId);
     }
     
     /**
      * 세션 참가자 정보 조회
      */
     public Map<String, Object> getSessionParticipants(String sessionId) {
-        return sessionParticipants.get(sessionId);
+        return sessionDirectory.getParticipants(sessionId);
     }
     
     /**
      * 세션의 모든 참가자에게 메시지 전송
      */
     public void notifyParticipants(String sessionId, String messageType, Object data) {
-        Map<String, Object> message = new HashMap<>();
-        message.put("type", messageType);
-        message.put("data", data);
-        message.put("timestamp", System.currentTimeMillis());
-        
-        messagingTemplate.convertAndSend("/topic/session/" + sessionId, message);
+        sessionMessagePublisher.send("/topic/session/" + sessionId, new DataEnvelope(messageType, data));
         log.debug("세션 참가자들에게 메시지 전송 - sessionId: {}, type: {}", sessionId, messageType);
     }
     
+    /**
+     * 재연결한 클라이언트가 마지막으로 받은 순번 이후의 메시지 조회
+     */
+    public SessionReplayBuffer.Replay resumeSession(String sessionId, String epoch, long lastSeq) {
+        sessionDirectory.touch(sessionId);
+        return sessionReplayBuffer.replaySince(sessionId, epoch, lastSeq);
+    }
+    
+    /**
+     * 세션의 현재 화면 상태 스냅샷 조회 (늦게 참여한 클라이언트용)
+     */
+    public SessionStateStore.Snapshot getSessionSnapshot(String sessionId) {
+        return sessionStateStore.snapshot(sessionId);
+    }
+    
     /**
      * 세션 정리
      */
     public void cleanupSession(String sessionId) {
-        sessionParticipants.remove(sessionId);
-        
-        // employeeSessions에서도 제거
-        employeeSessions.entrySet().removeIf(entry -> entry.getValue().equals(sessionId));
+        // 세션과 행원 -> 세션 인덱스를 함께 제거
+        sessionDirectory.remove(sessionId);
+        sessionReplayBuffer.remove(sessionId);
+        sessionStateStore.remove(sessionId);
         
         log.info("세션 정리 완료 - sessionId: {}", sessionId);
     }
@@ -147,7 +139,7 @@ public class SessionService {
      * 행원 로그아웃 시 세션 정리
      */
     public void cleanupEmployeeSession(String employeeId) {
-        String sessionId = employeeSessions.get(employeeId);
+        String sessionId = sessionDirectory.findSessionByEmployee(employeeId);
         if (sessionId != null) {
             // 태블릿에 연결 해제 알림
             notifyParticipants(sessionId, "employee-disconnected", Map.of(
@@ -170,6 +162,6 @@ public class SessionService {
      * 활성 세션 목록 조회 (디버깅용)
      */
     public Map<String, String> getActiveSessions() {
-        return new HashMap<>(employeeSessions);
+        return sessionDirectory.getEmployeeSessions();
     }
 }
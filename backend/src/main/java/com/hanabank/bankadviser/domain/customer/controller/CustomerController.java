@@ -6,12 +6,15 @@ import com.hanabank.bankadviser.domain.customer.dto.CustomerProductSummaryDto;
 import com.hanabank.bankadviser.domain.customer.entity.CustomerProduct;
 import com.hanabank.bankadviser.domain.customer.service.CustomerService;
 import com.hanabank.bankadviser.domain.customer.service.CustomerCacheService;
+import com.hanabank.bankadviser.domain.consultation.service.SessionMessagePublisher;
+import com.hanabank.bankadviser.domain.product.service.NextBestOfferBatchService;
+import com.hanabank.bankadviser.domain.product.service.NextBestOfferBatchService.NextBestOffers;
+import com.hanabank.bankadviser.domain.product.service.RecommendationPipelineService.ProductRecommendation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.ArrayList;
@@ -29,8 +32,9 @@ public class CustomerController {
     
     private final CustomerService customerService;
     private final CustomerCacheService customerCacheService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final SessionMessagePublisher sessionMessagePublisher;
     private final JdbcTemplate jdbcTemplate;
+    private final NextBestOfferBatchService nextBestOfferBatchService;
     
     @GetMapping
     public ResponseEntity<ApiResponse<List<CustomerDto>>> getAllCustomers() {
@@ -128,7 +132,7 @@ public class CustomerController {
             payload.put("timestamp", System.currentTimeMillis());
 
             String destination = "/topic/session/" + sessionId;
-            messagingTemplate.convertAndSend(destination, payload);
+            sessionMessagePublisher.send(destination, payload);
 
             Map<String, Object> resp = new HashMap<>();
             resp.put("sentTo", destination);
@@ -434,46 +438,27 @@ public class CustomerController {
             
             CustomerDto customer = customerOpt.get();
             
-            // 간단한 추천 로직 구현
-            List<Map<String, Object>> recommendations = new ArrayList<>();
-            
             // 나이 계산
             int age = 0;
             if (customer.getDateOfBirth() != null) {
                 age = java.time.Period.between(customer.getDateOfBirth(), java.time.LocalDate.now()).getYears();
             }
             
-            // 기본 추천 상품들
-            Map<String, Object> rec1 = new HashMap<>();
-            rec1.put("productId", "PROD_001");
-            rec1.put("productName", "하나은행 정기예금");
-            rec1.put("productType", "정기예금");
-            rec1.put("description", "안정적인 수익을 원하는 고객을 위한 정기예금 상품");
-            rec1.put("baseRate", 3.5);
-            rec1.put("recommendationScore", 85.0);
-            rec1.put("reason", "안정적인 수익을 위한 정기예금 상품입니다.");
-            recommendations.add(rec1);
-            
-            Map<String, Object> rec2 = new HashMap<>();
-            rec2.put("productId", "PROD_002");
-            rec2.put("productName", "하나은행 적금");
-            rec2.put("productType", "적금");
-            rec2.put("description", "꾸준한 저축을 원하는 고객을 위한 적금 상품");
-            rec2.put("baseRate", 4.0);
-            rec2.put("recommendationScore", 80.0);
-            rec2.put("reason", "꾸준한 저축을 위한 적금 상품입니다.");
-            recommendations.add(rec2);
-            
-            if (age < 40) {
-                Map<String, Object> rec3 = new HashMap<>();
-                rec3.put("productId", "PROD_003");
-                rec3.put("productName", "하나은행 펀드");
-                rec3.put("productType", "펀드");
-                rec3.put("description", "장기 투자를 원하는 젊은 고객을 위한 펀드 상품");
-                rec3.put("baseRate", 5.5);
-                rec3.put("recommendationScore", 75.0);
-                rec3.put("reason", "젊은 나이에 적합한 장기 투자 상품입니다.");
-                recommendations.add(rec3);
+            // 야간 일괄 계산된 추천 조회 (없으면 즉시 계산)
+            Optional<NextBestOffers> offersOpt = nextBestOfferBatchService.getRecommendations(customerId);
+            List<Map<String, Object>> recommendations = new ArrayList<>();
+            if (offersOpt.isPresent()) {
+                for (ProductRecommendation offer : offersOpt.get().getRecommendations()) {
+                    Map<String, Object> rec = new HashMap<>();
+                    rec.put("productId", offer.getProductId());
+                    rec.put("productName", offer.getProductName());
+                    rec.put("productType", offer.getProductType());
+                    rec.put("description", offer.getDescription());
+                    rec.put("baseRate", offer.getInterestRate());
+                    rec.put("recommendationScore", Math.round(offer.getScore() * 1000) / 10.0);
+                    rec.put("reason", offer.getReason());
+                    recommendations.add(rec);
+                }
             }
             
             Map<String, Object> result = new HashMap<>();
@@ -483,6 +468,8 @@ public class CustomerController {
             result.put("customerAge", age);
             result.put("message", "고객 맞춤 상품 추천이 완료되었습니다!");
             result.put("recommendations", recommendations);
+            result.put("precomputed", offersOpt.map(NextBestOffers::isPrecomputed).orElse(false));
+            result.put("computedAt", offersOpt.map(NextBestOffers::getComputedAt).orElse(null));
             
             return ResponseEntity.ok(result);
         } catch (Exception e) {
@@ -0,0 +1,32 @@
+package com.hanabank.bankadviser.domain.customer.event;
+
+import lombok.Getter;
+
+/**
+ * 고객 정보 변경 이벤트
+ * 고객 프로필을 캐시하는 컴포넌트가 구독하여 캐시를 무효화
+ */
+@Getter
+public class CustomerChangedEvent {
+
+    /**
+     * 변경된 고객 ID (null이면 전체 고객 변경)
+     */
+    private final String customerId;
+
+    private CustomerChangedEvent(String customerId) {
+        this.customerId = customerId;
+    }
+
+    public static CustomerChangedEvent of(String customerId) {
+        return new CustomerChangedEvent(customerId);
+    }
+
+    public static CustomerChangedEvent all() {
+        return new CustomerChangedEvent(null);
+    }
+
+    public boolean isAllCustomers() {
+        return customerId == null;
+    }
+}
@@ -5,10 +5,12 @@ import com.hanabank.bankadviser.domain.customer.dto.CustomerProductDto;
 import com.hanabank.bankadviser.domain.customer.dto.CustomerProductSummaryDto;
 import com.hanabank.bankadviser.domain.customer.entity.Customer;
 import com.hanabank.bankadviser.domain.customer.entity.CustomerProduct;
+import com.hanabank.bankadviser.domain.customer.event.CustomerChangedEvent;
 import com.hanabank.bankadviser.domain.customer.repository.CustomerProductRepository;
 import com.hanabank.bankadviser.domain.customer.repository.CustomerRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -28,6 +30,7 @@ public class CustomerService {
     
     private final CustomerRepository customerRepository;
     private final CustomerProductRepository customerProductRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     // Repository 접근을 위한 getter 메서드
     public CustomerRepository getCustomerRepository() {
@@ -260,6 +263,7 @@ public class CustomerService {
     public CustomerDto saveCustomer(CustomerDto customerDto) {
         Customer customer = convertToEntity(customerDto);
         Customer savedCustomer = customerRepository.save(customer);
+        eventPublisher.publishEvent(CustomerChangedEvent.of(savedCustomer.getCustomerId()));
         return convertToDto(savedCustomer);
     }
     
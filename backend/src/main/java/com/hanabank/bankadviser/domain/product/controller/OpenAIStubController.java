@@ -0,0 +1,138 @@
+package com.hanabank.bankadviser.domain.product.controller;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로컬 테스트용 OpenAI 스텁 서버 (openai.stub.enabled=true인 경우에만 등록)
+ * openai.api.url을 이 서버 주소(예: http://localhost:8080/v1)로 지정하면
+ * 느린 응답 / 실패 응답에 대한 제한 시간, 서킷 브레이커, 동시 호출 제한 동작을 확인할 수 있음
+ *
+ * - POST /v1/chat/completions: 시스템 프롬프트로 호출 종류를 구분해 형식에 맞는 고정 응답 반환
+ * - GET/POST /v1/stub/config: 지연 시간, 실패 비율, 실패 상태 코드 조회 / 변경
+ */
+@RestController
+@RequestMapping("/v1")
+@ConditionalOnProperty(name = "openai.stub.enabled", havingValue = "true")
+@Slf4j
+public class OpenAIStubController {
+
+    private final AtomicLong requestSequence = new AtomicLong();
+
+    private volatile long delayMs;
+    private volatile double failureRate;
+    private volatile int failureStatus;
+
+    public OpenAIStubController(@Value("${openai.stub.delay-ms:0}") long delayMs,
+                                @Value("${openai.stub.failure-rate:0}") double failureRate,
+                                @Value("${openai.stub.failure-status:503}") int failureStatus) {
+        this.delayMs = delayMs;
+        this.failureRate = failureRate;
+        this.failureStatus = failureStatus;
+        log.warn("⚠️ OpenAI 스텁 서버 활성화 - delay: {}ms, failureRate: {}, failureStatus: {}", delayMs, failureRate, failureStatus);
+    }
+
+    @PostMapping("/chat/completions")
+    public ResponseEntity<Map<String, Object>> chatCompletions(@RequestBody Map<String, Object> request) throws InterruptedException {
+        long id = requestSequence.incrementAndGet();
+        if (delayMs > 0) {
+            Thread.sleep(delayMs);
+        }
+        if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+            log.info("OpenAI 스텁 실패 응답 - id: {}, status: {}", id, failureStatus);
+            Map<String, Object> error = new LinkedHashMap<>();
+            error.put("message", "stub failure");
+            error.put("type", "server_error");
+            return ResponseEntity.status(HttpStatus.valueOf(failureStatus)).body(Map.of("error", error));
+        }
+
+        String content = contentFor(systemPrompt(request));
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("role", "assistant");
+        message.put("content", content);
+
+        Map<String, Object> choice = new LinkedHashMap<>();
+        choice.put("index", 0);
+        choice.put("message", message);
+        choice.put("finish_reason", "stop");
+
+        Map<String, Object> usage = new LinkedHashMap<>();
+        usage.put("prompt_tokens", 50);
+        usage.put("completion_tokens", 20);
+        usage.put("total_tokens", 70);
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("id", "chatcmpl-stub-" + id);
+        response.put("object", "chat.completion");
+        response.put("created", System.currentTimeMillis() / 1000);
+        response.put("model", request.getOrDefault("model", "gpt-3.5-turbo"));
+        response.put("choices", List.of(choice));
+        response.put("usage", usage);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/stub/config")
+    public Map<String, Object> config() {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("delayMs", delayMs);
+        config.put("failureRate", failureRate);
+        config.put("failureStatus", failureStatus);
+        config.put("requests", requestSequence.get());
+        return config;
+    }
+
+    @PostMapping("/stub/config")
+    public Map<String, Object> updateConfig(@RequestBody Map<String, Number> update) {
+        if (update.containsKey("delayMs")) {
+            delayMs = Math.max(update.get("delayMs").longValue(), 0);
+        }
+        if (update.containsKey("failureRate")) {
+            failureRate = Math.min(Math.max(update.get("failureRate").doubleValue(), 0.0), 1.0);
+        }
+        if (update.containsKey("failureStatus")) {
+            failureStatus = update.get("failureStatus").intValue();
+        }
+        log.info("OpenAI 스텁 설정 변경 - {}", config());
+        return config();
+    }
+
+    @SuppressWarnings("unchecked")
+    private String systemPrompt(Map<String, Object> request) {
+        Object messages = request.get("messages");
+        if (messages instanceof List) {
+            for (Object message : (List<Object>) messages) {
+                if (message instanceof Map && "system".equals(((Map<String, Object>) message).get("role"))) {
+                    return String.valueOf(((Map<String, Object>) message).get("content"));
+                }
+            }
+        }
+        return "";
+    }
+
+    // OpenAIService의 호출 종류별 응답 형식
+    private String contentFor(String systemPrompt) {
+        if (systemPrompt.contains("\"keywords\"")) {
+            return "{\"keywords\": [\"대출\", \"주택\", \"금리\"], \"intent\": \"주택대출문의\", \"confidence\": 0.9}";
+        }
+        if (systemPrompt.contains("\"intent\"")) {
+            return "{\"intent\": \"주택대출문의\", \"confidence\": 0.9}";
+        }
+        if (systemPrompt.contains("키워드")) {
+            return "대출,주택,금리";
+        }
+        if (systemPrompt.contains("음성 인식")) {
+            return "{\"confidence\": 0.95, \"language\": \"ko\", \"timestamp\": \"2024-01-01T00:00:00\"}";
+        }
+        return "고객님의 주택 구매 계획에 맞춰 안정적인 금리로 자금을 마련할 수 있는 상품입니다.";
+    }
+}
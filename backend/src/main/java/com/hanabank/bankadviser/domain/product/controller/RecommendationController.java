@@ -1,12 +1,17 @@
 package com.hanabank.bankadviser.domain.product.controller;
 
+import com.hanabank.bankadviser.domain.consultation.dto.SessionMessages.RecommendationData;
+import com.hanabank.bankadviser.domain.product.service.NextBestOfferBatchService;
 import com.hanabank.bankadviser.domain.product.service.RecommendationPipelineService;
+import com.hanabank.bankadviser.domain.product.service.RecommendationProgressListener;
+import com.hanabank.bankadviser.domain.product.service.RecommendationRequestDeduplicator;
 import com.hanabank.bankadviser.domain.consultation.controller.WebSocketController;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.Map;
 
 @Slf4j
@@ -16,27 +21,38 @@ import java.util.Map;
 @CrossOrigin(origins = "*")
 public class RecommendationController {
 
-    private final RecommendationPipelineService recommendationPipelineService;
+    private final RecommendationRequestDeduplicator recommendationRequestDeduplicator;
     private final WebSocketController webSocketController;
+    private final NextBestOfferBatchService nextBestOfferBatchService;
+
+    private static final String BATCH_STATUS_PATH = "/api/recommendations/batch/status";
 
     /**
-     * 음성 기반 상품 추천 API
+     * 음성 기반 상품 추천 API (debug=true면 단계별 소요 시간 포함)
      */
     @PostMapping("/pipeline")
-    public ResponseEntity<?> getRecommendations(@RequestBody RecommendationRequest request) {
+    public ResponseEntity<?> getRecommendations(@RequestBody RecommendationRequest request,
+                                                @RequestParam(defaultValue = "false") boolean debug) {
         try {
             log.info("🎤 추천 요청 받음 - 고객ID: {}, 음성텍스트: {}", request.getCustomerId(), request.getVoiceText());
 
-            // 6단계 추천 파이프라인 실행
-            RecommendationPipelineService.RecommendationResult result = 
-                recommendationPipelineService.executeRecommendationPipeline(
-                    request.getCustomerId(), 
-                    request.getVoiceText()
-                );
+            // 6단계 추천 파이프라인 실행 (같은 고객 / 음성 텍스트로 실행 중인 요청이 있으면 결과 공유)
+            RecommendationRequestDeduplicator.Outcome outcome = recommendationRequestDeduplicator.execute(
+                request.getCustomerId(),
+                request.getVoiceText(),
+                RecommendationProgressListener.NONE
+            );
+            RecommendationPipelineService.RecommendationResult result = outcome.getResult();
 
-            // WebSocket으로 실시간 추천 결과 전송
-            sendRecommendationToWebSocket(result);
+            // WebSocket으로 실시간 추천 결과 전송 (결과를 공유받은 요청은 이미 전송되었으므로 생략)
+            if (outcome.isLeader()) {
+                sendRecommendationToWebSocket(result);
+            }
 
+            // 공유될 수 있는 결과이므로 수정하지 않고 복사본에서 추적 기록 제외
+            if (!debug && result.getTrace() != null) {
+                result = result.toBuilder().trace(null).build();
+            }
             return ResponseEntity.ok(result);
 
         } catch (Exception e) {
@@ -46,20 +62,42 @@ public class RecommendationController {
         }
     }
 
+    /**
+     * 야간 일괄 추천 계산 상태 조회
+     */
+    @GetMapping("/batch/status")
+    public ResponseEntity<Map<String, Object>> getBatchStatus() {
+        return ResponseEntity.ok(nextBestOfferBatchService.status());
+    }
+
+    /**
+     * 야간 일괄 추천 계산 수동 실행 (비동기 시작 후 202 + 상태 조회 경로, 이미 실행 중이면 409)
+     */
+    @PostMapping("/batch/run")
+    public ResponseEntity<?> runBatch() {
+        log.info("🌙 일괄 추천 계산 수동 실행 요청");
+        if (!nextBestOfferBatchService.triggerBatch()) {
+            return ResponseEntity.status(409).body(Map.of("error", "일괄 추천 계산이 이미 실행 중입니다."));
+        }
+        return ResponseEntity.accepted()
+            .location(URI.create(BATCH_STATUS_PATH))
+            .body(Map.of("message", "일괄 추천 계산을 시작했습니다.", "statusUrl", BATCH_STATUS_PATH));
+    }
+
     /**
      * WebSocket을 통해 추천 결과를 실시간으로 전송
      */
     private void sendRecommendationToWebSocket(RecommendationPipelineService.RecommendationResult result) {
         try {
             // WebSocket 메시지 구성
-            Map<String, Object> message = Map.of(
-                "sessionId", result.getSessionId(),
-                "customerId", result.getCustomerId(),
-                "intent", result.getIntentAnalysis() != null ? result.getIntentAnalysis().getIntent() : "일반상담",
-                "confidence", result.getConfidence(),
-                "recommendations", result.getRecommendations(),
-                "timestamp", result.getTimestamp()
-            );
+            RecommendationData message = RecommendationData.builder()
+                .sessionId(result.getSessionId())
+                .customerId(result.getCustomerId())
+                .intent(result.getIntentAnalysis() != null ? result.getIntentAnalysis().getIntent() : "일반상담")
+                .confidence(result.getConfidence())
+                .recommendations(result.getRecommendations())
+                .timestamp(result.getTimestamp())
+                .build();
 
             // WebSocket을 통해 실시간 전송
             webSocketController.sendRecommendationResult(result.getCustomerId(), message);
@@ -0,0 +1,32 @@
+package com.hanabank.bankadviser.domain.product.event;
+
+import lombok.Getter;
+
+/**
+ * 상품 또는 상품 서식 변경 이벤트
+ * 상품 정보를 캐시하는 컴포넌트가 구독하여 캐시를 무효화
+ */
+@Getter
+public class ProductChangedEvent {
+
+    /**
+     * 변경된 상품 ID (null이면 전체 상품 변경)
+     */
+    private final String productId;
+
+    private ProductChangedEvent(String productId) {
+        this.productId = productId;
+    }
+
+    public static ProductChangedEvent of(String productId) {
+        return new ProductChangedEvent(productId);
+    }
+
+    public static ProductChangedEvent all() {
+        return new ProductChangedEvent(null);
+    }
+
+    public boolean isAllProducts() {
+        return productId == null;
+    }
+}
@@ -0,0 +1,155 @@
+package com.hanabank.bankadviser.domain.product.service;
+
+import com.hanabank.bankadviser.domain.customer.event.CustomerChangedEvent;
+import com.hanabank.bankadviser.domain.product.service.RecommendationPipelineService.CustomerProfile;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 추천 파이프라인용 고객 프로필 스냅샷 캐시
+ * 상담 중에는 고객 프로필이 거의 바뀌지 않으므로 행원이 고객을 선택할 때 미리 적재해 두고,
+ * 추천 요청마다 DB 조회와 금융 건강도 / 나이 계산을 반복하지 않음
+ *
+ * - 고객 정보 변경 시 CustomerChangedEvent로 무효화, 그 외에는 ttl-ms 경과 후 만료
+ * - 무효화 전에 시작된 적재 결과는 저장하지 않음 (적재 시작 시점의 세대 번호와 고객별 마지막 무효화 세대로 확인,
+ *   다른 고객의 변경은 진행 중인 적재에 영향을 주지 않음)
+ * - 프로필 스냅샷은 공유되므로 사용하는 쪽에서 수정하지 않음
+ */
+@Component
+@Slf4j
+public class CustomerProfileCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    // 고객별 마지막 무효화 세대 (적재 시간보다 충분히 긴 정리 주기 한 번이 지나면 제거)
+    private final Map<String, Long> invalidatedAt = new ConcurrentHashMap<>();
+    private volatile long allInvalidatedAt = 0;
+    private long reapedThrough = 0;
+    private final long ttlMillis;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public CustomerProfileCache(MeterRegistry meterRegistry,
+                                @Value("${recommendation.profile-cache.ttl-ms:1800000}") long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+        this.hitCounter = Counter.builder("recommendation.profile.cache")
+            .description("고객 프로필 스냅샷 캐시 조회 결과")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.missCounter = Counter.builder("recommendation.profile.cache")
+            .description("고객 프로필 스냅샷 캐시 조회 결과")
+            .tag("result", "miss")
+            .register(meterRegistry);
+        Gauge.builder("recommendation.profile.cache.entries", entries, Map::size)
+            .description("고객 프로필 스냅샷 캐시 항목 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 프로필 (없거나 만료되었으면 null)
+     */
+    public CustomerProfile get(String customerId) {
+        Entry entry = customerId != null ? entries.get(customerId) : null;
+        if (entry == null || entry.isExpired()) {
+            missCounter.increment();
+            return null;
+        }
+        hitCounter.increment();
+        return entry.profile;
+    }
+
+    /**
+     * 만료되지 않은 프로필이 있는지 (조회 지표에 포함하지 않음, 미리 적재 여부 판단용)
+     */
+    public boolean contains(String customerId) {
+        Entry entry = customerId != null ? entries.get(customerId) : null;
+        return entry != null && !entry.isExpired();
+    }
+
+    /**
+     * 적재 시작 전에 받아 두는 세대 번호 (put에 전달)
+     * 이후 같은 고객 또는 전체 고객이 무효화되면 이 세대로 시작한 적재 결과는 저장되지 않음
+     */
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * DB에서 적재한 프로필 저장 (적재 중 무효화가 있었으면 저장하지 않음)
+     */
+    public void put(CustomerProfile profile, long loadGeneration) {
+        String customerId = profile.getCustomerId();
+        long expiresAt = ttlMillis > 0 ? System.currentTimeMillis() + ttlMillis : Long.MAX_VALUE;
+        // 무효화 세대 확인과 저장을 같은 키 잠금 안에서 수행 (확인 직후 무효화되어도 invalidate의 remove가 뒤에 실행됨)
+        entries.compute(customerId, (id, current) -> {
+            if (isInvalidatedSince(id, loadGeneration)) {
+                log.debug("적재 중 고객 정보가 변경되어 프로필 캐시 저장 생략 - 고객ID: {}", id);
+                return current;
+            }
+            return new Entry(profile, expiresAt);
+        });
+    }
+
+    public void invalidate(String customerId) {
+        long invalidatedGeneration = generation.incrementAndGet();
+        if (customerId == null) {
+            allInvalidatedAt = invalidatedGeneration;
+            entries.clear();
+        } else {
+            invalidatedAt.merge(customerId, invalidatedGeneration, Math::max);
+            entries.remove(customerId);
+        }
+    }
+
+    private boolean isInvalidatedSince(String customerId, long loadGeneration) {
+        if (allInvalidatedAt > loadGeneration) {
+            return true;
+        }
+        Long customerInvalidatedAt = invalidatedAt.get(customerId);
+        return customerInvalidatedAt != null && customerInvalidatedAt > loadGeneration;
+    }
+
+    /**
+     * 고객 정보 변경 시 프로필 무효화
+     */
+    @EventListener
+    public void onCustomerChanged(CustomerChangedEvent event) {
+        invalidate(event.getCustomerId());
+        log.info("🗑️ 고객 프로필 캐시 무효화 - 고객ID: {}", event.isAllCustomers() ? "ALL" : event.getCustomerId());
+    }
+
+    @Scheduled(fixedDelayString = "${recommendation.profile-cache.reap-interval-ms:60000}")
+    public synchronized void reapExpired() {
+        entries.values().removeIf(Entry::isExpired);
+        // 직전 정리 이전의 무효화 기록은 그 전에 시작된 적재가 모두 끝났으므로 제거
+        long mark = generation.get();
+        long previous = reapedThrough;
+        invalidatedAt.values().removeIf(invalidated -> invalidated <= previous);
+        reapedThrough = mark;
+    }
+
+    private static class Entry {
+        private final CustomerProfile profile;
+        private final long expiresAt;
+
+        private Entry(CustomerProfile profile, long expiresAt) {
+            this.profile = profile;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.hanabank.bankadviser.domain.product.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 음성 텍스트 의도 분류용 최근접 중심(nearest-centroid) 모델
+ * 단어 / 글자 2-gram / 3-gram을 해시 벡터(sublinear TF, L2 정규화)로 만들고,
+ * 의도별 예문 벡터의 평균(중심)과 코사인 유사도가 가장 큰 의도를 선택
+ *
+ * Spring 의존성이 없으므로 애플리케이션 밖(IntentClassifierEvaluationTest)에서도 같은 모델로 평가 가능
+ * 학습 후에는 불변이므로 여러 스레드가 잠금 없이 공유
+ */
+public class IntentCentroidModel {
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    // 신뢰도(유사도 softmax) 계산 온도 - 작을수록 1, 2위 유사도 차이에 민감
+    private static final double SOFTMAX_TEMPERATURE = 0.05;
+
+    private final int dimensions;
+    private final List<String> intents;
+    private final float[][] centroids;
+
+    private IntentCentroidModel(int dimensions, List<String> intents, float[][] centroids) {
+        this.dimensions = dimensions;
+        this.intents = intents;
+        this.centroids = centroids;
+    }
+
+    /**
+     * 예문으로 의도별 중심 벡터 학습
+     *
+     * @param dimensions 해시 벡터 차원 수
+     */
+    public static IntentCentroidModel train(List<LabelledTranscript> examples, int dimensions) {
+        Map<String, float[]> sums = new LinkedHashMap<>();
+        for (LabelledTranscript example : examples) {
+            float[] sum = sums.computeIfAbsent(example.getIntent(), intent -> new float[dimensions]);
+            SparseVector vector = vectorize(example.getTranscript(), dimensions);
+            for (int i = 0; i < vector.indices.length; i++) {
+                sum[vector.indices[i]] += vector.values[i];
+            }
+        }
+
+        List<String> intents = new ArrayList<>(sums.keySet());
+        float[][] centroids = new float[intents.size()][];
+        for (int i = 0; i < intents.size(); i++) {
+            float[] centroid = sums.get(intents.get(i));
+            double norm = 0.0;
+            for (float value : centroid) {
+                norm += value * value;
+            }
+            norm = Math.sqrt(norm);
+            if (norm > 0) {
+                for (int d = 0; d < centroid.length; d++) {
+                    centroid[d] /= norm;
+                }
+            }
+            centroids[i] = centroid;
+        }
+        return new IntentCentroidModel(dimensions, Collections.unmodifiableList(intents), centroids);
+    }
+
+    /**
+     * 가장 가까운 의도와 유사도 / 2위와의 차이 / 신뢰도
+     */
+    public Prediction predict(String transcript) {
+        SparseVector vector = vectorize(transcript, dimensions);
+        double best = -1.0;
+        double second = -1.0;
+        int bestIndex = -1;
+        double[] similarities = new double[centroids.length];
+        for (int c = 0; c < centroids.length; c++) {
+            float[] centroid = centroids[c];
+            double similarity = 0.0;
+            for (int i = 0; i < vector.indices.length; i++) {
+                similarity += centroid[vector.indices[i]] * vector.values[i];
+            }
+            similarities[c] = similarity;
+            if (similarity > best) {
+                second = best;
+                best = similarity;
+                bestIndex = c;
+            } else if (similarity > second) {
+                second = similarity;
+            }
+        }
+        if (bestIndex < 0 || vector.indices.length == 0) {
+            return new Prediction(null, 0.0, 0.0, 0.0);
+        }
+
+        double partition = 0.0;
+        for (double similarity : similarities) {
+            partition += Math.exp((similarity - best) / SOFTMAX_TEMPERATURE);
+        }
+        return new Prediction(intents.get(bestIndex), best, best - Math.max(second, 0.0), 1.0 / partition);
+    }
+
+    public List<String> getIntents() {
+        return intents;
+    }
+
+    /**
+     * 단어 + 단어 경계를 포함한 글자 2-gram / 3-gram 해시 벡터 (조사 / 어미 변화에 덜 민감)
+     */
+    static SparseVector vectorize(String text, int dimensions) {
+        Map<Integer, Integer> counts = new HashMap<>();
+        String cleaned = text != null ? NON_WORD.matcher(text.toLowerCase()).replaceAll(" ").trim() : "";
+        if (!cleaned.isEmpty()) {
+            for (String word : cleaned.split(" ")) {
+                counts.merge(Math.floorMod(("w:" + word).hashCode(), dimensions), 1, Integer::sum);
+                String bounded = "^" + word + "$";
+                for (int n = 2; n <= 3; n++) {
+                    for (int i = 0; i + n <= bounded.length(); i++) {
+                        counts.merge(Math.floorMod(bounded.substring(i, i + n).hashCode(), dimensions), 1, Integer::sum);
+                    }
+                }
+            }
+        }
+
+        int[] indices = new int[counts.size()];
+        float[] values = new float[counts.size()];
+        double norm = 0.0;
+        int i = 0;
+        for (Map.Entry<Integer, Integer> entry : counts.entrySet()) {
+            indices[i] = entry.getKey();
+            values[i] = (float) (1.0 + Math.log(entry.getValue()));
+            norm += values[i] * values[i];
+            i++;
+        }
+        norm = Math.sqrt(norm);
+        for (int v = 0; v < values.length; v++) {
+            values[v] /= norm;
+        }
+        return new SparseVector(indices, values);
+    }
+
+    /**
+     * "의도<TAB>음성 텍스트" 형식 예문 읽기 (빈 줄, #으로 시작하는 줄은 무시)
+     */
+    public static List<LabelledTranscript> readTsv(InputStream input) throws IOException {
+        List<LabelledTranscript> examples = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                int tab = line.indexOf('\t');
+                if (tab <= 0 || tab == line.length() - 1) {
+                    throw new IOException("예문 형식 오류 (의도<TAB>음성 텍스트): " + line);
+                }
+                examples.add(new LabelledTranscript(line.substring(0, tab).trim(), line.substring(tab + 1).trim()));
+            }
+        }
+        return examples;
+    }
+
+    static class SparseVector {
+        private final int[] indices;
+        private final float[] values;
+
+        private SparseVector(int[] indices, float[] values) {
+            this.indices = indices;
+            this.values = values;
+        }
+    }
+
+    public static class LabelledTranscript {
+        private final String intent;
+        private final String transcript;
+
+        public LabelledTranscript(String intent, String transcript) {
+            this.intent = intent;
+            this.transcript = transcript;
+        }
+
+        public String getIntent() {
+            return intent;
+        }
+
+        public String getTranscript() {
+            return transcript;
+        }
+    }
+
+    public static class Prediction {
+        private final String intent;
+        private final double similarity;
+        private final double margin;
+        private final double confidence;
+
+        private Prediction(String intent, double similarity, double margin, double confidence) {
+            this.intent = intent;
+            this.similarity = similarity;
+            this.margin = margin;
+            this.confidence = confidence;
+        }
+
+        /**
+         * 가장 가까운 의도 (입력에 단어가 없으면 null)
+         */
+        public String getIntent() {
+            return intent;
+        }
+
+        /**
+         * 가장 가까운 중심과의 코사인 유사도
+         */
+        public double getSimilarity() {
+            return similarity;
+        }
+
+        /**
+         * 1위와 2위 유사도 차이
+         */
+        public double getMargin() {
+            return margin;
+        }
+
+        /**
+         * 의도별 유사도 softmax에서 1위 의도의 비중 (0~1)
+         */
+        public double getConfidence() {
+            return confidence;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s(similarity=%.3f, margin=%.3f, confidence=%.3f)", intent, similarity, margin, confidence);
+        }
+    }
+}
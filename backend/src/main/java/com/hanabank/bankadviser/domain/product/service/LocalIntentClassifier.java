@@ -0,0 +1,98 @@
+package com.hanabank.bankadviser.domain.product.service;
+
+import com.hanabank.bankadviser.domain.product.service.IntentCentroidModel.LabelledTranscript;
+import com.hanabank.bankadviser.domain.product.service.IntentCentroidModel.Prediction;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OpenAI 호출 전 로컬 의도 분류 (빠른 경로)
+ * 예문으로 학습한 최근접 중심 모델로 분류하고, 유사도와 신뢰도가 모두 기준 이상인 경우에만 결과를 사용
+ * 애매한 음성 텍스트는 empty를 반환하여 OpenAI 의도 분석으로 넘김
+ *
+ * 예문 파일을 읽지 못하면 비활성화되어 항상 OpenAI를 사용
+ * 기준값 조정은 IntentClassifierEvaluationTest가 평가용 예문의 정확도 / 처리 비율로 검사
+ */
+@Component
+@Slf4j
+public class LocalIntentClassifier {
+
+    private final IntentCentroidModel model;
+    private final double minSimilarity;
+    private final double minConfidence;
+
+    private final Counter localCounter;
+    private final Counter escalatedCounter;
+    private final Timer classifyTimer;
+
+    public LocalIntentClassifier(MeterRegistry meterRegistry,
+                                 @Value("${recommendation.intent-classifier.enabled:true}") boolean enabled,
+                                 @Value("${recommendation.intent-classifier.examples:classpath:intent/intent-examples.tsv}") String examples,
+                                 @Value("${recommendation.intent-classifier.dimensions:4096}") int dimensions,
+                                 @Value("${recommendation.intent-classifier.min-similarity:0.35}") double minSimilarity,
+                                 @Value("${recommendation.intent-classifier.min-confidence:0.8}") double minConfidence) {
+        this.minSimilarity = minSimilarity;
+        this.minConfidence = minConfidence;
+        this.model = enabled ? loadModel(examples, Math.max(dimensions, 256)) : null;
+
+        this.localCounter = Counter.builder("intent.classifier")
+            .description("로컬 의도 분류 결과")
+            .tag("result", "local")
+            .register(meterRegistry);
+        this.escalatedCounter = Counter.builder("intent.classifier")
+            .description("로컬 의도 분류 결과")
+            .tag("result", "escalated")
+            .register(meterRegistry);
+        this.classifyTimer = Timer.builder("intent.classifier.duration")
+            .description("로컬 의도 분류 소요 시간")
+            .register(meterRegistry);
+    }
+
+    private IntentCentroidModel loadModel(String location, int dimensions) {
+        Resource resource = new DefaultResourceLoader().getResource(location);
+        try (InputStream input = resource.getInputStream()) {
+            List<LabelledTranscript> examples = IntentCentroidModel.readTsv(input);
+            IntentCentroidModel trained = IntentCentroidModel.train(examples, dimensions);
+            log.info("✅ 로컬 의도 분류기 학습 완료 - 예문 {}개, 의도 {}개, 기준: similarity >= {}, confidence >= {}",
+                examples.size(), trained.getIntents().size(), minSimilarity, minConfidence);
+            return trained;
+        } catch (Exception e) {
+            log.warn("⚠️ 로컬 의도 분류기 예문 로드 실패, OpenAI 의도 분석만 사용 - {}: {}", location, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 확실하게 분류된 경우에만 결과 반환 (그 외에는 OpenAI로 넘김)
+     */
+    public Optional<Prediction> classify(String transcript) {
+        if (model == null || transcript == null || transcript.isBlank()) {
+            return Optional.empty();
+        }
+        long start = System.nanoTime();
+        Prediction prediction = model.predict(transcript);
+        classifyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (prediction.getIntent() != null
+            && prediction.getSimilarity() >= minSimilarity
+            && prediction.getConfidence() >= minConfidence) {
+            localCounter.increment();
+            log.info("⚡ 로컬 의도 분류 사용 - {}", prediction);
+            return Optional.of(prediction);
+        }
+        escalatedCounter.increment();
+        log.debug("로컬 의도 분류 불확실, OpenAI로 전달 - {}", prediction);
+        return Optional.empty();
+    }
+}
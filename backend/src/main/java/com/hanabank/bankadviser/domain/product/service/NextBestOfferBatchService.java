@@ -0,0 +1,374 @@
+package com.hanabank.bankadviser.domain.product.service;
+
+import com.hanabank.bankadviser.domain.customer.entity.Customer;
+import com.hanabank.bankadviser.domain.customer.event.CustomerChangedEvent;
+import com.hanabank.bankadviser.domain.customer.repository.CustomerRepository;
+import com.hanabank.bankadviser.domain.product.service.ProductScoringIndex.IndexedProduct;
+import com.hanabank.bankadviser.domain.product.service.RecommendationPipelineService.CustomerProfile;
+import com.hanabank.bankadviser.domain.product.service.RecommendationPipelineService.ProductRecommendation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 고객별 다음 추천 상품(next-best-offer) 야간 일괄 계산
+ * 음성 텍스트 없이 고객 프로필만으로 전체 판매중 상품을 점수 계산해 두고,
+ * 고객 상세 화면의 추천 조회는 미리 계산된 결과를 바로 반환
+ *
+ * - 고객은 page-size 단위로 조회하고, 한 페이지는 전용 ForkJoinPool에서 병렬 점수 계산
+ * - 결과는 고객별 상품 ID / 점수 배열로만 보관하고, 조회 시 상품 인덱스에서 상품 정보를 채움
+ *   (판매 중지된 상품은 조회 시 제외)
+ * - 아직 계산되지 않은 고객은 조회 시 즉시 계산 후 저장
+ * - 결과마다 계산에 사용한 상품 카탈로그 버전을 보관하고, 판매중 상품이 실제로 바뀌었으면 조회 시 다시 계산
+ *   (신규 상품이 다음 야간 실행까지 추천에서 빠지지 않도록, 내용 변경 없는 카탈로그 재적재는 영향 없음)
+ * - 수동 실행(trigger)은 전용 스레드에서 비동기로 실행
+ */
+@Service
+@Slf4j
+public class NextBestOfferBatchService {
+
+    private final CustomerRepository customerRepository;
+    private final RecommendationPipelineService recommendationPipelineService;
+    private final ProductScoringIndex productScoringIndex;
+    private final int pageSize;
+    private final int topK;
+    private final ForkJoinPool scoringPool;
+    private final ExecutorService batchRunner;
+
+    private final Map<String, PrecomputedOffers> offers = new ConcurrentHashMap<>();
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile long lastCompletedAt;
+    private volatile int lastScoredCustomers;
+
+    private final Timer batchTimer;
+    private final Counter customerCounter;
+    private final Counter failureCounter;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter staleCounter;
+
+    public NextBestOfferBatchService(CustomerRepository customerRepository,
+                                     RecommendationPipelineService recommendationPipelineService,
+                                     ProductScoringIndex productScoringIndex,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${recommendation.batch.page-size:500}") int pageSize,
+                                     @Value("${recommendation.batch.top-k:5}") int topK,
+                                     @Value("${recommendation.batch.parallelism:0}") int parallelism) {
+        this.customerRepository = customerRepository;
+        this.recommendationPipelineService = recommendationPipelineService;
+        this.productScoringIndex = productScoringIndex;
+        this.pageSize = Math.max(pageSize, 1);
+        this.topK = Math.max(topK, 1);
+
+        // 0이면 CPU 코어 수만큼 병렬 계산
+        int poolParallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.scoringPool = new ForkJoinPool(poolParallelism, new BatchThreadFactory(), null, false);
+        this.batchRunner = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "recommendation-batch-runner");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.batchTimer = Timer.builder("recommendation.batch.duration")
+            .description("야간 일괄 추천 계산 소요 시간")
+            .register(meterRegistry);
+        this.customerCounter = Counter.builder("recommendation.batch.customers")
+            .description("일괄 추천 계산 고객 수")
+            .tag("result", "scored")
+            .register(meterRegistry);
+        this.failureCounter = Counter.builder("recommendation.batch.customers")
+            .description("일괄 추천 계산 고객 수")
+            .tag("result", "failed")
+            .register(meterRegistry);
+        this.hitCounter = Counter.builder("recommendation.batch.lookups")
+            .description("미리 계산된 추천 조회 결과")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.missCounter = Counter.builder("recommendation.batch.lookups")
+            .description("미리 계산된 추천 조회 결과")
+            .tag("result", "miss")
+            .register(meterRegistry);
+        this.staleCounter = Counter.builder("recommendation.batch.lookups")
+            .description("미리 계산된 추천 조회 결과")
+            .tag("result", "stale")
+            .register(meterRegistry);
+        Gauge.builder("recommendation.batch.entries", offers, Map::size)
+            .description("미리 계산된 추천 보관 고객 수")
+            .register(meterRegistry);
+
+        log.info("다음 추천 상품 일괄 계산 초기화 - pageSize: {}, topK: {}, parallelism: {}",
+            this.pageSize, this.topK, poolParallelism);
+    }
+
+    /**
+     * 전체 고객 추천 일괄 계산 (이미 실행 중이면 건너뜀)
+     *
+     * @return 계산한 고객 수 (실행 중이어서 건너뛴 경우 -1)
+     */
+    @Scheduled(cron = "${recommendation.batch.cron:0 0 3 * * *}")
+    public int runBatch() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("⚠️ 일괄 추천 계산이 이미 실행 중이어서 건너뜀");
+            return -1;
+        }
+        try {
+            return executeBatch();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 전체 고객 추천 일괄 계산을 전용 스레드에서 시작하고 바로 반환 (관리용 수동 실행)
+     *
+     * @return 시작했으면 true, 이미 실행 중이면 false
+     */
+    public boolean triggerBatch() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            batchRunner.execute(() -> {
+                try {
+                    executeBatch();
+                } finally {
+                    running.set(false);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    private int executeBatch() {
+        long start = System.currentTimeMillis();
+        try {
+            long catalogVersion = productScoringIndex.version();
+            List<IndexedProduct> products = productScoringIndex.products();
+            log.info("🌙 일괄 추천 계산 시작 - 판매중 상품 {}개, 카탈로그 v{}", products.size(), catalogVersion);
+
+            int scored = 0;
+            int page = 0;
+            Page<Customer> customers;
+            do {
+                customers = customerRepository.findAll(PageRequest.of(page, pageSize, Sort.by("customerId")));
+                scored += scorePage(customers.getContent(), products, catalogVersion);
+                page++;
+            } while (customers.hasNext());
+
+            lastCompletedAt = System.currentTimeMillis();
+            lastScoredCustomers = scored;
+            long elapsed = lastCompletedAt - start;
+            batchTimer.record(elapsed, TimeUnit.MILLISECONDS);
+            log.info("✅ 일괄 추천 계산 완료 - 고객 {}명, 페이지 {}개, 소요: {}ms", scored, page, elapsed);
+            return scored;
+        } catch (Exception e) {
+            log.error("❌ 일괄 추천 계산 실패: {}", e.getMessage(), e);
+            return 0;
+        }
+    }
+
+    private int scorePage(List<Customer> customers, List<IndexedProduct> products, long catalogVersion)
+            throws InterruptedException {
+        // 엔티티 → 프로필 변환은 조회 스레드에서, 점수 계산만 병렬로
+        List<CustomerProfile> profiles = new ArrayList<>(customers.size());
+        for (Customer customer : customers) {
+            profiles.add(recommendationPipelineService.toCustomerProfile(customer));
+        }
+
+        AtomicInteger scored = new AtomicInteger();
+        try {
+            scoringPool.submit(() -> profiles.parallelStream().forEach(profile -> {
+                try {
+                    offers.put(profile.getCustomerId(), score(profile, products, catalogVersion));
+                    scored.incrementAndGet();
+                    customerCounter.increment();
+                } catch (Exception e) {
+                    failureCounter.increment();
+                    log.warn("일괄 추천 계산 실패 - 고객: {}, 원인: {}", profile.getCustomerId(), e.getMessage());
+                }
+            })).get();
+        } catch (ExecutionException e) {
+            log.error("일괄 추천 페이지 계산 실패: {}", e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+        }
+        return scored.get();
+    }
+
+    private PrecomputedOffers score(CustomerProfile profile, List<IndexedProduct> products, long catalogVersion) {
+        List<ProductRecommendation> recommendations =
+            recommendationPipelineService.scoreProfileOnly(profile, products, topK);
+        String[] productIds = new String[recommendations.size()];
+        float[] scores = new float[recommendations.size()];
+        for (int i = 0; i < recommendations.size(); i++) {
+            productIds[i] = recommendations.get(i).getProductId();
+            scores[i] = (float) recommendations.get(i).getScore();
+        }
+        return new PrecomputedOffers(recommendationPipelineService.inferProfileIntent(profile), productIds, scores,
+            catalogVersion);
+    }
+
+    /**
+     * 고객의 다음 추천 상품 조회 (미리 계산된 결과가 없거나 상품 카탈로그가 바뀌었으면 즉시 계산 후 저장)
+     *
+     * @return 고객이 없으면 empty
+     */
+    public Optional<NextBestOffers> getRecommendations(String customerId) {
+        PrecomputedOffers precomputed = offers.get(customerId);
+        long catalogVersion = productScoringIndex.version();
+        boolean hit = precomputed != null && precomputed.catalogVersion == catalogVersion;
+        if (hit) {
+            hitCounter.increment();
+        } else {
+            if (precomputed != null) {
+                staleCounter.increment();
+            } else {
+                missCounter.increment();
+            }
+            Optional<Customer> customer = customerRepository.findByCustomerId(customerId);
+            if (customer.isEmpty()) {
+                offers.remove(customerId);
+                return Optional.empty();
+            }
+            precomputed = score(recommendationPipelineService.toCustomerProfile(customer.get()),
+                productScoringIndex.products(), catalogVersion);
+            offers.put(customerId, precomputed);
+        }
+
+        List<ProductRecommendation> recommendations = new ArrayList<>(precomputed.productIds.length);
+        for (int i = 0; i < precomputed.productIds.length; i++) {
+            IndexedProduct product = productScoringIndex.product(precomputed.productIds[i]);
+            if (product == null) {
+                continue;
+            }
+            ProductRecommendation recommendation = ProductRecommendation.builder()
+                .productId(product.getProductId())
+                .productName(product.getProductName())
+                .productType(product.getProductType())
+                .description(product.getDescription())
+                .score(precomputed.scores[i])
+                .interestRate(product.getBaseRate())
+                .minAmount(product.getMinAmount())
+                .maxAmount(product.getMaxAmount())
+                .build();
+            recommendation.setReason(RecommendationReasonGenerator.templateReason(recommendation, precomputed.intent));
+            recommendations.add(recommendation);
+        }
+        return Optional.of(new NextBestOffers(customerId, precomputed.intent, Collections.unmodifiableList(recommendations),
+            precomputed.computedAt, hit));
+    }
+
+    /**
+     * 고객 정보 변경 시 미리 계산된 추천 제거 (다음 조회 시 변경된 프로필로 다시 계산)
+     */
+    @EventListener
+    public void onCustomerChanged(CustomerChangedEvent event) {
+        if (event.isAllCustomers()) {
+            offers.clear();
+        } else {
+            offers.remove(event.getCustomerId());
+        }
+    }
+
+    /**
+     * 일괄 계산 상태 (관리용)
+     */
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("running", running.get());
+        status.put("entries", offers.size());
+        status.put("lastCompletedAt", lastCompletedAt > 0 ? lastCompletedAt : null);
+        status.put("lastScoredCustomers", lastCompletedAt > 0 ? lastScoredCustomers : null);
+        status.put("catalogVersion", productScoringIndex.version());
+        status.put("pageSize", pageSize);
+        status.put("topK", topK);
+        status.put("parallelism", scoringPool.getParallelism());
+        return status;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        batchRunner.shutdownNow();
+        scoringPool.shutdownNow();
+    }
+
+    /**
+     * 고객별로 보관하는 압축 결과 (상품 ID / 점수 배열, 계산 시각, 계산에 사용한 카탈로그 버전)
+     */
+    private static class PrecomputedOffers {
+        private final String intent;
+        private final String[] productIds;
+        private final float[] scores;
+        private final long catalogVersion;
+        private final long computedAt = System.currentTimeMillis();
+
+        private PrecomputedOffers(String intent, String[] productIds, float[] scores, long catalogVersion) {
+            this.intent = intent;
+            this.productIds = productIds;
+            this.scores = scores;
+            this.catalogVersion = catalogVersion;
+        }
+    }
+
+    /**
+     * 조회 결과 - 상품 정보와 템플릿 추천 이유가 채워진 추천 목록
+     */
+    @Getter
+    public static class NextBestOffers {
+        private final String customerId;
+        private final String intent;
+        private final List<ProductRecommendation> recommendations;
+        private final long computedAt;
+        private final boolean precomputed;
+
+        private NextBestOffers(String customerId, String intent, List<ProductRecommendation> recommendations,
+                               long computedAt, boolean precomputed) {
+            this.customerId = customerId;
+            this.intent = intent;
+            this.recommendations = recommendations;
+            this.computedAt = computedAt;
+            this.precomputed = precomputed;
+        }
+    }
+
+    private static class BatchThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger(1);
+
+        @Override
+        public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("recommendation-batch-" + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
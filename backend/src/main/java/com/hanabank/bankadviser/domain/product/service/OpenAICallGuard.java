@@ -0,0 +1,254 @@
+package com.hanabank.bankadviser.domain.product.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * OpenAI 호출 보호 (서킷 브레이커 + 동시 호출 수 제한)
+ *
+ * 서킷 브레이커 (최근 window-size개 호출 결과 기준)
+ * - CLOSED: 정상 호출, 최소 호출 수 이상에서 실패율이 임계값을 넘으면 OPEN
+ * - OPEN: open-duration 동안 호출하지 않고 즉시 실패 (각 메서드의 기본 키워드 / 의도 / 추천 이유로 대체)
+ * - HALF_OPEN: 시험 호출을 half-open-calls개까지 허용, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ *
+ * 동시 호출 제한 (bulkhead)
+ * - 동시에 진행 중인 호출이 max-concurrent-calls개면 max-wait 동안 대기 후 즉시 실패
+ */
+@Component
+@Slf4j
+public class OpenAICallGuard {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationMillis;
+    private final int halfOpenCalls;
+    private final int maxConcurrentCalls;
+    private final long maxWaitMillis;
+
+    private final Semaphore bulkhead;
+
+    // 최근 호출 결과 링 버퍼 (true = 실패), 상태 값은 모두 this 잠금 안에서만 변경
+    private final boolean[] outcomes;
+    private int outcomeIndex;
+    private int recordedCalls;
+    private int failedCalls;
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermitted;
+    private int halfOpenSucceeded;
+
+    private final Counter rejectedByBreakerCounter;
+    private final Counter rejectedByBulkheadCounter;
+    private final Counter failureCounter;
+    private final Counter successCounter;
+
+    public OpenAICallGuard(MeterRegistry meterRegistry,
+                           @Value("${openai.circuit-breaker.window-size:20}") int windowSize,
+                           @Value("${openai.circuit-breaker.minimum-calls:10}") int minimumCalls,
+                           @Value("${openai.circuit-breaker.failure-rate-threshold:50}") double failureRateThreshold,
+                           @Value("${openai.circuit-breaker.open-duration-ms:30000}") long openDurationMillis,
+                           @Value("${openai.circuit-breaker.half-open-calls:3}") int halfOpenCalls,
+                           @Value("${openai.bulkhead.max-concurrent-calls:16}") int maxConcurrentCalls,
+                           @Value("${openai.bulkhead.max-wait-ms:200}") long maxWaitMillis) {
+        this.windowSize = Math.max(windowSize, 1);
+        this.minimumCalls = Math.max(Math.min(minimumCalls, this.windowSize), 1);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationMillis = openDurationMillis;
+        this.halfOpenCalls = Math.max(halfOpenCalls, 1);
+        this.maxConcurrentCalls = Math.max(maxConcurrentCalls, 1);
+        this.maxWaitMillis = maxWaitMillis;
+        this.outcomes = new boolean[this.windowSize];
+        this.bulkhead = new Semaphore(this.maxConcurrentCalls);
+
+        Gauge.builder("openai.circuit.state", this, guard -> guard.getState().ordinal())
+            .description("OpenAI 서킷 브레이커 상태 (0: CLOSED, 1: OPEN, 2: HALF_OPEN)")
+            .register(meterRegistry);
+        Gauge.builder("openai.bulkhead.available", bulkhead, Semaphore::availablePermits)
+            .description("OpenAI 동시 호출 여유 슬롯 수")
+            .register(meterRegistry);
+        this.rejectedByBreakerCounter = callCounter(meterRegistry, "rejected_circuit_open");
+        this.rejectedByBulkheadCounter = callCounter(meterRegistry, "rejected_bulkhead_full");
+        this.failureCounter = callCounter(meterRegistry, "failure");
+        this.successCounter = callCounter(meterRegistry, "success");
+
+        log.info("OpenAI 호출 보호 초기화 - window: {}, minCalls: {}, failureRate: {}%, open: {}ms, maxConcurrent: {}",
+            this.windowSize, this.minimumCalls, failureRateThreshold, openDurationMillis, this.maxConcurrentCalls);
+    }
+
+    /**
+     * 보호된 호출 실행
+     *
+     * @throws OpenAIUnavailableException 서킷이 열려 있거나 동시 호출 한도를 넘은 경우 (호출하지 않음)
+     */
+    public <T> T call(String operation, Supplier<T> call) {
+        if (!tryAcquirePermission()) {
+            rejectedByBreakerCounter.increment();
+            throw new OpenAIUnavailableException("OpenAI 서킷 브레이커 열림 - operation: " + operation);
+        }
+
+        boolean acquired;
+        try {
+            acquired = bulkhead.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            releaseUnusedPermission();
+            rejectedByBulkheadCounter.increment();
+            throw new OpenAIUnavailableException("OpenAI 동시 호출 한도 초과 - operation: " + operation);
+        }
+
+        try {
+            T result = call.get();
+            onResult(false);
+            successCounter.increment();
+            return result;
+        } catch (RuntimeException e) {
+            onResult(true);
+            failureCounter.increment();
+            throw e;
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public synchronized State getState() {
+        // OPEN 유지 시간이 지났으면 조회 시점에도 HALF_OPEN으로 표시
+        if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openDurationMillis) {
+            transitionTo(State.HALF_OPEN);
+        }
+        return state;
+    }
+
+    /**
+     * 현재 상태 요약 (actuator 엔드포인트용)
+     */
+    public synchronized Map<String, Object> describe() {
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("state", getState().name());
+        view.put("recordedCalls", recordedCalls);
+        view.put("failedCalls", failedCalls);
+        view.put("failureRate", recordedCalls > 0 ? Math.round(failedCalls * 1000.0 / recordedCalls) / 10.0 : 0.0);
+        view.put("failureRateThreshold", failureRateThreshold);
+        if (state == State.OPEN) {
+            view.put("retryInMs", Math.max(openDurationMillis - (System.currentTimeMillis() - openedAt), 0));
+        }
+        view.put("bulkheadAvailable", bulkhead.availablePermits());
+        view.put("bulkheadMaxConcurrentCalls", maxConcurrentCalls);
+        return view;
+    }
+
+    /**
+     * 수동으로 CLOSED 상태로 복구 (업스트림 복구 확인 후)
+     */
+    public synchronized void reset() {
+        transitionTo(State.CLOSED);
+    }
+
+    private synchronized boolean tryAcquirePermission() {
+        switch (getState()) {
+            case CLOSED:
+                return true;
+            case HALF_OPEN:
+                if (halfOpenPermitted < halfOpenCalls) {
+                    halfOpenPermitted++;
+                    return true;
+                }
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    private synchronized void releaseUnusedPermission() {
+        if (state == State.HALF_OPEN && halfOpenPermitted > 0) {
+            halfOpenPermitted--;
+        }
+    }
+
+    private synchronized void onResult(boolean failed) {
+        if (state == State.HALF_OPEN) {
+            if (failed) {
+                transitionTo(State.OPEN);
+            } else if (++halfOpenSucceeded >= halfOpenCalls) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            // OPEN 전환 전에 시작된 호출의 결과는 무시
+            return;
+        }
+
+        if (recordedCalls == windowSize) {
+            if (outcomes[outcomeIndex]) {
+                failedCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        outcomes[outcomeIndex] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+        outcomeIndex = (outcomeIndex + 1) % windowSize;
+
+        if (recordedCalls >= minimumCalls && failedCalls * 100.0 / recordedCalls >= failureRateThreshold) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void transitionTo(State next) {
+        if (state == next) {
+            return;
+        }
+        log.warn("🔌 OpenAI 서킷 브레이커 상태 변경 - {} -> {} (최근 {}건 중 실패 {}건)", state, next, recordedCalls, failedCalls);
+        state = next;
+        halfOpenPermitted = 0;
+        halfOpenSucceeded = 0;
+        if (next == State.OPEN) {
+            openedAt = System.currentTimeMillis();
+        }
+        if (next == State.CLOSED) {
+            Arrays.fill(outcomes, false);
+            outcomeIndex = 0;
+            recordedCalls = 0;
+            failedCalls = 0;
+        }
+    }
+
+    private static Counter callCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("openai.calls")
+            .description("OpenAI 호출 결과 (서킷 브레이커 / 동시 호출 제한 포함)")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 보호 정책에 의해 호출하지 않고 실패한 경우
+     */
+    public static class OpenAIUnavailableException extends RuntimeException {
+        public OpenAIUnavailableException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.hanabank.bankadviser.domain.product.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * OpenAI 서킷 브레이커 / 동시 호출 제한 상태 actuator 엔드포인트
+ * GET /actuator/openai: 현재 상태 조회 (HTTP는 조회만 허용 - actuator 경로는 인증 없이 열려 있음)
+ * CLOSED 수동 복구는 JMX에서만 가능 (OpenAICircuitJmxExtension)
+ */
+@Component
+@Endpoint(id = "openai")
+@RequiredArgsConstructor
+public class OpenAICircuitEndpoint {
+
+    private final OpenAICallGuard callGuard;
+
+    @ReadOperation
+    public Map<String, Object> circuit() {
+        return callGuard.describe();
+    }
+}
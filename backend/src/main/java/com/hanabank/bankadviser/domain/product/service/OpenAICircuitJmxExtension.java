@@ -0,0 +1,33 @@
+package com.hanabank.bankadviser.domain.product.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.jmx.annotation.EndpointJmxExtension;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * OpenAI 서킷 브레이커 actuator 엔드포인트의 JMX 전용 확장
+ * 서킷을 CLOSED로 강제 복구하는 작업은 인증 없이 열려 있는 HTTP actuator에 노출하지 않고 JMX(운영자 접근)에서만 제공
+ * (spring.jmx.enabled=true 필요)
+ */
+@Component
+@EndpointJmxExtension(endpoint = OpenAICircuitEndpoint.class)
+@RequiredArgsConstructor
+public class OpenAICircuitJmxExtension {
+
+    private final OpenAICallGuard callGuard;
+
+    @ReadOperation
+    public Map<String, Object> circuit() {
+        return callGuard.describe();
+    }
+
+    @WriteOperation
+    public Map<String, Object> reset() {
+        callGuard.reset();
+        return callGuard.describe();
+    }
+}
@@ -0,0 +1,263 @@
+package com.hanabank.bankadviser.domain.product.service;
+
+import com.theokanning.openai.completion.chat.ChatMessage;
+import com.theokanning.openai.completion.chat.ChatMessageRole;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * OpenAI 응답 캐시
+ * 같은 요청을 조금씩 다르게 표현한 음성 텍스트("주택 대출 금리 알려주세요" / "주택대출 금리를 알려주세요.")가
+ * 같은 키로 조회되도록 공백, 문장부호, 조사를 정규화한 음성 텍스트와 시스템 프롬프트로 키를 구성
+ * (상품명 / 고객 프로필 / 금액 등 메시지의 나머지 부분은 원문 그대로 키에 포함)
+ *
+ * - 1차: 노드 로컬 LRU (최대 개수 + TTL)
+ * - 2차: Redis (openai.cache.redis.enabled=true이고 Redis 연결이 있는 경우, 노드 간 공유)
+ * - 정상 응답만 저장 (OpenAI 실패 시의 기본값은 저장하지 않음)
+ */
+@Component
+@Slf4j
+public class OpenAIResponseCache {
+
+    private static final Pattern PUNCTUATION = Pattern.compile("[\\p{Punct}\\p{IsPunctuation}·…“”‘’]");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern DIGIT = Pattern.compile("\\p{N}");
+    // 숫자가 포함된 단어는 끝의 문장부호만 제거 ("3.5%"와 "35%"가 같아지지 않도록)
+    private static final Pattern TRAILING_PUNCTUATION = Pattern.compile("[.,!?…·\"'“”‘’)]+$");
+
+    // 한글 어간 뒤에서 조사로만 쓰이는 단어 끝 (긴 것부터 비교)
+    // 명사 끝 글자와 겹치는 한 글자(이/가/도/만/나/요/의/과/로 등)는 "하나" -> "하", "필요" -> "필"처럼 의미가 바뀌므로 제외
+    private static final List<String> PARTICLES = List.of(
+        "에서는", "으로는", "에게서", "까지는",
+        "에서", "으로", "에게", "한테", "까지", "부터", "처럼", "보다",
+        "은", "는", "을", "를", "에");
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final String redisKeyPrefix;
+    private final StringRedisTemplate redisTemplate;
+
+    private final Map<String, Entry> entries;
+
+    private final Counter localHitCounter;
+    private final Counter redisHitCounter;
+    private final Counter missCounter;
+
+    public OpenAIResponseCache(MeterRegistry meterRegistry,
+                               ObjectProvider<RedisConnectionFactory> redisConnectionFactory,
+                               @Value("${openai.cache.enabled:true}") boolean enabled,
+                               @Value("${openai.cache.max-entries:2000}") int maxEntries,
+                               @Value("${openai.cache.ttl-ms:3600000}") long ttlMillis,
+                               @Value("${openai.cache.redis.enabled:false}") boolean redisEnabled,
+                               @Value("${openai.cache.redis.key-prefix:hana:openai:}") String redisKeyPrefix) {
+        this.enabled = enabled;
+        this.maxEntries = Math.max(maxEntries, 1);
+        this.ttlMillis = ttlMillis;
+        this.redisKeyPrefix = redisKeyPrefix;
+
+        RedisConnectionFactory connectionFactory = redisEnabled ? redisConnectionFactory.getIfAvailable() : null;
+        this.redisTemplate = connectionFactory != null ? new StringRedisTemplate(connectionFactory) : null;
+        if (redisEnabled && connectionFactory == null) {
+            log.warn("⚠️ OpenAI 응답 캐시 Redis 계층이 설정되었지만 Redis 연결이 없어 로컬 캐시만 사용");
+        }
+
+        // 접근 순서 LinkedHashMap - 최대 개수를 넘으면 가장 오래 사용하지 않은 항목 제거 (접근은 동기화 블록 안에서만)
+        this.entries = new LinkedHashMap<String, Entry>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > OpenAIResponseCache.this.maxEntries;
+            }
+        };
+
+        Gauge.builder("openai.cache.entries", this, OpenAIResponseCache::size)
+            .description("OpenAI 응답 로컬 캐시 항목 수")
+            .register(meterRegistry);
+        this.localHitCounter = requestCounter(meterRegistry, "hit", "local");
+        this.redisHitCounter = requestCounter(meterRegistry, "hit", "redis");
+        this.missCounter = requestCounter(meterRegistry, "miss", "none");
+
+        log.info("OpenAI 응답 캐시 초기화 - enabled: {}, maxEntries: {}, ttl: {}ms, redis: {}",
+            enabled, maxEntries, ttlMillis, redisTemplate != null);
+    }
+
+    /**
+     * 캐시 키 생성 - 호출 종류 + 시스템 프롬프트 해시 + 사용자 메시지 (음성 텍스트 부분만 정규화)
+     * (프롬프트가 바뀌면 자연히 다른 키가 되어 이전 응답을 재사용하지 않음)
+     *
+     * @param transcript 사용자 메시지에 포함된 음성 텍스트 (없으면 null - 메시지 원문 그대로 사용)
+     */
+    public String keyFor(String operation, List<ChatMessage> messages, String transcript) {
+        String normalizedTranscript = transcript != null && !transcript.isEmpty() ? normalize(transcript) : null;
+        StringBuilder system = new StringBuilder();
+        StringBuilder user = new StringBuilder();
+        for (ChatMessage message : messages) {
+            String content = message.getContent() != null ? message.getContent() : "";
+            if (ChatMessageRole.SYSTEM.value().equals(message.getRole())) {
+                system.append(content);
+            } else {
+                user.append(normalizedTranscript != null ? content.replace(transcript, normalizedTranscript) : content).append('|');
+            }
+        }
+        return operation + ":" + sha256(system.toString()).substring(0, 12) + ":" + user;
+    }
+
+    /**
+     * 캐시된 응답 조회 (없거나 만료되었으면 null)
+     */
+    public String get(String key) {
+        if (!enabled) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expiresAt > now) {
+                    localHitCounter.increment();
+                    return entry.value;
+                }
+                entries.remove(key);
+            }
+        }
+
+        if (redisTemplate != null) {
+            try {
+                String value = redisTemplate.opsForValue().get(redisKey(key));
+                if (value != null) {
+                    putLocal(key, value);
+                    redisHitCounter.increment();
+                    return value;
+                }
+            } catch (Exception e) {
+                log.warn("OpenAI 응답 캐시 Redis 조회 실패 - 원인: {}", e.getMessage());
+            }
+        }
+        missCounter.increment();
+        return null;
+    }
+
+    /**
+     * 정상 응답 저장
+     */
+    public void put(String key, String value) {
+        if (!enabled || value == null) {
+            return;
+        }
+        putLocal(key, value);
+        if (redisTemplate != null) {
+            try {
+                if (ttlMillis > 0) {
+                    redisTemplate.opsForValue().set(redisKey(key), value, ttlMillis, TimeUnit.MILLISECONDS);
+                } else {
+                    redisTemplate.opsForValue().set(redisKey(key), value);
+                }
+            } catch (Exception e) {
+                log.warn("OpenAI 응답 캐시 Redis 저장 실패 - 원인: {}", e.getMessage());
+            }
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * 음성 텍스트 정규화 - 소문자화, 문장부호 제거, 한글 어간 뒤 조사 제거, 공백 제거
+     * 숫자가 포함된 단어("5천만", "3.5%")는 끝의 문장부호만 제거하고 그대로 유지
+     * 예: "주택 대출 금리를 알려주세요." -> "주택대출금리알려주세요"
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String lowered = text.toLowerCase().trim();
+        StringBuilder normalized = new StringBuilder(lowered.length());
+        for (String word : WHITESPACE.split(lowered)) {
+            if (DIGIT.matcher(word).find()) {
+                normalized.append(TRAILING_PUNCTUATION.matcher(word).replaceAll(""));
+                continue;
+            }
+            for (String part : WHITESPACE.split(PUNCTUATION.matcher(word).replaceAll(" ").trim())) {
+                normalized.append(stripParticle(part));
+            }
+        }
+        return normalized.toString();
+    }
+
+    private static String stripParticle(String word) {
+        for (String particle : PARTICLES) {
+            // 조사만 남지 않도록 앞에 한글 어간이 있어야 제거
+            if (word.length() > particle.length() && word.endsWith(particle)
+                && isHangulSyllable(word.charAt(word.length() - particle.length() - 1))) {
+                return word.substring(0, word.length() - particle.length());
+            }
+        }
+        return word;
+    }
+
+    private static boolean isHangulSyllable(char c) {
+        return c >= '\uAC00' && c <= '\uD7A3';
+    }
+
+    private void putLocal(String key, String value) {
+        long expiresAt = ttlMillis > 0 ? System.currentTimeMillis() + ttlMillis : Long.MAX_VALUE;
+        synchronized (entries) {
+            entries.put(key, new Entry(value, expiresAt));
+        }
+    }
+
+    // Redis 키 길이를 제한하기 위해 해시 사용
+    private String redisKey(String key) {
+        return redisKeyPrefix + sha256(key);
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result, String tier) {
+        return Counter.builder("openai.cache.requests")
+            .description("OpenAI 응답 캐시 조회 결과")
+            .tag("result", result)
+            .tag("tier", tier)
+            .register(meterRegistry);
+    }
+
+    private static class Entry {
+        private final String value;
+        private final long expiresAt;
+
+        private Entry(String value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -1,38 +1,102 @@
 package com.hanabank.bankadviser.domain.product.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.theokanning.openai.client.OpenAiApi;
 import com.theokanning.openai.completion.chat.ChatCompletionRequest;
+import com.theokanning.openai.completion.chat.ChatCompletionResult;
 import com.theokanning.openai.completion.chat.ChatMessage;
 import com.theokanning.openai.completion.chat.ChatMessageRole;
 import com.theokanning.openai.service.OpenAiService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import okhttp3.OkHttpClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.net.URI;
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class OpenAIService {
 
+    /**
+     * 의도 유형 (프롬프트와 응답 검증에 공통 사용)
+     */
+    private static final List<String> INTENT_TYPES = List.of(
+        "주택대출문의", "전세대출문의", "대출상품문의", "교육적금문의",
+        "급여적금문의", "적금상품문의", "투자상품문의", "예금상품문의", "일반상담");
+
+    private static final String DEFAULT_INTENT = "일반상담";
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final OpenAIResponseCache responseCache;
+    private final OpenAICallGuard callGuard;
+    private final LocalIntentClassifier localIntentClassifier;
+
     @Value("${openai.api.key}")
     private String apiKey;
 
     @Value("${openai.api.url}")
     private String apiUrl;
 
-    private OpenAiService openAiService;
+    // 호출 종류별 제한 시간 (연결 ~ 응답 완료까지 전체 호출 시간)
+    @Value("${openai.timeout.analysis-ms:8000}")
+    private long analysisTimeoutMillis;
+
+    @Value("${openai.timeout.reason-ms:5000}")
+    private long reasonTimeoutMillis;
+
+    @Value("${openai.timeout.connect-ms:2000}")
+    private long connectTimeoutMillis;
+
+    // 제한 시간별 클라이언트 (연결 풀은 기본 클라이언트에서 파생하여 공유)
+    private final Map<Long, OpenAiService> openAiServices = new ConcurrentHashMap<>();
+    private volatile OkHttpClient baseClient;
 
     /**
-     * OpenAI 서비스 초기화
+     * 호출 종류에 맞는 제한 시간의 OpenAI 서비스
      */
-    private OpenAiService getOpenAiService() {
-        if (openAiService == null && isAvailable()) {
-            openAiService = new OpenAiService(apiKey, Duration.ofSeconds(60));
+    private OpenAiService getOpenAiService(String operation) {
+        long timeoutMillis = "recommendation-reason".equals(operation) ? reasonTimeoutMillis : analysisTimeoutMillis;
+        return openAiServices.computeIfAbsent(timeoutMillis, this::createOpenAiService);
+    }
+
+    private synchronized OpenAiService createOpenAiService(long timeoutMillis) {
+        if (baseClient == null) {
+            baseClient = OpenAiService.defaultClient(apiKey, Duration.ofMillis(analysisTimeoutMillis));
         }
-        return openAiService;
+        Duration timeout = Duration.ofMillis(timeoutMillis);
+        OkHttpClient client = baseClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+            .readTimeout(timeout)
+            .callTimeout(timeout)
+            .build();
+        OpenAiApi api = OpenAiService.defaultRetrofit(client, OpenAiService.defaultObjectMapper())
+            .newBuilder()
+            .baseUrl(retrofitBaseUrl())
+            .build()
+            .create(OpenAiApi.class);
+        log.info("OpenAI 클라이언트 생성 - baseUrl: {}, timeout: {}ms", retrofitBaseUrl(), timeoutMillis);
+        return new OpenAiService(api);
+    }
+
+    // API 경로(/v1/...)는 클라이언트 라이브러리에 포함되어 있으므로 openai.api.url의 호스트까지만 사용 (스텁 서버 지정용)
+    private String retrofitBaseUrl() {
+        if (apiUrl == null || apiUrl.isBlank()) {
+            return "https://api.openai.com/";
+        }
+        URI uri = URI.create(apiUrl.trim());
+        return uri.getScheme() + "://" + uri.getRawAuthority() + "/";
     }
 
     /**
@@ -57,23 +121,21 @@ public class OpenAIService {
                 .temperature(0.1)
                 .build();
 
-            String response = getOpenAiService().createChatCompletion(request)
-                .getChoices().get(0).getMessage().getContent();
+            String response = complete("voice-analysis", request, voiceText);
 
             log.info("✅ OpenAI 음성 분석 완료: {}", response);
 
-            // JSON 파싱 (간단한 파싱)
             double confidence = 0.95;
             String language = "ko";
-            
-            if (response.contains("\"confidence\"")) {
-                try {
-                    String confStr = response.substring(response.indexOf("\"confidence\":") + 13);
-                    confStr = confStr.substring(0, confStr.indexOf(","));
-                    confidence = Double.parseDouble(confStr.trim());
-                } catch (Exception e) {
-                    log.warn("신뢰도 파싱 실패, 기본값 사용: {}", e.getMessage());
+
+            JsonNode result = parseJsonObject(response);
+            if (result != null) {
+                confidence = parseConfidence(result.get("confidence"), confidence);
+                if (result.hasNonNull("language") && !result.get("language").asText().isBlank()) {
+                    language = result.get("language").asText();
                 }
+            } else {
+                log.warn("음성 분석 응답이 JSON 형식이 아니어서 기본값 사용: {}", response);
             }
 
             return VoiceAnalysisResult.builder()
@@ -116,8 +178,7 @@ public class OpenAIService {
                 .temperature(0.1)
                 .build();
 
-            String response = getOpenAiService().createChatCompletion(request)
-                .getChoices().get(0).getMessage().getContent();
+            String response = complete("keywords", request, voiceText);
 
             log.info("✅ OpenAI 키워드 추출 완료: {}", response);
 
@@ -145,6 +206,12 @@ public class OpenAIService {
      * 의도 분석
      */
     public IntentAnalysis analyzeIntent(String voiceText, List<String> keywords) {
+        // 로컬 분류기가 확실하게 분류하면 OpenAI 호출 생략
+        Optional<IntentCentroidModel.Prediction> local = localIntentClassifier.classify(voiceText);
+        if (local.isPresent()) {
+            return localIntentAnalysis(local.get(), keywords);
+        }
+
         try {
             log.info("🎯 OpenAI 의도 분석 시작: {}", voiceText);
 
@@ -154,8 +221,7 @@ public class OpenAIService {
                 new ChatMessage(ChatMessageRole.SYSTEM.value(), 
                     "당신은 은행 상담원입니다. 고객의 음성 텍스트와 키워드를 분석하여 " +
                     "고객의 의도를 파악해주세요. " +
-                    "의도 유형: 주택대출문의, 전세대출문의, 대출상품문의, 교육적금문의, " +
-                    "급여적금문의, 적금상품문의, 투자상품문의, 예금상품문의, 일반상담 " +
+                    "의도 유형: " + String.join(", ", INTENT_TYPES) + " " +
                     "응답 형식: {\"intent\": \"주택대출문의\", \"confidence\": 0.9}"),
                 new ChatMessage(ChatMessageRole.USER.value(), 
                     "음성텍스트: " + voiceText + "\n키워드: " + keywordStr)
@@ -168,33 +234,19 @@ public class OpenAIService {
                 .temperature(0.1)
                 .build();
 
-            String response = getOpenAiService().createChatCompletion(request)
-                .getChoices().get(0).getMessage().getContent();
+            String response = complete("intent", request, voiceText);
 
             log.info("✅ OpenAI 의도 분석 완료: {}", response);
 
-            // 의도 파싱
-            String intent = "일반상담";
+            String intent = DEFAULT_INTENT;
             double confidence = 0.5;
 
-            if (response.contains("\"intent\"")) {
-                try {
-                    String intentStr = response.substring(response.indexOf("\"intent\":\"") + 10);
-                    intentStr = intentStr.substring(0, intentStr.indexOf("\""));
-                    intent = intentStr;
-                } catch (Exception e) {
-                    log.warn("의도 파싱 실패, 기본값 사용: {}", e.getMessage());
-                }
-            }
-
-            if (response.contains("\"confidence\"")) {
-                try {
-                    String confStr = response.substring(response.indexOf("\"confidence\":") + 13);
-                    confStr = confStr.substring(0, confStr.indexOf("}"));
-                    confidence = Double.parseDouble(confStr.trim());
-                } catch (Exception e) {
-                    log.warn("신뢰도 파싱 실패, 기본값 사용: {}", e.getMessage());
-                }
+            JsonNode result = parseJsonObject(response);
+            if (result != null) {
+                intent = parseIntent(result.get("intent"));
+                confidence = parseConfidence(result.get("confidence"), confidence);
+            } else {
+                log.warn("의도 분석 응답이 JSON 형식이 아니어서 기본값 사용: {}", response);
             }
 
             return IntentAnalysis.builder()
@@ -217,38 +269,219 @@ public class OpenAIService {
 
     /**
      * 추천 이유 생성
+     * 호출 실패(회로 차단 포함)는 그대로 던지고, 빈 응답이면 빈 문자열 반환
+     * (RecommendationReasonGenerator가 두 경우 모두 상품별 템플릿 이유로 대체)
      */
     public String generateRecommendationReason(String productName, String customerProfile, String intent) {
+        log.info("💡 OpenAI 추천 이유 생성 시작: {}", productName);
+
+        List<ChatMessage> messages = Arrays.asList(
+            new ChatMessage(ChatMessageRole.SYSTEM.value(), 
+                "당신은 은행 상담원입니다. 고객의 프로필과 의도를 바탕으로 " +
+                "특정 금융 상품을 추천하는 이유를 간결하고 설득력 있게 설명해주세요. " +
+                "한 문장으로 요약해주세요."),
+            new ChatMessage(ChatMessageRole.USER.value(), 
+                "상품명: " + productName + "\n고객프로필: " + customerProfile + "\n의도: " + intent)
+        );
+
+        ChatCompletionRequest request = ChatCompletionRequest.builder()
+            .model("gpt-3.5-turbo")
+            .messages(messages)
+            .maxTokens(100)
+            .temperature(0.3)
+            .build();
+
+        String response = complete("recommendation-reason", request, null);
+
+        log.info("✅ OpenAI 추천 이유 생성 완료: {}", response);
+
+        return response != null ? response.trim() : "";
+    }
+
+    /**
+     * 통합 분석 - 키워드, 의도, 신뢰도를 한 번의 호출로 구조화된 JSON 응답으로 받음
+     * (음성 분석 / 키워드 추출 / 의도 분석 3회 호출 체인의 대체 경로, openai.analysis.mode=COMBINED)
+     */
+    public IntentAnalysis analyzeTranscript(String voiceText) {
+        // 로컬 분류기가 확실하게 분류하면 OpenAI 호출 생략 (키워드는 음성 텍스트에서 직접 추출)
+        Optional<IntentCentroidModel.Prediction> local = localIntentClassifier.classify(voiceText);
+        if (local.isPresent()) {
+            return localIntentAnalysis(local.get(), getDefaultKeywords(voiceText));
+        }
+
         try {
-            log.info("💡 OpenAI 추천 이유 생성 시작: {}", productName);
+            log.info("🧩 OpenAI 통합 분석 시작: {}", voiceText);
 
             List<ChatMessage> messages = Arrays.asList(
-                new ChatMessage(ChatMessageRole.SYSTEM.value(), 
-                    "당신은 은행 상담원입니다. 고객의 프로필과 의도를 바탕으로 " +
-                    "특정 금융 상품을 추천하는 이유를 간결하고 설득력 있게 설명해주세요. " +
-                    "한 문장으로 요약해주세요."),
-                new ChatMessage(ChatMessageRole.USER.value(), 
-                    "상품명: " + productName + "\n고객프로필: " + customerProfile + "\n의도: " + intent)
+                new ChatMessage(ChatMessageRole.SYSTEM.value(),
+                    "당신은 은행 상담원입니다. 고객의 음성 텍스트를 분석하여 " +
+                    "금융 상품, 금리, 목적, 금액 등과 관련된 핵심 키워드와 고객의 의도를 파악해주세요. " +
+                    "의도 유형: " + String.join(", ", INTENT_TYPES) + " " +
+                    "다른 설명 없이 JSON 객체 하나만 응답해주세요. " +
+                    "응답 형식: {\"keywords\": [\"대출\", \"주택\", \"금리\"], \"intent\": \"주택대출문의\", \"confidence\": 0.9}"),
+                new ChatMessage(ChatMessageRole.USER.value(), voiceText)
             );
 
             ChatCompletionRequest request = ChatCompletionRequest.builder()
                 .model("gpt-3.5-turbo")
                 .messages(messages)
-                .maxTokens(100)
-                .temperature(0.3)
+                .maxTokens(200)
+                .temperature(0.1)
+                .build();
+
+            String response = complete("combined-analysis", request, voiceText);
+
+            log.info("✅ OpenAI 통합 분석 완료: {}", response);
+
+            JsonNode result = parseJsonObject(response);
+            if (result == null) {
+                log.warn("통합 분석 응답이 JSON 형식이 아니어서 기본 분석 반환: {}", response);
+                return defaultIntentAnalysis(voiceText);
+            }
+
+            List<String> keywords = new ArrayList<>();
+            JsonNode keywordNodes = result.get("keywords");
+            if (keywordNodes != null && keywordNodes.isArray()) {
+                for (JsonNode keywordNode : keywordNodes) {
+                    String keyword = keywordNode.isTextual() ? keywordNode.asText().trim() : "";
+                    if (!keyword.isEmpty() && !keywords.contains(keyword)) {
+                        keywords.add(keyword);
+                    }
+                }
+            }
+            if (keywords.isEmpty()) {
+                keywords = getDefaultKeywords(voiceText);
+            }
+
+            return IntentAnalysis.builder()
+                .intent(parseIntent(result.get("intent")))
+                .confidence(parseConfidence(result.get("confidence"), 0.5))
+                .keywords(keywords)
+                .timestamp(java.time.LocalDateTime.now())
                 .build();
 
-            String response = getOpenAiService().createChatCompletion(request)
-                .getChoices().get(0).getMessage().getContent();
+        } catch (Exception e) {
+            log.error("OpenAI 통합 분석 실패, 기본 분석 반환: {}", e.getMessage());
+            return defaultIntentAnalysis(voiceText);
+        }
+    }
 
-            log.info("✅ OpenAI 추천 이유 생성 완료: {}", response);
+    private IntentAnalysis localIntentAnalysis(IntentCentroidModel.Prediction prediction, List<String> keywords) {
+        return IntentAnalysis.builder()
+            .intent(prediction.getIntent())
+            .confidence(Math.round(prediction.getConfidence() * 100) / 100.0)
+            .keywords(keywords)
+            .timestamp(java.time.LocalDateTime.now())
+            .build();
+    }
 
-            return response != null ? response.trim() : "고객님의 요구사항에 적합한 상품입니다.";
+    private IntentAnalysis defaultIntentAnalysis(String voiceText) {
+        return IntentAnalysis.builder()
+            .intent(DEFAULT_INTENT)
+            .confidence(0.5)
+            .keywords(getDefaultKeywords(voiceText))
+            .timestamp(java.time.LocalDateTime.now())
+            .build();
+    }
 
+    /**
+     * 채팅 완성 호출 - 응답 본문을 반환하고 호출별 토큰 사용량 / 소요 시간을 기록 (분석 모드별 비용 비교용)
+     * 음성 텍스트만 정규화한 메시지가 같은 이전 응답이 캐시에 있으면 OpenAI를 호출하지 않음
+     *
+     * @param transcript 메시지에 포함된 음성 텍스트 (정규화 대상, 없으면 null - 메시지 원문 그대로 키 구성)
+     */
+    private String complete(String operation, ChatCompletionRequest request, String transcript) {
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            String cacheKey = responseCache.keyFor(operation, request.getMessages(), transcript);
+            String cached = responseCache.get(cacheKey);
+            if (cached != null) {
+                log.debug("OpenAI 응답 캐시 적중 - operation: {}", operation);
+                outcome = "cached";
+                return cached;
+            }
+
+            if (!isAvailable()) {
+                // 키 미설정은 업스트림 장애가 아니므로 서킷 브레이커에 기록하지 않음
+                outcome = "unavailable";
+                throw new IllegalStateException("OpenAI API 키가 설정되지 않았습니다");
+            }
+            // 서킷이 열려 있거나 동시 호출 한도를 넘으면 호출 없이 예외 -> 각 메서드의 기본값으로 대체
+            ChatCompletionResult result;
+            try {
+                result = callGuard.call(operation, () -> getOpenAiService(operation).createChatCompletion(request));
+            } catch (OpenAICallGuard.OpenAIUnavailableException e) {
+                outcome = "rejected";
+                throw e;
+            }
+            if (result.getUsage() != null) {
+                Counter.builder("openai.tokens")
+                    .description("OpenAI 호출 토큰 사용량")
+                    .tag("operation", operation)
+                    .register(meterRegistry)
+                    .increment(result.getUsage().getTotalTokens());
+            }
+            String content = result.getChoices().get(0).getMessage().getContent();
+            responseCache.put(cacheKey, content);
+            outcome = "success";
+            return content;
+        } finally {
+            Timer.builder("openai.request.duration")
+                .description("OpenAI 호출 종류별 소요 시간 (캐시 적중 / 호출 거절 포함)")
+                .tag("operation", operation)
+                .tag("result", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 응답에서 JSON 객체 파싱 (코드 블록 표기는 제거, 객체가 아니면 null)
+     */
+    private JsonNode parseJsonObject(String response) {
+        if (response == null) {
+            return null;
+        }
+        String body = response.trim();
+        if (body.startsWith("```")) {
+            int firstLineEnd = body.indexOf('\n');
+            int fenceEnd = body.lastIndexOf("```");
+            body = firstLineEnd >= 0 && fenceEnd > firstLineEnd ? body.substring(firstLineEnd + 1, fenceEnd).trim() : body;
+        }
+        try {
+            JsonNode node = objectMapper.readTree(body);
+            return node != null && node.isObject() ? node : null;
         } catch (Exception e) {
-            log.error("OpenAI 추천 이유 생성 실패, 기본 이유 반환: {}", e.getMessage());
-            return "고객님의 요구사항에 적합한 상품입니다.";
+            return null;
+        }
+    }
+
+    // 정의된 의도 유형만 허용 (그 외 값은 일반상담)
+    private String parseIntent(JsonNode node) {
+        if (node == null || !node.isTextual()) {
+            return DEFAULT_INTENT;
+        }
+        String intent = node.asText().trim();
+        if (!INTENT_TYPES.contains(intent)) {
+            log.warn("정의되지 않은 의도 유형 응답, 기본값 사용: {}", intent);
+            return DEFAULT_INTENT;
+        }
+        return intent;
+    }
+
+    // 0~1 범위의 숫자만 허용 (숫자 문자열 포함)
+    private double parseConfidence(JsonNode node, double defaultValue) {
+        if (node == null || !(node.isNumber() || node.isTextual())) {
+            return defaultValue;
+        }
+        double confidence = node.isNumber() ? node.asDouble() : node.asDouble(Double.NaN);
+        if (Double.isNaN(confidence) || confidence < 0.0 || confidence > 1.0) {
+            log.warn("신뢰도 범위 오류, 기본값 사용: {}", node);
+            return defaultValue;
         }
+        return confidence;
     }
 
     /**
@@ -0,0 +1,247 @@
+package com.hanabank.bankadviser.domain.product.service;
+
+import com.hanabank.bankadviser.domain.product.entity.FinancialProduct;
+import com.hanabank.bankadviser.domain.product.event.ProductChangedEvent;
+import com.hanabank.bankadviser.domain.product.repository.FinancialProductRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 메모리 상품 카탈로그 (read-through)
+ * 상품 테이블 전체를 한 번에 읽어 ID / 상품 유형 / 판매 상태별 불변 스냅샷을 만들고, 상품 조회는 스냅샷에서 처리
+ *
+ * - ProductChangedEvent(saveProduct / deleteProduct, HanaBankDataCollectorService 수집 완료)마다 카탈로그 버전을 올리고
+ *   새 스냅샷을 만들어 한 번에 교체 (조회 중인 스레드는 이전 스냅샷을 끝까지 사용)
+ * - 재적재에 실패하면 이전 스냅샷을 유지하고 다음 조회에서 다시 시도
+ * - DB에서 직접 수정된 상품은 refresh-ms 경과 후 반영 (만료 재적재는 내용이 바뀐 경우에만 버전 증가)
+ * - 스냅샷의 엔티티는 공유되므로 외부에는 복사본만 반환
+ */
+@Component
+@Slf4j
+public class ProductCatalog {
+
+    // 재적재 실패 후 이전 스냅샷으로 응답하며 다시 시도하지 않는 시간 (DB 장애 시 조회마다 재시도 방지)
+    private static final long RETRY_BACKOFF_MILLIS = 5000;
+
+    private final FinancialProductRepository productRepository;
+    private final long refreshMillis;
+    private volatile long lastFailureAt;
+
+    // 요청된 카탈로그 버전 (변경 이벤트마다 증가), 스냅샷 버전이 이보다 작으면 재적재
+    private final AtomicLong requestedVersion = new AtomicLong(1);
+    private volatile Snapshot snapshot;
+
+    private final Counter reloadCounter;
+    private final Counter reloadFailureCounter;
+
+    public ProductCatalog(FinancialProductRepository productRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${product.catalog.refresh-ms:600000}") long refreshMillis) {
+        this.productRepository = productRepository;
+        this.refreshMillis = refreshMillis;
+
+        Gauge.builder("product.catalog.size", this, catalog -> {
+                Snapshot current = catalog.snapshot;
+                return current != null ? current.products.size() : 0;
+            })
+            .description("상품 카탈로그에 적재된 상품 수")
+            .register(meterRegistry);
+        Gauge.builder("product.catalog.version", this, catalog -> {
+                Snapshot current = catalog.snapshot;
+                return current != null ? current.version : 0;
+            })
+            .description("현재 상품 카탈로그 스냅샷 버전")
+            .register(meterRegistry);
+        this.reloadCounter = Counter.builder("product.catalog.reloads")
+            .description("상품 카탈로그 재적재 결과")
+            .tag("result", "success")
+            .register(meterRegistry);
+        this.reloadFailureCounter = Counter.builder("product.catalog.reloads")
+            .description("상품 카탈로그 재적재 결과")
+            .tag("result", "failure")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 시작 시 전체 상품 적재 (실패하면 첫 조회에서 다시 시도)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            current();
+        } catch (Exception e) {
+            log.warn("⚠️ 시작 시 상품 카탈로그 적재 실패, 첫 조회 시 재시도: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 상품 변경 시 카탈로그 버전을 올리고 즉시 재적재 (실패하면 다음 조회에서 재시도)
+     */
+    @EventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        long version = requestedVersion.incrementAndGet();
+        log.info("🔄 상품 카탈로그 버전 변경 - v{}, productId: {}", version, event.isAllProducts() ? "ALL" : event.getProductId());
+        try {
+            current();
+        } catch (Exception e) {
+            log.warn("⚠️ 상품 카탈로그 재적재 실패, 이전 스냅샷 유지: {}", e.getMessage());
+        }
+    }
+
+    public Optional<FinancialProduct> findById(String productId) {
+        if (productId == null) {
+            return Optional.empty();
+        }
+        FinancialProduct product = current().byId.get(productId);
+        return product != null ? Optional.of(copyOf(product)) : Optional.empty();
+    }
+
+    public List<FinancialProduct> findAll() {
+        return copyOf(current().products);
+    }
+
+    public List<FinancialProduct> findByType(String productType) {
+        return copyOf(current().byType.getOrDefault(productType, Collections.emptyList()));
+    }
+
+    public List<FinancialProduct> findBySalesStatus(String salesStatus) {
+        return copyOf(current().bySalesStatus.getOrDefault(salesStatus, Collections.emptyList()));
+    }
+
+    /**
+     * 현재 스냅샷 버전 (카탈로그에서 파생된 인덱스의 재계산 여부 판단용)
+     */
+    public long getVersion() {
+        return current().version;
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null || current.version < requestedVersion.get() || current.isExpired(refreshMillis)) {
+            if (current != null && System.currentTimeMillis() - lastFailureAt < RETRY_BACKOFF_MILLIS) {
+                return current;
+            }
+            try {
+                current = reload(current);
+            } catch (RuntimeException e) {
+                lastFailureAt = System.currentTimeMillis();
+                // 재적재 실패 시 이전 스냅샷이 있으면 계속 사용
+                if (current == null) {
+                    throw e;
+                }
+                log.warn("⚠️ 상품 카탈로그 재적재 실패, v{} 스냅샷 사용: {}", current.version, e.getMessage());
+            }
+        }
+        return current;
+    }
+
+    private synchronized Snapshot reload(Snapshot expected) {
+        // 다른 스레드가 먼저 적재했으면 그 결과 사용
+        Snapshot current = snapshot;
+        long version = requestedVersion.get();
+        if (current != expected && current != null && current.version >= version && !current.isExpired(refreshMillis)) {
+            return current;
+        }
+
+        long start = System.currentTimeMillis();
+        List<FinancialProduct> products;
+        try {
+            products = productRepository.findAll();
+        } catch (RuntimeException e) {
+            reloadFailureCounter.increment();
+            throw e;
+        }
+        List<FinancialProduct> copies = copyOf(products);
+        if (current != null && current.version >= version) {
+            // 만료로 인한 재적재: 내용이 같으면 버전을 유지해 파생 인덱스 / 배치 결과를 그대로 사용
+            if (current.products.equals(copies)) {
+                Snapshot refreshed = new Snapshot(current.version, copies);
+                snapshot = refreshed;
+                reloadCounter.increment();
+                log.debug("상품 카탈로그 변경 없음 - v{} 유지, 상품 {}개", current.version, copies.size());
+                return refreshed;
+            }
+            // DB에서 직접 수정된 상품이 있으면 버전을 올려 파생 인덱스도 다시 계산되도록 함
+            version = requestedVersion.incrementAndGet();
+        }
+        Snapshot reloaded = new Snapshot(version, copies);
+        snapshot = reloaded;
+        reloadCounter.increment();
+
+        log.info("✅ 상품 카탈로그 적재 - v{}, 상품 {}개, 소요: {}ms", version, products.size(), System.currentTimeMillis() - start);
+        return reloaded;
+    }
+
+    private static List<FinancialProduct> copyOf(List<FinancialProduct> products) {
+        List<FinancialProduct> copies = new ArrayList<>(products.size());
+        for (FinancialProduct product : products) {
+            copies.add(copyOf(product));
+        }
+        return copies;
+    }
+
+    private static FinancialProduct copyOf(FinancialProduct product) {
+        return FinancialProduct.builder()
+            .productId(product.getProductId())
+            .productName(product.getProductName())
+            .productType(product.getProductType())
+            .description(product.getDescription())
+            .launchDate(product.getLaunchDate())
+            .salesStatus(product.getSalesStatus())
+            .minAmount(product.getMinAmount())
+            .maxAmount(product.getMaxAmount())
+            .baseRate(product.getBaseRate())
+            .documentPath(product.getDocumentPath())
+            .documentName(product.getDocumentName())
+            .build();
+    }
+
+    private static class Snapshot {
+        private final long version;
+        private final long loadedAt = System.currentTimeMillis();
+        private final List<FinancialProduct> products;
+        private final Map<String, FinancialProduct> byId;
+        private final Map<String, List<FinancialProduct>> byType;
+        private final Map<String, List<FinancialProduct>> bySalesStatus;
+
+        private Snapshot(long version, List<FinancialProduct> products) {
+            this.version = version;
+            this.products = Collections.unmodifiableList(products);
+            Map<String, FinancialProduct> ids = new LinkedHashMap<>();
+            for (FinancialProduct product : products) {
+                ids.put(product.getProductId(), product);
+            }
+            this.byId = Collections.unmodifiableMap(ids);
+            this.byType = group(products, FinancialProduct::getProductType);
+            this.bySalesStatus = group(products, FinancialProduct::getSalesStatus);
+        }
+
+        private static Map<String, List<FinancialProduct>> group(List<FinancialProduct> products,
+                                                                 Function<FinancialProduct, String> key) {
+            return Collections.unmodifiableMap(products.stream()
+                .filter(product -> key.apply(product) != null)
+                .collect(Collectors.groupingBy(key, LinkedHashMap::new,
+                    Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList))));
+        }
+
+        private boolean isExpired(long refreshMillis) {
+            return refreshMillis > 0 && System.currentTimeMillis() - loadedAt > refreshMillis;
+        }
+    }
+}
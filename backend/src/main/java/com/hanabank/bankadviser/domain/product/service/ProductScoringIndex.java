@@ -0,0 +1,201 @@
+package com.hanabank.bankadviser.domain.product.service;
+
+import com.hanabank.bankadviser.domain.product.entity.FinancialProduct;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 추천 점수 계산용 판매중 상품 인덱스
+ * 상품 카탈로그 스냅샷의 판매중 상품으로 소문자 상품명 / 설명, 상품명 토큰, 상품 유형 플래그를 미리 계산해 두고
+ * 추천 요청마다 DB 조회 없이 전체 카탈로그를 점수 계산
+ *
+ * - 카탈로그 버전이 바뀌면(상품 변경, 수집 완료, 카탈로그 만료) 다음 조회 시 다시 계산
+ * - version()은 판매중 상품 내용이 실제로 바뀐 카탈로그 버전 (판매 중지 상품만 바뀐 경우 등은 이전 버전 유지)
+ * - 인덱스 목록은 불변이므로 여러 파이프라인 스레드가 잠금 없이 공유
+ */
+@Component
+@Slf4j
+public class ProductScoringIndex {
+
+    private static final String ON_SALE = "판매중";
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[\\s\\p{Punct}·]+");
+
+    private final ProductCatalog productCatalog;
+
+    private volatile Snapshot snapshot;
+
+    private final Counter rebuildCounter;
+
+    public ProductScoringIndex(ProductCatalog productCatalog, MeterRegistry meterRegistry) {
+        this.productCatalog = productCatalog;
+
+        Gauge.builder("recommendation.product.index.size", this, index -> {
+                Snapshot current = index.snapshot;
+                return current != null ? current.products.size() : 0;
+            })
+            .description("추천 점수 인덱스에 적재된 판매중 상품 수")
+            .register(meterRegistry);
+        this.rebuildCounter = Counter.builder("recommendation.product.index.rebuilds")
+            .description("추천 점수 인덱스 재계산 횟수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 판매중 상품 인덱스 (카탈로그 버전이 바뀐 경우 다시 계산)
+     */
+    public List<IndexedProduct> products() {
+        return current().products;
+    }
+
+    /**
+     * 판매중 상품 내용이 마지막으로 바뀐 상품 카탈로그 버전 (인덱스로 계산해 둔 결과의 최신 여부 판단용)
+     */
+    public long version() {
+        return current().contentVersion;
+    }
+
+    /**
+     * 상품 ID로 판매중 상품 조회 (판매 중지 / 삭제된 상품이면 null)
+     */
+    public IndexedProduct product(String productId) {
+        return current().byId.get(productId);
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        long catalogVersion = productCatalog.getVersion();
+        if (current == null || current.catalogVersion != catalogVersion) {
+            current = rebuild(catalogVersion);
+        }
+        return current;
+    }
+
+    private synchronized Snapshot rebuild(long catalogVersion) {
+        // 다른 스레드가 같은 카탈로그 버전으로 먼저 계산했으면 그 결과 사용
+        Snapshot current = snapshot;
+        if (current != null && current.catalogVersion >= catalogVersion) {
+            return current;
+        }
+
+        long start = System.nanoTime();
+        List<FinancialProduct> products = productCatalog.findBySalesStatus(ON_SALE);
+        List<IndexedProduct> indexed = new ArrayList<>(products.size());
+        for (FinancialProduct product : products) {
+            indexed.add(new IndexedProduct(product));
+        }
+        // 판매중 상품이 그대로면 이전 내용 버전 유지 (미리 계산된 추천이 불필요하게 무효화되지 않도록)
+        long contentVersion = current != null && current.source.equals(products) ? current.contentVersion : catalogVersion;
+        Snapshot rebuilt = new Snapshot(catalogVersion, contentVersion, products, Collections.unmodifiableList(indexed));
+        snapshot = rebuilt;
+        rebuildCounter.increment();
+
+        log.info("✅ 추천 점수 인덱스 계산 - 카탈로그 v{} (내용 v{}), 판매중 상품 {}개, 소요: {}μs",
+            catalogVersion, contentVersion, indexed.size(), (System.nanoTime() - start) / 1000);
+        return rebuilt;
+    }
+
+    private static class Snapshot {
+        private final long catalogVersion;
+        private final long contentVersion;
+        private final List<FinancialProduct> source;
+        private final List<IndexedProduct> products;
+        private final Map<String, IndexedProduct> byId;
+
+        private Snapshot(long catalogVersion, long contentVersion, List<FinancialProduct> source,
+                         List<IndexedProduct> products) {
+            this.catalogVersion = catalogVersion;
+            this.contentVersion = contentVersion;
+            this.source = source;
+            this.products = products;
+            Map<String, IndexedProduct> index = new HashMap<>();
+            for (IndexedProduct product : products) {
+                index.put(product.getProductId(), product);
+            }
+            this.byId = Collections.unmodifiableMap(index);
+        }
+    }
+
+    /**
+     * 점수 계산에 필요한 값을 미리 계산해 둔 상품 (불변)
+     */
+    @Getter
+    public static class IndexedProduct {
+        private final String productId;
+        private final String productName;
+        private final String productType;
+        private final String description;
+        private final double baseRate;
+        private final double minAmount;
+        private final double maxAmount;
+
+        // 키워드 매칭용 소문자 텍스트와 상품명 토큰
+        private final String normalizedName;
+        private final String normalizedDescription;
+        private final Set<String> nameTokens;
+
+        // 상품 유형 플래그
+        private final boolean loan;
+        private final boolean savings;
+        private final boolean investment;
+        private final boolean deposit;
+
+        // 의도 세부 매칭용 상품명 플래그
+        private final boolean housingName;
+        private final boolean jeonseName;
+        private final boolean childName;
+        private final boolean salaryName;
+
+        private IndexedProduct(FinancialProduct product) {
+            this.productId = product.getProductId();
+            this.productName = product.getProductName();
+            this.productType = product.getProductType() != null ? product.getProductType() : "";
+            this.description = product.getDescription();
+            this.baseRate = product.getBaseRate() != null ? product.getBaseRate().doubleValue() : 0.0;
+            this.minAmount = product.getMinAmount() != null ? product.getMinAmount().doubleValue() : 0.0;
+            this.maxAmount = product.getMaxAmount() != null ? product.getMaxAmount().doubleValue() : 0.0;
+
+            String name = productName != null ? productName : "";
+            this.normalizedName = name.toLowerCase();
+            this.normalizedDescription = description != null ? description.toLowerCase() : "";
+            Set<String> tokens = new HashSet<>();
+            for (String token : TOKEN_SEPARATOR.split(normalizedName)) {
+                if (!token.isEmpty()) {
+                    tokens.add(token);
+                }
+            }
+            this.nameTokens = Collections.unmodifiableSet(tokens);
+
+            this.loan = "대출".equals(productType);
+            this.savings = "적금".equals(productType);
+            this.investment = "투자".equals(productType);
+            this.deposit = "예금".equals(productType);
+
+            this.housingName = name.contains("주택");
+            this.jeonseName = name.contains("전세");
+            this.childName = name.contains("아이");
+            this.salaryName = name.contains("급여");
+        }
+
+        /**
+         * 키워드(소문자)가 상품명 또는 설명에 포함되는지 (상품명 토큰과 정확히 같으면 바로 일치)
+         */
+        public boolean matchesKeyword(String normalizedKeyword) {
+            return nameTokens.contains(normalizedKeyword)
+                || normalizedName.contains(normalizedKeyword)
+                || normalizedDescription.contains(normalizedKeyword);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.hanabank.bankadviser.domain.product.service;
 import com.hanabank.bankadviser.domain.product.entity.FinancialProduct;
 import com.hanabank.bankadviser.domain.product.entity.ProductRate;
 import com.hanabank.bankadviser.domain.product.entity.LoanRate;
+import com.hanabank.bankadviser.domain.product.event.ProductChangedEvent;
 import com.hanabank.bankadviser.domain.product.repository.FinancialProductRepository;
 import com.hanabank.bankadviser.domain.product.repository.ProductRateRepository;
 import com.hanabank.bankadviser.domain.product.repository.LoanRateRepository;
@@ -10,6 +11,7 @@ import com.hanabank.bankadviser.domain.product.repository.ProductFormRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -35,6 +37,8 @@ public class ProductService {
     private final LoanRateRepository loanRateRepository;
     private final ProductFormRepository productFormRepository;
     private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProductCatalog productCatalog;
     
     public Page<FinancialProduct> getAllProducts(int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
@@ -42,30 +46,15 @@ public class ProductService {
     }
     
     public List<FinancialProduct> getAllProducts() {
-        return financialProductRepository.findAll();
+        return productCatalog.findAll();
     }
     
+    /**
+     * 상품 단건 조회 (메모리 상품 카탈로그 스냅샷에서 조회, 반환값은 복사본이므로 수정 후 saveProduct로 저장)
+     */
     public Optional<FinancialProduct> getProductById(String productId) {
         try {
-            String sql = "SELECT * FROM product WHERE productid = ?";
-            List<FinancialProduct> products = jdbcTemplate.query(sql, new RowMapper<FinancialProduct>() {
-                @Override
-                public FinancialProduct mapRow(ResultSet rs, int rowNum) throws SQLException {
-                    FinancialProduct product = new FinancialProduct();
-                    product.setProductId(rs.getString("productid"));
-                    product.setProductName(rs.getString("productname"));
-                    product.setProductType(rs.getString("producttype"));
-                    product.setBaseRate(rs.getBigDecimal("baserate"));
-                    product.setMinAmount(rs.getBigDecimal("minamount"));
-                    product.setMaxAmount(rs.getBigDecimal("maxamount"));
-                    product.setDescription(rs.getString("description"));
-                    product.setLaunchDate(rs.getDate("launchdate") != null ? rs.getDate("launchdate").toLocalDate() : null);
-                    product.setSalesStatus(rs.getString("salesstatus"));
-                    return product;
-                }
-            }, productId);
-            
-            return products.isEmpty() ? Optional.empty() : Optional.of(products.get(0));
+            return productCatalog.findById(productId);
         } catch (Exception e) {
             log.error("상품 조회 중 오류 발생: {}", e.getMessage(), e);
             return Optional.empty();
@@ -73,7 +62,7 @@ public class ProductService {
     }
     
     public List<FinancialProduct> getProductsByType(String productType) {
-        return financialProductRepository.findByProductType(productType);
+        return productCatalog.findByType(productType);
     }
     
     public Page<FinancialProduct> searchProducts(String keyword, int page, int size) {
@@ -86,11 +75,14 @@ public class ProductService {
     }
     
     public FinancialProduct saveProduct(FinancialProduct product) {
-        return financialProductRepository.save(product);
+        FinancialProduct saved = financialProductRepository.save(product);
+        eventPublisher.publishEvent(ProductChangedEvent.of(saved.getProductId()));
+        return saved;
     }
     
     public void deleteProduct(String productId) {
         financialProductRepository.deleteById(productId);
+        eventPublisher.publishEvent(ProductChangedEvent.of(productId));
     }
     
     /**
@@ -0,0 +1,85 @@
+package com.hanabank.bankadviser.domain.product.service;
+
+import com.hanabank.bankadviser.global.shared.concurrent.BoundedExecutors;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 추천 파이프라인 병렬 단계(OpenAI 분석 호출, 고객 프로필 DB 조회) 전용 실행기
+ * ForkJoinPool 공용 풀 대신 이름 있는 제한된 스레드 풀에서 실행하여,
+ * 추천 요청이 몰려도 병렬 스트림 등 JVM의 다른 작업을 굶기지 않도록 함
+ *
+ * 스레드 수와 대기열이 가득 차면 RejectedExecutionException을 던지며,
+ * 파이프라인은 이를 받아 기본 추천으로 대체
+ */
+@Component
+@Slf4j
+public class RecommendationPipelineExecutor {
+
+    private final ExecutorService executor;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejectedCounter;
+
+    public RecommendationPipelineExecutor(MeterRegistry meterRegistry,
+                                          @Value("${recommendation.pipeline-executor.core-pool-size:4}") int corePoolSize,
+                                          @Value("${recommendation.pipeline-executor.max-pool-size:16}") int maxPoolSize,
+                                          @Value("${recommendation.pipeline-executor.queue-capacity:50}") int queueCapacity) {
+        this.meterRegistry = meterRegistry;
+        this.executor = BoundedExecutors.newBoundedExecutor(meterRegistry, "recommendation.pipeline", "recommendation-pipeline",
+            corePoolSize, maxPoolSize, queueCapacity, false);
+        this.rejectedCounter = Counter.builder("recommendation.pipeline.tasks.rejected")
+            .description("파이프라인 실행기가 가득 차 거절된 단계 작업 수")
+            .register(meterRegistry);
+
+        log.info("추천 파이프라인 실행기 초기화 - core: {}, max: {}, queue: {}", corePoolSize, maxPoolSize, queueCapacity);
+    }
+
+    /**
+     * 파이프라인 단계 작업 비동기 실행 (단계별 대기 시간 / 실행 시간 기록)
+     *
+     * @throws RejectedExecutionException 실행기가 가득 찬 경우
+     */
+    public <T> CompletableFuture<T> submit(String stage, Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                long startedAt = System.nanoTime();
+                stageTimer("recommendation.pipeline.task.wait", "단계 작업 대기열 대기 시간", stage)
+                    .record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return task.get();
+                } finally {
+                    stageTimer("recommendation.pipeline.task.duration", "단계 작업 실행 시간", stage)
+                        .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("⚠️ 추천 파이프라인 실행기 포화로 단계 작업 거절 - stage: {}", stage);
+            throw e;
+        }
+    }
+
+    private Timer stageTimer(String name, String description, String stage) {
+        return Timer.builder(name)
+            .description(description)
+            .tag("stage", stage)
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        BoundedExecutors.shutdown(executor, 10);
+    }
+}
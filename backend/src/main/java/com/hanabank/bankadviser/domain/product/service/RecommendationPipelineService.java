@@ -1,11 +1,14 @@
 package com.hanabank.bankadviser.domain.product.service;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.hanabank.bankadviser.domain.customer.entity.Customer;
-import com.hanabank.bankadviser.domain.product.entity.FinancialProduct;
 import com.hanabank.bankadviser.domain.customer.repository.CustomerRepository;
-import com.hanabank.bankadviser.domain.product.repository.FinancialProductRepository;
+import com.hanabank.bankadviser.domain.product.service.ProductScoringIndex.IndexedProduct;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,6 +16,8 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -22,8 +27,31 @@ import java.util.stream.Collectors;
 public class RecommendationPipelineService {
 
     private final CustomerRepository customerRepository;
-    private final FinancialProductRepository productRepository;
+    private final ProductScoringIndex productScoringIndex;
     private final OpenAIService openAIService;
+    private final RecommendationReasonGenerator reasonGenerator;
+    private final RecommendationPipelineExecutor pipelineExecutor;
+    private final MeterRegistry meterRegistry;
+    private final CustomerProfileCache customerProfileCache;
+
+    // 추천 순위: 점수 -> 기본 금리 높은 순 -> 상품ID (점수가 단계별로 같아지는 경우가 많아 카탈로그 적재 순서와 무관하게 고정)
+    private static final Comparator<ProductRecommendation> RANKING =
+        Comparator.comparingDouble(ProductRecommendation::getScore).reversed()
+            .thenComparing(Comparator.comparingDouble(ProductRecommendation::getInterestRate).reversed())
+            .thenComparing(ProductRecommendation::getProductId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    /**
+     * 음성 텍스트 분석 방식
+     * CHAIN: 음성 분석 / 키워드 추출 / 의도 분석 개별 호출 (의도 분석은 키워드 대기)
+     * COMBINED: 키워드 / 의도 / 신뢰도를 한 번의 구조화된 호출로 분석
+     */
+    public enum AnalysisMode {
+        CHAIN,
+        COMBINED
+    }
+
+    @Value("${openai.analysis.mode:CHAIN}")
+    private AnalysisMode analysisMode;
 
     /**
      * 6단계 추천 파이프라인 실행
@@ -35,47 +63,120 @@ public class RecommendationPipelineService {
      * 6. 추천 결과 생성
      */
     public RecommendationResult executeRecommendationPipeline(String customerId, String voiceText) {
+        return executeRecommendationPipeline(customerId, voiceText, RecommendationProgressListener.NONE);
+    }
+
+    /**
+     * 단계별 진행 알림을 받으며 추천 파이프라인 실행 (의도 분석 -> 상품 점수 -> 추천 이유 순서로 알림)
+     */
+    public RecommendationResult executeRecommendationPipeline(String customerId, String voiceText,
+                                                              RecommendationProgressListener listener) {
         log.info("🚀 추천 파이프라인 시작 - 고객ID: {}, 음성텍스트: {}", customerId, voiceText);
+        RecommendationTrace trace = new RecommendationTrace();
+        long pipelineStart = System.nanoTime();
 
         try {
-            // 1-3단계: OpenAI API 호출을 병렬로 실행하여 성능 최적화
-            CompletableFuture<OpenAIService.VoiceAnalysisResult> voiceAnalysisFuture = 
-                CompletableFuture.supplyAsync(() -> openAIService.analyzeVoiceText(voiceText));
-            CompletableFuture<List<String>> keywordsFuture = 
-                CompletableFuture.supplyAsync(() -> openAIService.extractKeywords(voiceText));
-            CompletableFuture<CustomerProfile> customerProfileFuture = 
-                CompletableFuture.supplyAsync(() -> getCustomerProfileFromDB(customerId));
+            // 1-4단계: 음성 텍스트 분석과 고객 프로필 조회를 병렬로 실행 (고객 선택 시 적재된 프로필이 있으면 DB 조회 생략)
+            CustomerProfile cachedProfile = customerProfileCache.get(customerId);
+            CompletableFuture<CustomerProfile> customerProfileFuture = cachedProfile != null
+                ? CompletableFuture.completedFuture(cachedProfile)
+                : pipelineExecutor.submit("customer-profile", () -> {
+                    long profileStart = System.nanoTime();
+                    try {
+                        return getCustomerProfileFromDB(customerId);
+                    } finally {
+                        recordStage(trace, "customer-profile", profileStart, "db");
+                    }
+                });
             
-            // 모든 비동기 작업 완료 대기
-            CompletableFuture.allOf(voiceAnalysisFuture, keywordsFuture, customerProfileFuture).join();
+            long analysisStart = System.nanoTime();
+            OpenAIService.IntentAnalysis intentAnalysis = analysisMode == AnalysisMode.COMBINED
+                ? openAIService.analyzeTranscript(voiceText)
+                : analyzeWithChain(voiceText);
+            recordStage(trace, "analysis", analysisStart, analysisMode.name());
             
-            OpenAIService.VoiceAnalysisResult voiceAnalysis = voiceAnalysisFuture.get();
-            List<String> keywords = keywordsFuture.get();
+            // 분석이 끝난 뒤에도 프로필 조회를 기다린 시간 (0에 가까우면 OpenAI 분석이 병목)
+            long profileWaitStart = System.nanoTime();
             CustomerProfile customerProfile = customerProfileFuture.get();
+            recordStage(trace, "customer-profile-wait", profileWaitStart, cachedProfile != null ? "cached" : "db");
+            List<String> keywords = intentAnalysis.getKeywords() != null ? intentAnalysis.getKeywords() : new ArrayList<>();
             
-            // 의도 분석은 키워드가 필요하므로 순차 실행
-            OpenAIService.IntentAnalysis intentAnalysis = openAIService.analyzeIntent(voiceText, keywords);
-            
-            log.info("1-4단계 완료 - 병렬 처리된 분석: voice={}, keywords={}, profile={}, intent={}", 
-                voiceAnalysis, keywords, customerProfile, intentAnalysis);
+            log.info("1-4단계 완료 - 분석 방식: {}, keywords={}, profile={}, intent={}", 
+                analysisMode, keywords, customerProfile, intentAnalysis);
+            notifyProgress("intent", () -> listener.onIntentAnalyzed(intentAnalysis));
 
             // 5단계: 상품 매칭 및 점수 계산 (실제 DB 기반)
-            List<ProductRecommendation> productRecommendations = matchProductsWithOpenAI(intentAnalysis, customerProfile, keywords);
+            List<ProductRecommendation> productRecommendations =
+                matchProductsWithOpenAI(intentAnalysis, customerProfile, keywords, listener, trace);
             log.info("5단계 완료 - 상품 추천: {}개", productRecommendations.size());
 
             // 6단계: 추천 결과 생성
             RecommendationResult result = generateRecommendationResult(
                 customerId, voiceText, intentAnalysis, productRecommendations);
-            log.info("6단계 완료 - 최종 추천 결과 생성");
+            finishTrace(trace, pipelineStart);
+            result.setTrace(trace);
+            log.info("6단계 완료 - 최종 추천 결과 생성, 단계별 소요: {}", trace.summary());
 
             return result;
 
+        } catch (RejectedExecutionException e) {
+            // 파이프라인 실행기 포화 - OpenAI 호출 없이 음성 텍스트 키워드 기반 기본 추천 반환
+            log.warn("⚠️ 추천 파이프라인 실행기 포화, 기본 추천으로 대체 - 고객ID: {}", customerId);
+            return createFallbackResult(customerId, voiceText);
         } catch (Exception e) {
             log.error("추천 파이프라인 실행 중 오류 발생", e);
             return createErrorResult(customerId, "추천 처리 중 오류가 발생했습니다.");
         }
     }
 
+    /**
+     * 단계 소요 시간을 요청 추적 기록과 단계별 타이머(히스토그램 포함)에 함께 기록
+     */
+    private void recordStage(RecommendationTrace trace, String stage, long startNanos, String detail) {
+        long elapsed = System.nanoTime() - startNanos;
+        trace.record(stage, elapsed, detail);
+        Timer.builder("recommendation.pipeline.stage")
+            .description("추천 파이프라인 단계별 소요 시간")
+            .tag("stage", stage)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(elapsed, TimeUnit.NANOSECONDS);
+    }
+
+    private void finishTrace(RecommendationTrace trace, long pipelineStart) {
+        long elapsed = System.nanoTime() - pipelineStart;
+        trace.finish(elapsed);
+        Timer.builder("recommendation.pipeline.duration")
+            .description("추천 파이프라인 전체 소요 시간")
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(elapsed, TimeUnit.NANOSECONDS);
+    }
+
+    // 진행 알림 실패가 파이프라인을 중단시키지 않도록 격리
+    private void notifyProgress(String stage, Runnable notification) {
+        try {
+            notification.run();
+        } catch (Exception e) {
+            log.warn("추천 진행 알림 실패 - stage: {}, 원인: {}", stage, e.getMessage());
+        }
+    }
+
+    /**
+     * 기존 분석 체인 (음성 분석 + 키워드 추출 병렬, 의도 분석은 키워드가 필요하므로 순차 실행)
+     */
+    private OpenAIService.IntentAnalysis analyzeWithChain(String voiceText) throws Exception {
+        CompletableFuture<OpenAIService.VoiceAnalysisResult> voiceAnalysisFuture = 
+            pipelineExecutor.submit("voice-analysis", () -> openAIService.analyzeVoiceText(voiceText));
+        CompletableFuture<List<String>> keywordsFuture = 
+            pipelineExecutor.submit("keywords", () -> openAIService.extractKeywords(voiceText));
+        
+        List<String> keywords = keywordsFuture.get();
+        OpenAIService.IntentAnalysis intentAnalysis = openAIService.analyzeIntent(voiceText, keywords);
+        log.info("음성 분석 결과: {}", voiceAnalysisFuture.get());
+        return intentAnalysis;
+    }
+
     // 하드코딩된 메서드들 제거됨 - OpenAI 서비스 사용
 
     // analyzeCustomerProfile 메서드 제거됨 - getCustomerProfileFromDB 사용
@@ -84,16 +185,18 @@ public class RecommendationPipelineService {
 
     /**
      * 상품 점수 계산
+     *
+     * @param normalizedKeywords 소문자로 변환한 키워드 (요청당 한 번만 변환)
      */
-    private double calculateProductScore(FinancialProduct product, OpenAIService.IntentAnalysis intentAnalysis, 
-                                       CustomerProfile customerProfile, List<String> keywords) {
+    private double calculateProductScore(IndexedProduct product, OpenAIService.IntentAnalysis intentAnalysis, 
+                                       CustomerProfile customerProfile, List<String> normalizedKeywords) {
         double score = 0.0;
 
         // 1. 의도 매칭 점수 (40%)
         score += calculateIntentScore(product, intentAnalysis) * 0.4;
 
         // 2. 키워드 매칭 점수 (30%)
-        score += calculateKeywordScore(product, keywords) * 0.3;
+        score += calculateKeywordScore(product, normalizedKeywords) * 0.3;
 
         // 3. 고객 프로필 매칭 점수 (30%)
         score += calculateProfileScore(product, customerProfile) * 0.3;
@@ -101,42 +204,39 @@ public class RecommendationPipelineService {
         return Math.min(score, 1.0); // 최대 1.0으로 제한
     }
 
-    private double calculateIntentScore(FinancialProduct product, OpenAIService.IntentAnalysis intentAnalysis) {
+    private double calculateIntentScore(IndexedProduct product, OpenAIService.IntentAnalysis intentAnalysis) {
         String intent = intentAnalysis.getIntent();
-        String productType = product.getProductType();
 
-        if (intent.contains("대출") && productType.equals("대출")) {
-            if (intent.contains("주택") && product.getProductName().contains("주택")) {
+        if (intent.contains("대출") && product.isLoan()) {
+            if (intent.contains("주택") && product.isHousingName()) {
                 return 0.9;
-            } else if (intent.contains("전세") && product.getProductName().contains("전세")) {
+            } else if (intent.contains("전세") && product.isJeonseName()) {
                 return 0.9;
             } else {
                 return 0.7;
             }
-        } else if (intent.contains("적금") && productType.equals("적금")) {
-            if (intent.contains("교육") && product.getProductName().contains("아이")) {
+        } else if (intent.contains("적금") && product.isSavings()) {
+            if (intent.contains("교육") && product.isChildName()) {
                 return 0.9;
-            } else if (intent.contains("급여") && product.getProductName().contains("급여")) {
+            } else if (intent.contains("급여") && product.isSalaryName()) {
                 return 0.9;
             } else {
                 return 0.7;
             }
-        } else if (intent.contains("투자") && productType.equals("투자")) {
+        } else if (intent.contains("투자") && product.isInvestment()) {
             return 0.8;
-        } else if (intent.contains("예금") && productType.equals("예금")) {
+        } else if (intent.contains("예금") && product.isDeposit()) {
             return 0.8;
         }
 
         return 0.2; // 기본 점수 (적절한 수준)
     }
 
-    private double calculateKeywordScore(FinancialProduct product, List<String> keywords) {
+    private double calculateKeywordScore(IndexedProduct product, List<String> normalizedKeywords) {
         double score = 0.2; // 기본 점수 (적절한 수준)
-        String productName = product.getProductName().toLowerCase();
-        String description = product.getDescription() != null ? product.getDescription().toLowerCase() : "";
 
-        for (String keyword : keywords) {
-            if (productName.contains(keyword.toLowerCase()) || description.contains(keyword.toLowerCase())) {
+        for (String keyword : normalizedKeywords) {
+            if (product.matchesKeyword(keyword)) {
                 score += 0.3;
             }
         }
@@ -144,7 +244,7 @@ public class RecommendationPipelineService {
         return Math.min(score, 1.0);
     }
 
-    private double calculateProfileScore(FinancialProduct product, CustomerProfile customerProfile) {
+    private double calculateProfileScore(IndexedProduct product, CustomerProfile customerProfile) {
         double score = 0.4; // 기본 점수 (적절한 수준)
 
         // 고객의 금융 건강도에 따른 점수 조정
@@ -154,17 +254,16 @@ public class RecommendationPipelineService {
 
         // 월소득에 따른 상품 적합성
         double monthlyIncome = customerProfile.getMonthlyIncome();
-        double minAmount = product.getMinAmount() != null ? product.getMinAmount().doubleValue() : 0.0;
         
-        if (monthlyIncome >= minAmount * 0.1) { // 월소득이 최소금액의 10% 이상
+        if (monthlyIncome >= product.getMinAmount() * 0.1) { // 월소득이 최소금액의 10% 이상
             score += 0.2;
         }
 
         // 위험성향에 따른 상품 매칭
         String riskTolerance = customerProfile.getRiskTolerance();
-        if (product.getProductType().equals("투자") && riskTolerance.equals("높음")) {
+        if (product.isInvestment() && riskTolerance.equals("높음")) {
             score += 0.2;
-        } else if (product.getProductType().equals("적금") && riskTolerance.equals("낮음")) {
+        } else if (product.isSavings() && riskTolerance.equals("낮음")) {
             score += 0.2;
         }
 
@@ -206,12 +305,27 @@ public class RecommendationPipelineService {
     }
 
     /**
-     * 실제 DB에서 고객 프로필 조회
+     * 고객 선택 시 프로필 스냅샷 미리 적재 (이미 있으면 생략, 실행기가 가득 차면 추천 요청 시 조회)
+     */
+    public void warmCustomerProfile(String customerId) {
+        if (customerId == null || customerProfileCache.contains(customerId)) {
+            return;
+        }
+        try {
+            pipelineExecutor.submit("customer-profile-warm", () -> getCustomerProfileFromDB(customerId));
+        } catch (RejectedExecutionException e) {
+            log.warn("⚠️ 파이프라인 실행기 포화로 고객 프로필 미리 적재 생략 - 고객ID: {}", customerId);
+        }
+    }
+
+    /**
+     * 실제 DB에서 고객 프로필 조회 (조회 성공 시 프로필 스냅샷 캐시에 저장, 기본값은 저장하지 않음)
      */
     @Transactional(propagation = Propagation.NOT_SUPPORTED, readOnly = true)
     private CustomerProfile getCustomerProfileFromDB(String customerId) {
         try {
             log.info("🔍 고객 프로필 DB 조회 시작: {}", customerId);
+            long loadGeneration = customerProfileCache.currentGeneration();
             
             Optional<Customer> customerOpt = customerRepository.findById(customerId);
             
@@ -219,17 +333,9 @@ public class RecommendationPipelineService {
                 Customer customer = customerOpt.get();
                 log.info("✅ 고객 프로필 DB 조회 성공: {}", customer.getName());
                 
-                return CustomerProfile.builder()
-                    .customerId(customerId)
-                    .name(customer.getName())
-                    .age(calculateAge(customer.getDateOfBirth()))
-                    .monthlyIncome(customer.getMonthlyIncome() != null ? customer.getMonthlyIncome().doubleValue() : 3000000.0)
-                    .totalAssets(customer.getTotalAssets() != null ? customer.getTotalAssets().doubleValue() : 50000000.0)
-                    .riskTolerance(customer.getRiskTolerance() != null ? customer.getRiskTolerance() : "보통")
-                    .investmentGoal(customer.getInvestmentGoal() != null ? customer.getInvestmentGoal() : "일반저축")
-                    .financialHealthScore(calculateFinancialHealthScore(customer))
-                    .salaryAccount(customer.getSalaryAccount())
-                    .build();
+                CustomerProfile profile = toCustomerProfile(customer);
+                customerProfileCache.put(profile, loadGeneration);
+                return profile;
             } else {
                 log.warn("⚠️ 고객 프로필 DB 조회 실패, 기본값 사용: {}", customerId);
                 return createDefaultCustomerProfile(customerId);
@@ -241,6 +347,75 @@ public class RecommendationPipelineService {
         }
     }
 
+    /**
+     * 고객 엔티티를 추천용 프로필로 변환 (값이 없는 항목은 기본값)
+     */
+    public CustomerProfile toCustomerProfile(Customer customer) {
+        return CustomerProfile.builder()
+            .customerId(customer.getCustomerId())
+            .name(customer.getName())
+            .age(calculateAge(customer.getDateOfBirth()))
+            .monthlyIncome(customer.getMonthlyIncome() != null ? customer.getMonthlyIncome().doubleValue() : 3000000.0)
+            .totalAssets(customer.getTotalAssets() != null ? customer.getTotalAssets().doubleValue() : 50000000.0)
+            .riskTolerance(customer.getRiskTolerance() != null ? customer.getRiskTolerance() : "보통")
+            .investmentGoal(customer.getInvestmentGoal() != null ? customer.getInvestmentGoal() : "일반저축")
+            .financialHealthScore(calculateFinancialHealthScore(customer))
+            .salaryAccount(Boolean.TRUE.equals(customer.getSalaryAccount()))
+            .build();
+    }
+
+    /**
+     * 음성 텍스트 없이 고객 프로필만으로 상품 점수 계산 (야간 일괄 추천용, OpenAI 호출 없음)
+     * 의도는 투자 목표 / 위험 성향 / 급여통장 여부로 추정하고, 키워드 점수는 기본값만 반영
+     */
+    public List<ProductRecommendation> scoreProfileOnly(CustomerProfile customerProfile, List<IndexedProduct> products, int limit) {
+        OpenAIService.IntentAnalysis intentAnalysis = OpenAIService.IntentAnalysis.builder()
+            .intent(inferProfileIntent(customerProfile))
+            .confidence(0.5)
+            .keywords(Collections.emptyList())
+            .build();
+
+        List<ProductRecommendation> recommendations = new ArrayList<>();
+        for (IndexedProduct product : products) {
+            double score = calculateProductScore(product, intentAnalysis, customerProfile, Collections.emptyList());
+            if (score > 0.25) {
+                recommendations.add(ProductRecommendation.builder()
+                    .productId(product.getProductId())
+                    .productName(product.getProductName())
+                    .productType(product.getProductType())
+                    .description(product.getDescription())
+                    .score(score)
+                    .interestRate(product.getBaseRate())
+                    .minAmount(product.getMinAmount())
+                    .maxAmount(product.getMaxAmount())
+                    .build());
+            }
+        }
+        return recommendations.stream()
+            .sorted(RANKING)
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * 고객 프로필로 추정한 상담 의도 (calculateIntentScore의 의도 유형과 동일)
+     */
+    public String inferProfileIntent(CustomerProfile customerProfile) {
+        String goal = customerProfile.getInvestmentGoal() != null ? customerProfile.getInvestmentGoal() : "";
+        if (goal.contains("주택") || goal.contains("내집")) {
+            return "주택대출문의";
+        } else if (goal.contains("전세")) {
+            return "전세대출문의";
+        } else if (goal.contains("교육") || goal.contains("자녀")) {
+            return "교육적금문의";
+        } else if ("높음".equals(customerProfile.getRiskTolerance()) || goal.contains("투자")) {
+            return "투자상품문의";
+        } else if (customerProfile.isSalaryAccount()) {
+            return "급여적금문의";
+        }
+        return "적금상품문의";
+    }
+
     /**
      * 기본 고객 프로필 생성 (DB 조회 실패 시)
      */
@@ -311,54 +486,60 @@ public class RecommendationPipelineService {
      * OpenAI 기반 상품 매칭 및 점수 계산
      */
     @Transactional(propagation = Propagation.NOT_SUPPORTED, readOnly = true)
-    private List<ProductRecommendation> matchProductsWithOpenAI(OpenAIService.IntentAnalysis intentAnalysis, CustomerProfile customerProfile, List<String> keywords) {
+    private List<ProductRecommendation> matchProductsWithOpenAI(OpenAIService.IntentAnalysis intentAnalysis, CustomerProfile customerProfile,
+                                                                List<String> keywords, RecommendationProgressListener listener,
+                                                                RecommendationTrace trace) {
         try {
             log.info("🔍 OpenAI 기반 상품 매칭 시작 - 의도: {}", intentAnalysis.getIntent());
             
-            // 실제 DB에서 상품 조회
-            List<FinancialProduct> products = productRepository.findBySalesStatusOrderByBaseRateDesc("판매중", 
-                org.springframework.data.domain.PageRequest.of(0, 20));
+            // 판매중 전체 상품 인덱스 (DB 조회 없이 메모리에서 점수 계산)
+            List<IndexedProduct> products = productScoringIndex.products();
             
             if (products.isEmpty()) {
-                log.warn("⚠️ DB에서 상품 조회 실패, 기본 추천 사용");
+                log.warn("⚠️ 판매중 상품 인덱스가 비어 있어 기본 추천 사용");
                 return createDefaultRecommendations(intentAnalysis, customerProfile);
             }
             
-            log.info("✅ DB에서 {}개 상품 조회 성공", products.size());
+            List<String> normalizedKeywords = keywords.stream()
+                .map(String::toLowerCase)
+                .collect(Collectors.toList());
             
+            // 점수 계산을 먼저 끝내고 상위 K개만 추림 (25% 이상 매칭되는 상품만 추천)
+            long scoringStart = System.nanoTime();
             List<ProductRecommendation> recommendations = new ArrayList<>();
             
-            for (FinancialProduct product : products) {
-                double score = calculateProductScore(product, intentAnalysis, customerProfile, keywords);
+            for (IndexedProduct product : products) {
+                double score = calculateProductScore(product, intentAnalysis, customerProfile, normalizedKeywords);
                 
-                if (score > 0.25) { // 25% 이상 매칭되는 상품만 추천 (적절한 품질)
-                    String reason = openAIService.generateRecommendationReason(
-                        product.getProductName(), 
-                        customerProfile.toString(), 
-                        intentAnalysis.getIntent()
-                    );
-                    
-                    ProductRecommendation recommendation = ProductRecommendation.builder()
+                if (score > 0.25) {
+                    recommendations.add(ProductRecommendation.builder()
                         .productId(product.getProductId())
                         .productName(product.getProductName())
                         .productType(product.getProductType())
                         .description(product.getDescription())
                         .score(score)
-                        .reason(reason)
-                        .interestRate(product.getBaseRate() != null ? product.getBaseRate().doubleValue() : 0.0)
-                        .minAmount(product.getMinAmount() != null ? product.getMinAmount().doubleValue() : 0.0)
-                        .maxAmount(product.getMaxAmount() != null ? product.getMaxAmount().doubleValue() : 0.0)
-                        .build();
-                    
-                    recommendations.add(recommendation);
+                        .interestRate(product.getBaseRate())
+                        .minAmount(product.getMinAmount())
+                        .maxAmount(product.getMaxAmount())
+                        .build());
                 }
             }
             
-            // 점수 순으로 정렬하고 상위 3개만 반환
-            return recommendations.stream()
-                .sorted((a, b) -> Double.compare(b.getScore(), a.getScore()))
-                .limit(3)
+            List<ProductRecommendation> topRecommendations = recommendations.stream()
+                .sorted(RANKING)
+                .limit(reasonGenerator.getTopK())
                 .collect(Collectors.toList());
+            recordStage(trace, "scoring", scoringStart, products.size() + " products");
+            log.info("✅ 판매중 상품 {}개 점수 계산 완료 - 후보: {}개", products.size(), recommendations.size());
+            
+            notifyProgress("products", () -> listener.onProductsScored(topRecommendations));
+            
+            // 최종 상품의 추천 이유만 병렬 생성 (시간 초과 / 실패 시 템플릿 문장, 생성될 때마다 알림)
+            long reasonStart = System.nanoTime();
+            reasonGenerator.fillReasons(topRecommendations, customerProfile, intentAnalysis.getIntent(), listener);
+            recordStage(trace, "reasons", reasonStart, topRecommendations.size() + " reasons");
+            
+            return topRecommendations;
             
         } catch (Exception e) {
             log.error("❌ OpenAI 기반 상품 매칭 중 오류 발생, 기본 추천 사용: {}", e.getMessage());
@@ -461,6 +642,36 @@ public class RecommendationPipelineService {
             .collect(Collectors.toList());
     }
 
+    /**
+     * 실행기 포화 시 기본 추천 결과 (음성 텍스트에 포함된 상품 유형으로 의도를 추정)
+     */
+    private RecommendationResult createFallbackResult(String customerId, String voiceText) {
+        String text = voiceText != null ? voiceText : "";
+        String intent = "일반상담";
+        if (text.contains("주택")) {
+            intent = "주택대출문의";
+        } else if (text.contains("전세")) {
+            intent = "전세대출문의";
+        } else if (text.contains("대출")) {
+            intent = "대출상품문의";
+        } else if (text.contains("적금")) {
+            intent = "적금상품문의";
+        } else if (text.contains("예금")) {
+            intent = "예금상품문의";
+        } else if (text.contains("투자") || text.contains("펀드")) {
+            intent = "투자상품문의";
+        }
+
+        OpenAIService.IntentAnalysis intentAnalysis = OpenAIService.IntentAnalysis.builder()
+            .intent(intent)
+            .confidence(0.5)
+            .keywords(new ArrayList<>())
+            .timestamp(LocalDateTime.now())
+            .build();
+        return generateRecommendationResult(customerId, voiceText, intentAnalysis,
+            createDefaultRecommendations(intentAnalysis, createDefaultCustomerProfile(customerId)));
+    }
+
     private RecommendationResult createErrorResult(String customerId, String errorMessage) {
         return RecommendationResult.builder()
             .sessionId("ERROR_" + customerId + "_" + System.currentTimeMillis())
@@ -505,7 +716,7 @@ public class RecommendationPipelineService {
     }
 
     @lombok.Data
-    @lombok.Builder
+    @lombok.Builder(toBuilder = true)
     public static class RecommendationResult {
         private String sessionId;
         private String customerId;
@@ -515,5 +726,8 @@ public class RecommendationPipelineService {
         private double confidence;
         private LocalDateTime timestamp;
         private String errorMessage;
+        // 단계별 소요 시간 (디버그 요청 응답에만 포함)
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private RecommendationTrace trace;
     }
 }
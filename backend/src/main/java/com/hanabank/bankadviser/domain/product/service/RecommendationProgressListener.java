@@ -0,0 +1,38 @@
+package com.hanabank.bankadviser.domain.product.service;
+
+import com.hanabank.bankadviser.domain.product.service.RecommendationPipelineService.ProductRecommendation;
+
+import java.util.List;
+
+/**
+ * 추천 파이프라인 단계별 진행 알림
+ * 최종 결과를 기다리지 않고 의도 분석, 상품 점수 계산, 추천 이유 생성 결과를 단계마다 화면에 먼저 표시하기 위해 사용
+ *
+ * 추천 이유 알림은 추천 이유 생성 스레드에서 호출되므로 구현은 스레드 안전해야 하며,
+ * 구현에서 발생한 예외는 파이프라인에 영향을 주지 않음
+ */
+public interface RecommendationProgressListener {
+
+    RecommendationProgressListener NONE = new RecommendationProgressListener() {
+    };
+
+    /**
+     * 의도 분석 완료 (키워드, 의도, 신뢰도)
+     */
+    default void onIntentAnalyzed(OpenAIService.IntentAnalysis intentAnalysis) {
+    }
+
+    /**
+     * 점수 계산 완료 - 추천 이유가 채워지기 전의 최종 상위 상품
+     */
+    default void onProductsScored(List<ProductRecommendation> recommendations) {
+    }
+
+    /**
+     * 상품 하나의 추천 이유 생성 완료 (완료 순서대로 호출)
+     *
+     * @param rank 최종 추천 목록에서의 순위 (0부터)
+     */
+    default void onReasonGenerated(int rank, ProductRecommendation recommendation) {
+    }
+}
@@ -0,0 +1,167 @@
+package com.hanabank.bankadviser.domain.product.service;
+
+import com.hanabank.bankadviser.domain.product.service.RecommendationPipelineService.CustomerProfile;
+import com.hanabank.bankadviser.domain.product.service.RecommendationPipelineService.ProductRecommendation;
+import com.hanabank.bankadviser.global.shared.concurrent.BoundedExecutors;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 최종 추천 상품(상위 K개)의 추천 이유 생성
+ * 점수 계산과 정렬이 끝난 뒤 살아남은 상품에 대해서만 OpenAI를 한 번에 병렬 호출하고,
+ * 호출별 제한 시간을 넘기거나 실패 / 실행기 포화 시 상품 정보 기반 템플릿 문장으로 대체
+ */
+@Component
+@Slf4j
+public class RecommendationReasonGenerator {
+
+    private final OpenAIService openAIService;
+    private final ExecutorService executor;
+    private final int topK;
+    private final long timeoutMillis;
+
+    private final Counter generatedCounter;
+    private final Counter fallbackCounter;
+
+    public RecommendationReasonGenerator(OpenAIService openAIService,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${recommendation.reasons.top-k:3}") int topK,
+                                         @Value("${recommendation.reasons.timeout-ms:4000}") long timeoutMillis,
+                                         @Value("${recommendation.reasons.pool-size:6}") int poolSize,
+                                         @Value("${recommendation.reasons.queue-capacity:30}") int queueCapacity) {
+        this.openAIService = openAIService;
+        this.topK = Math.max(topK, 1);
+        this.timeoutMillis = timeoutMillis;
+
+        this.executor = BoundedExecutors.newBoundedExecutor(meterRegistry, "recommendation.reasons", "recommendation-reason",
+            poolSize, poolSize, queueCapacity, true);
+        this.generatedCounter = Counter.builder("recommendation.reasons")
+            .description("추천 이유 생성 결과")
+            .tag("result", "generated")
+            .register(meterRegistry);
+        this.fallbackCounter = Counter.builder("recommendation.reasons")
+            .description("추천 이유 생성 결과")
+            .tag("result", "fallback")
+            .register(meterRegistry);
+
+        log.info("추천 이유 생성기 초기화 - topK: {}, timeout: {}ms, pool: {}, queue: {}",
+            this.topK, timeoutMillis, poolSize, queueCapacity);
+    }
+
+    /**
+     * 추천 이유를 생성할 최종 상품 개수
+     */
+    public int getTopK() {
+        return topK;
+    }
+
+    /**
+     * 상품별 추천 이유를 병렬 생성하여 각 추천에 채움 (모든 호출이 끝나거나 제한 시간이 지나면 반환)
+     * 이유가 하나 채워질 때마다 완료 순서대로 listener에 알림
+     */
+    public void fillReasons(List<ProductRecommendation> recommendations, CustomerProfile customerProfile, String intent,
+                            RecommendationProgressListener listener) {
+        if (recommendations.isEmpty()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        String profileText = customerProfile.toString();
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(recommendations.size());
+        for (int i = 0; i < recommendations.size(); i++) {
+            int rank = i;
+            ProductRecommendation recommendation = recommendations.get(i);
+            futures.add(requestReason(recommendation, profileText, intent).thenAccept(reason -> {
+                recommendation.setReason(reason);
+                notifyReason(listener, rank, recommendation);
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        log.info("💡 추천 이유 병렬 생성 완료 - {}개, 소요: {}ms", recommendations.size(), System.currentTimeMillis() - start);
+    }
+
+    private void notifyReason(RecommendationProgressListener listener, int rank, ProductRecommendation recommendation) {
+        try {
+            listener.onReasonGenerated(rank, recommendation);
+        } catch (Exception e) {
+            log.warn("추천 이유 진행 알림 실패 - 상품: {}, 원인: {}", recommendation.getProductName(), e.getMessage());
+        }
+    }
+
+    private CompletableFuture<String> requestReason(ProductRecommendation recommendation, String profileText, String intent) {
+        String fallback = templateReason(recommendation, intent);
+        CompletableFuture<String> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> openAIService.generateRecommendationReason(
+                recommendation.getProductName(), profileText, intent), executor);
+        } catch (RejectedExecutionException e) {
+            log.warn("⚠️ 추천 이유 생성 실행기 포화, 템플릿 사용 - 상품: {}", recommendation.getProductName());
+            fallbackCounter.increment();
+            return CompletableFuture.completedFuture(fallback);
+        }
+
+        // 제한 시간이 지나면 템플릿으로 완료 (진행 중인 OpenAI 호출은 실행기 스레드에서 마저 끝남)
+        return future
+            .completeOnTimeout(null, timeoutMillis, TimeUnit.MILLISECONDS)
+            .handle((reason, error) -> {
+                if (error != null) {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error;
+                    log.warn("⚠️ 추천 이유 생성 실패, 템플릿 사용 - 상품: {}, 원인: {}",
+                        recommendation.getProductName(), cause.getMessage());
+                    fallbackCounter.increment();
+                    return fallback;
+                }
+                if (reason == null || reason.isBlank()) {
+                    log.warn("⚠️ 추천 이유 생성 {}, 템플릿 사용 - 상품: {}",
+                        reason == null ? "시간 초과" : "빈 응답", recommendation.getProductName());
+                    fallbackCounter.increment();
+                    return fallback;
+                }
+                generatedCounter.increment();
+                return reason;
+            });
+    }
+
+    /**
+     * 상품 정보와 고객 의도로 만드는 결정적 추천 이유 (OpenAI 응답을 받지 못한 경우)
+     */
+    static String templateReason(ProductRecommendation recommendation, String intent) {
+        StringBuilder reason = new StringBuilder();
+        if (intent != null && !intent.isBlank() && !"일반상담".equals(intent)) {
+            reason.append(intent).append(" 목적에 맞는 ");
+        } else {
+            reason.append("고객님의 요구사항에 맞는 ");
+        }
+        if (recommendation.getProductType() != null) {
+            reason.append(recommendation.getProductType()).append(" 상품");
+        } else {
+            reason.append("상품");
+        }
+        if (recommendation.getInterestRate() > 0) {
+            reason.append("으로, 기본금리 ").append(String.format("%.2f", recommendation.getInterestRate())).append("%를 제공합니다.");
+        } else {
+            reason.append("입니다.");
+        }
+        return reason.toString();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 종료 시에는 응답을 받을 요청이 없으므로 진행 중인 OpenAI 호출을 기다리지 않음
+        BoundedExecutors.shutdown(executor, 0);
+    }
+}
@@ -0,0 +1,209 @@
+package com.hanabank.bankadviser.domain.product.service;
+
+import com.hanabank.bankadviser.domain.product.service.RecommendationPipelineService.ProductRecommendation;
+import com.hanabank.bankadviser.domain.product.service.RecommendationPipelineService.RecommendationResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * 동시에 들어온 같은 추천 요청의 파이프라인 실행을 하나로 합침 (single-flight)
+ * 행원 화면(/app/request-recommendation)과 태블릿 / REST(/api/recommendations/pipeline)가
+ * 같은 고객, 같은 음성 텍스트로 거의 동시에 요청해도 OpenAI 분석과 점수 계산은 한 번만 실행
+ *
+ * - 키: 고객 ID + 정규화한 음성 텍스트 (OpenAI 응답 캐시와 같은 정규화)
+ * - 먼저 들어온 요청(leader)이 호출 스레드에서 파이프라인을 실행하고, 이후 요청은 같은 결과를 기다려 공유
+ * - 진행 알림은 실행 중인 요청에 붙은 모든 요청의 listener에 전달 (늦게 붙은 listener에는 이미 끝난 단계를 먼저 재전송,
+ *   equals가 같은 listener는 한 번만 등록)
+ * - 최종 결과 브로드캐스트는 leader만 수행 (공유 결과는 읽기 전용으로 사용)
+ * - 실행이 끝나면 키를 제거하므로 완료 후 들어온 요청은 새로 실행
+ * - 대기는 wait-timeout-ms(OpenAI 분석 + 추천 이유 시간 제한 합계 기준)까지만 하고, 넘으면 listener를 떼고 직접 실행
+ * - leader가 어떤 오류로 끝나더라도(Error 포함) 대기 중인 요청에 같은 오류를 전달
+ */
+@Component
+@Slf4j
+public class RecommendationRequestDeduplicator {
+
+    private final RecommendationPipelineService recommendationPipelineService;
+    private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter leaderCounter;
+    private final Counter sharedCounter;
+    private final Counter waitTimeoutCounter;
+    private final long waitTimeoutMillis;
+
+    public RecommendationRequestDeduplicator(RecommendationPipelineService recommendationPipelineService,
+                                             MeterRegistry meterRegistry,
+                                             @Value("${recommendation.dedup.wait-timeout-ms:15000}") long waitTimeoutMillis) {
+        this.recommendationPipelineService = recommendationPipelineService;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.leaderCounter = Counter.builder("recommendation.requests.dedup")
+            .description("추천 요청 중복 제거 결과")
+            .tag("result", "executed")
+            .register(meterRegistry);
+        this.sharedCounter = Counter.builder("recommendation.requests.dedup")
+            .description("추천 요청 중복 제거 결과")
+            .tag("result", "shared")
+            .register(meterRegistry);
+        this.waitTimeoutCounter = Counter.builder("recommendation.requests.dedup")
+            .description("추천 요청 중복 제거 결과")
+            .tag("result", "wait-timeout")
+            .register(meterRegistry);
+        Gauge.builder("recommendation.requests.in-flight", inFlight, Map::size)
+            .description("실행 중인 추천 파이프라인 수 (중복 제거 기준)")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 같은 요청이 실행 중이면 진행 알림을 함께 받으며 그 결과를 기다려 공유하고, 없으면 호출 스레드에서 파이프라인 실행
+     *
+     * @param listener 이 요청의 진행 알림 (결과를 공유받는 경우에도 실행 중인 파이프라인의 단계별 알림을 받음)
+     */
+    public Outcome execute(String customerId, String voiceText, RecommendationProgressListener listener) {
+        String key = keyFor(customerId, voiceText);
+        InFlight created = new InFlight();
+        created.attach(listener);
+        InFlight existing = inFlight.putIfAbsent(key, created);
+
+        if (existing != null) {
+            sharedCounter.increment();
+            log.info("🔁 동일 추천 요청 실행 중, 결과 공유 대기 - 고객ID: {}", customerId);
+            boolean attached = existing.attach(listener);
+            try {
+                return new Outcome(existing.result.get(waitTimeoutMillis, TimeUnit.MILLISECONDS), false);
+            } catch (TimeoutException e) {
+                // 먼저 실행 중인 요청이 시간 제한을 넘기면 기다리지 않고 직접 실행 (결과도 직접 브로드캐스트)
+                waitTimeoutCounter.increment();
+                log.warn("⏱️ 동일 추천 요청 대기 시간 초과({}ms), 직접 실행 - 고객ID: {}", waitTimeoutMillis, customerId);
+                if (attached) {
+                    existing.detach(listener);
+                }
+                return new Outcome(
+                    recommendationPipelineService.executeRecommendationPipeline(customerId, voiceText, listener), true);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new CompletionException(cause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("추천 결과 대기 중 인터럽트", e);
+            }
+        }
+
+        leaderCounter.increment();
+        try {
+            RecommendationResult result =
+                recommendationPipelineService.executeRecommendationPipeline(customerId, voiceText, created);
+            created.result.complete(result);
+            return new Outcome(result, true);
+        } catch (Throwable e) {
+            // Error도 전달해야 대기 중인 요청이 끝남
+            created.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    private static String keyFor(String customerId, String voiceText) {
+        return customerId + "|" + OpenAIResponseCache.normalize(voiceText);
+    }
+
+    /**
+     * 실행 중인 파이프라인 - 결과와 붙은 요청들의 진행 알림 listener
+     * 파이프라인에는 이 객체가 listener로 전달되어 단계별 알림을 모든 요청에 나눠 전달
+     */
+    private static class InFlight implements RecommendationProgressListener {
+        private final CompletableFuture<RecommendationResult> result = new CompletableFuture<>();
+        private final List<RecommendationProgressListener> listeners = new ArrayList<>();
+
+        // 늦게 붙은 listener에 재전송할 완료된 단계
+        private OpenAIService.IntentAnalysis intentAnalysis;
+        private List<ProductRecommendation> scored;
+        private final Map<Integer, ProductRecommendation> reasons = new LinkedHashMap<>();
+
+        /**
+         * listener 등록 후 이미 끝난 단계를 재전송 (같은 listener가 이미 있으면 등록하지 않음)
+         */
+        synchronized boolean attach(RecommendationProgressListener listener) {
+            if (listener == null || listener == RecommendationProgressListener.NONE || listeners.contains(listener)) {
+                return false;
+            }
+            if (intentAnalysis != null) {
+                notify(listener, l -> l.onIntentAnalyzed(intentAnalysis));
+            }
+            if (scored != null) {
+                notify(listener, l -> l.onProductsScored(scored));
+            }
+            reasons.forEach((rank, recommendation) -> notify(listener, l -> l.onReasonGenerated(rank, recommendation)));
+            listeners.add(listener);
+            return true;
+        }
+
+        synchronized void detach(RecommendationProgressListener listener) {
+            listeners.remove(listener);
+        }
+
+        // 알림은 잠금 안에서 전달 (재전송과 새 알림의 순서가 섞이지 않도록)
+        @Override
+        public synchronized void onIntentAnalyzed(OpenAIService.IntentAnalysis intentAnalysis) {
+            this.intentAnalysis = intentAnalysis;
+            listeners.forEach(listener -> notify(listener, l -> l.onIntentAnalyzed(intentAnalysis)));
+        }
+
+        @Override
+        public synchronized void onProductsScored(List<ProductRecommendation> recommendations) {
+            this.scored = recommendations;
+            listeners.forEach(listener -> notify(listener, l -> l.onProductsScored(recommendations)));
+        }
+
+        @Override
+        public synchronized void onReasonGenerated(int rank, ProductRecommendation recommendation) {
+            reasons.put(rank, recommendation);
+            listeners.forEach(listener -> notify(listener, l -> l.onReasonGenerated(rank, recommendation)));
+        }
+
+        private static void notify(RecommendationProgressListener listener, Consumer<RecommendationProgressListener> event) {
+            try {
+                event.accept(listener);
+            } catch (Exception e) {
+                log.warn("추천 진행 알림 전달 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 실행 결과와 이 호출이 직접 실행했는지 여부 (false면 다른 요청의 결과를 공유한 것이므로 최종 결과는 브로드캐스트하지 않음)
+     */
+    @Getter
+    public static class Outcome {
+        private final RecommendationResult result;
+        private final boolean leader;
+
+        private Outcome(RecommendationResult result, boolean leader) {
+            this.result = result;
+            this.leader = leader;
+        }
+    }
+}
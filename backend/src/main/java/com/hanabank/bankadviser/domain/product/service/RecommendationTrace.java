@@ -0,0 +1,62 @@
+package com.hanabank.bankadviser.domain.product.service;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 추천 요청 한 건의 단계별 소요 시간 기록
+ * 같은 값이 단계별 타이머(recommendation.pipeline.stage)에도 기록되며,
+ * 이 기록은 디버그 요청(/api/recommendations/pipeline?debug=true) 응답에만 포함
+ *
+ * 고객 프로필 조회는 파이프라인 실행기 스레드에서 기록되므로 단계 목록은 동기화된 목록 사용
+ */
+@Getter
+public class RecommendationTrace {
+
+    private final String traceId = UUID.randomUUID().toString();
+    private final long startedAt = System.currentTimeMillis();
+    private final List<Stage> stages = Collections.synchronizedList(new ArrayList<>());
+    private volatile double totalMs;
+
+    void record(String stage, long durationNanos, String detail) {
+        stages.add(new Stage(stage, toMillis(durationNanos), detail));
+    }
+
+    void finish(long durationNanos) {
+        this.totalMs = toMillis(durationNanos);
+    }
+
+    /**
+     * 로그용 요약 (단계=소요ms)
+     */
+    public String summary() {
+        synchronized (stages) {
+            return stages.stream()
+                .map(stage -> stage.getStage() + "=" + stage.getDurationMs() + "ms")
+                .collect(Collectors.joining(", ", "[", "] total=" + totalMs + "ms"));
+        }
+    }
+
+    // 0.01ms 단위로 반올림
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+
+    @Getter
+    public static class Stage {
+        private final String stage;
+        private final double durationMs;
+        private final String detail;
+
+        private Stage(String stage, double durationMs, String detail) {
+            this.stage = stage;
+            this.durationMs = durationMs;
+            this.detail = detail;
+        }
+    }
+}
@@ -1,13 +1,18 @@
 package com.hanabank.bankadviser.global.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.TaskExecutorRegistration;
+import org.springframework.web.socket.BinaryMessage;
 import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
@@ -15,11 +20,22 @@ import org.springframework.web.socket.config.annotation.EnableWebSocket;
 import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.hanabank.bankadviser.domain.consultation.service.SessionMessagePublisher;
+import com.hanabank.bankadviser.global.websocket.BrokerMode;
+import com.hanabank.bankadviser.global.websocket.CoalescibleMessage;
+import com.hanabank.bankadviser.global.websocket.CompactFrameCodec;
+import com.hanabank.bankadviser.global.websocket.CompactFrameNegotiator;
+import com.hanabank.bankadviser.global.websocket.FrameFormat;
+import com.hanabank.bankadviser.global.websocket.SessionReplayBuffer;
+import com.hanabank.bankadviser.global.websocket.SessionStateStore;
+import com.hanabank.bankadviser.global.websocket.SocketSendQueueManager;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Configuration
@@ -33,10 +49,76 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer, WebSoc
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private SocketSendQueueManager sendQueueManager;
+
+    // 연결별 압축 바이너리 프레임 협상 (websocket.compact-frames.enabled)
+    @Autowired
+    private CompactFrameNegotiator compactFrameNegotiator;
+
+    // 세션 메시지 재전송 버퍼 (단순 WebSocket session-resume 처리)
+    @Autowired
+    private SessionReplayBuffer sessionReplayBuffer;
+
+    // 세션 화면 상태 저장소 (단순 WebSocket join-session 시 스냅샷 전송)
+    @Autowired
+    private SessionStateStore sessionStateStore;
+
+    // 세션 메시지 발행 (발행기가 이 설정의 핸들러를 주입받으므로 사용 시점에 조회)
+    @Autowired
+    private ObjectProvider<SessionMessagePublisher> sessionMessagePublisherProvider;
+
+    // 브로커 구성 방식 (SIMPLE | RELAY | REDIS | EMBEDDED)
+    @Value("${websocket.broker.mode:SIMPLE}")
+    private BrokerMode brokerMode;
+
+    @Value("${websocket.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${websocket.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${websocket.broker.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${websocket.broker.relay.passcode:guest}")
+    private String relayPasscode;
+
+    // STOMP 채널 스레드 풀 (0 이하이면 Spring 기본값 유지)
+    @Value("${websocket.inbound-channel.core-pool-size:0}")
+    private int inboundCorePoolSize;
+
+    @Value("${websocket.inbound-channel.max-pool-size:0}")
+    private int inboundMaxPoolSize;
+
+    @Value("${websocket.inbound-channel.queue-capacity:0}")
+    private int inboundQueueCapacity;
+
+    @Value("${websocket.outbound-channel.core-pool-size:0}")
+    private int outboundCorePoolSize;
+
+    @Value("${websocket.outbound-channel.max-pool-size:0}")
+    private int outboundMaxPoolSize;
+
+    @Value("${websocket.outbound-channel.queue-capacity:0}")
+    private int outboundQueueCapacity;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // 클라이언트에서 구독할 수 있는 경로 설정
-        config.enableSimpleBroker("/topic", "/queue");
+        if (brokerMode == BrokerMode.RELAY) {
+            // 외부 STOMP 브로커로 릴레이 - 여러 노드가 같은 브로커를 공유하여 세션을 노드 간에 분산
+            config.enableStompBrokerRelay("/topic", "/queue")
+                  .setRelayHost(relayHost)
+                  .setRelayPort(relayPort)
+                  .setClientLogin(relayLogin)
+                  .setClientPasscode(relayPasscode)
+                  .setSystemLogin(relayLogin)
+                  .setSystemPasscode(relayPasscode);
+        } else {
+            // SIMPLE / REDIS / EMBEDDED: 노드별 SimpleBroker (REDIS, EMBEDDED는 ClusterMessageBus로 노드 간 팬아웃)
+            config.enableSimpleBroker("/topic", "/queue");
+        }
         
         // 클라이언트에서 메시지를 보낼 때 사용할 경로 설정
         config.setApplicationDestinationPrefixes("/app");
@@ -72,9 +154,10 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer, WebSoc
                 .setSessionCookieNeeded(false)
                 .setStreamBytesLimit(512 * 1024);
 
-        // 네이티브 WebSocket 엔드포인트 (웹 브라우저용)
+        // 네이티브 WebSocket 엔드포인트 (웹 브라우저용) - 압축 바이너리 프레임 협상 가능
         registry.addEndpoint("/websocket")
-                .setAllowedOriginPatterns("*");
+                .setAllowedOriginPatterns("*")
+                .addInterceptors(compactFrameNegotiator.nativeTransportHandshakeInterceptor());
 
         // 추가 STOMP 엔드포인트 (React Native STOMP 연결용)
         registry.addEndpoint("/stomp")
@@ -97,11 +180,48 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer, WebSoc
                    .setTimeToFirstMessage(60000); // 첫 메시지까지 대기 시간 증가
     }
 
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // CONNECT 시 frame-format 협상, 압축 SEND 프레임은 JSON으로 복원
+        registration.interceptors(compactFrameNegotiator.inboundInterceptor());
+        // 블로킹 작업은 HandlerTaskExecutor로 넘기므로 인바운드 풀은 메시지 디스패치만 담당
+        configureChannelPool(registration, inboundCorePoolSize, inboundMaxPoolSize, inboundQueueCapacity);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        // 압축 프레임을 협상한 세션에는 MESSAGE를 바이너리로 변환하여 전송
+        registration.interceptors(compactFrameNegotiator.outboundInterceptor());
+        configureChannelPool(registration, outboundCorePoolSize, outboundMaxPoolSize, outboundQueueCapacity);
+    }
+
+    private void configureChannelPool(ChannelRegistration registration, int corePoolSize, int maxPoolSize, int queueCapacity) {
+        if (corePoolSize <= 0 && maxPoolSize <= 0 && queueCapacity <= 0) {
+            return;
+        }
+        TaskExecutorRegistration executor = registration.taskExecutor();
+        if (corePoolSize > 0) {
+            executor.corePoolSize(corePoolSize);
+        }
+        if (maxPoolSize > 0) {
+            executor.maxPoolSize(Math.max(maxPoolSize, corePoolSize));
+        }
+        if (queueCapacity > 0) {
+            executor.queueCapacity(queueCapacity);
+        }
+    }
+
+    // 단순 WebSocket 핸들러 (컨텍스트마다 하나 - 브리지 전송 시 SessionMessagePublisher가 주입받아 사용)
+    @Bean
+    public SimpleWebSocketHandler simpleWebSocketHandler() {
+        return new SimpleWebSocketHandler(objectMapper, sendQueueManager, compactFrameNegotiator,
+                sessionReplayBuffer, sessionStateStore, sessionMessagePublisherProvider);
+    }
+
     // WebSocketConfigurer 구현 - 단순 WebSocket 핸들러 등록
     @Override
     public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
-        SimpleWebSocketHandler handler = new SimpleWebSocketHandler(objectMapper);
-        registry.addHandler(handler, "/simple-ws")
+        registry.addHandler(simpleWebSocketHandler(), "/simple-ws")
                 .setAllowedOrigins("http://localhost:3000");
     }
     
@@ -112,14 +232,37 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer, WebSoc
     // }
 
     // 단순 WebSocket 메시지 핸들러
+    // 소켓 / 룸 상태는 핸들러 인스턴스(= 애플리케이션 컨텍스트)별로 보관 - EMBEDDED 모드에서 한 JVM에 컨텍스트를 여러 개 띄워도
+    // 각 노드는 자신에게 연결된 소켓에만 전달
     public static class SimpleWebSocketHandler extends TextWebSocketHandler {
         
         private final ObjectMapper objectMapper;
-        private static final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
-        private static final Map<String, String> sessionToRoom = new ConcurrentHashMap<>(); // sessionId -> roomId
+        private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+        private final Map<String, String> sessionToRoom = new ConcurrentHashMap<>(); // sessionId -> roomId
+        private final Map<String, Set<WebSocketSession>> roomSessions = new ConcurrentHashMap<>(); // roomId -> 연결된 소켓들
+
+        // 소켓별 비동기 송신 큐
+        private final SocketSendQueueManager sendQueues;
+
+        // 압축 프레임 변환
+        private final CompactFrameNegotiator compactFrames;
 
-        public SimpleWebSocketHandler(ObjectMapper objectMapper) {
+        // 압축 프레임을 협상한 소켓 ID -> 사전 버전 (없으면 JSON)
+        private final Map<String, Integer> socketCompactVersions = new ConcurrentHashMap<>();
+
+        private final SessionReplayBuffer replayBuffer;
+        private final SessionStateStore stateStore;
+        private final ObjectProvider<SessionMessagePublisher> publisherProvider;
+
+        public SimpleWebSocketHandler(ObjectMapper objectMapper, SocketSendQueueManager sendQueueManager,
+                                      CompactFrameNegotiator compactFrameNegotiator, SessionReplayBuffer replayBuffer,
+                                      SessionStateStore stateStore, ObjectProvider<SessionMessagePublisher> publisherProvider) {
             this.objectMapper = objectMapper;
+            this.replayBuffer = replayBuffer;
+            this.stateStore = stateStore;
+            this.publisherProvider = publisherProvider;
+            this.sendQueues = sendQueueManager;
+            this.compactFrames = compactFrameNegotiator;
         }
         
         // STOMP 메시징 템플릿 설정 메서드 (순환 참조 방지로 제거)
@@ -127,32 +270,127 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer, WebSoc
         //     messagingTemplate = template;
         // }
         
-        // STOMP 메시지를 단순 WebSocket으로 브리지하는 정적 메서드
-        public static void broadcastToSimpleWebSocket(String sessionId, Object message) {
+        // 태블릿에서 받은 메시지를 세션 메시지로 발행 (발행기가 없는 경우에만 이 노드의 브리지 소켓에 직접 전송)
+        private void publishToSession(String sessionId, Object message) {
+            SessionMessagePublisher publisher = publisherProvider.getIfAvailable();
+            if (publisher != null) {
+                publisher.publish(sessionId, message);
+            } else {
+                broadcastToSimpleWebSocket(sessionId, message);
+            }
+        }
+
+        // STOMP 메시지를 단순 WebSocket으로 브리지
+        // 룸 인덱스로 대상 소켓만 조회하고, 메시지는 한 번만 직렬화하여 모든 소켓에 재사용
+        public void broadcastToSimpleWebSocket(String sessionId, Object message) {
+            Set<WebSocketSession> members = roomSessions.get(sessionId);
+            if (members == null || members.isEmpty()) {
+                return;
+            }
+
+            String jsonMessage;
             try {
-                ObjectMapper mapper = new ObjectMapper();
-                String jsonMessage = mapper.writeValueAsString(message);
-                
-                // 해당 세션(룸)에 연결된 모든 단순 WebSocket 세션에 메시지 전송
-                sessions.entrySet().forEach(entry -> {
-                    WebSocketSession wsSession = entry.getValue();
-                    String roomId = sessionToRoom.get(wsSession.getId());
-                    
-                    if (sessionId.equals(roomId) && wsSession.isOpen()) {
-                        try {
-                            wsSession.sendMessage(new TextMessage(jsonMessage));
-                            System.out.println("✅ STOMP → WebSocket 브리지 전송 성공: " + sessionId + " → " + wsSession.getId());
-                        } catch (Exception e) {
-                            System.err.println("❌ STOMP → WebSocket 브리지 전송 실패: " + e.getMessage());
-                        }
-                    }
-                });
+                jsonMessage = objectMapper.writeValueAsString(message);
             } catch (Exception e) {
                 System.err.println("❌ STOMP → WebSocket 브리지 메시지 변환 실패: " + e.getMessage());
+                return;
             }
+            broadcastJsonToSimpleWebSocket(sessionId, jsonMessage, coalesceKeyOf(message));
         }
-        
 
+        // 이미 직렬화된 JSON 메시지를 단순 WebSocket으로 브리지 (노드 간 팬아웃 수신 시 사용)
+        public void broadcastJsonToSimpleWebSocket(String sessionId, String jsonMessage, String coalesceKey) {
+            Set<WebSocketSession> members = roomSessions.get(sessionId);
+            if (members == null || members.isEmpty()) {
+                return;
+            }
+
+            // 실제 전송은 소켓별 송신 큐에서 비동기로 처리 (호출 스레드는 즉시 반환)
+            // 프레임은 형식별로 한 번만 만들어 같은 형식의 소켓에 재사용
+            FrameCache frames = new FrameCache(jsonMessage);
+            int queuedCount = 0;
+            for (WebSocketSession wsSession : members) {
+                if (wsSession.isOpen()) {
+                    sendQueues.enqueue(wsSession, frames.forSocket(wsSession), coalesceKey);
+                    queuedCount++;
+                }
+            }
+            System.out.println("✅ STOMP → WebSocket 브리지 전송 예약: " + sessionId + " (" + queuedCount + "/" + members.size() + ")");
+        }
+
+        // 소켓이 협상한 형식으로 JSON 메시지 전송 (압축 변환 실패 시 JSON 텍스트 프레임)
+        private void sendToSocket(WebSocketSession session, String jsonMessage) {
+            sendQueues.enqueue(session, new FrameCache(jsonMessage).forSocket(session));
+        }
+
+        // 브로드캐스트 한 번에 사용할 형식 / 사전 버전별 프레임 (압축 프레임은 필요할 때만 생성)
+        private class FrameCache {
+            private final String json;
+            private TextMessage textMessage;
+            private final WebSocketMessage<?>[] compactMessages = new WebSocketMessage<?>[CompactFrameCodec.VERSION + 1];
+
+            private FrameCache(String json) {
+                this.json = json;
+            }
+
+            private WebSocketMessage<?> forSocket(WebSocketSession session) {
+                Integer version = socketCompactVersions.get(session.getId());
+                if (version != null) {
+                    if (compactMessages[version] == null) {
+                        byte[] compact = compactFrames.encodeForSimpleSocket(json, version);
+                        compactMessages[version] = compact != null ? new BinaryMessage(compact) : text();
+                    }
+                    return compactMessages[version];
+                }
+                return text();
+            }
+
+            private TextMessage text() {
+                if (textMessage == null) {
+                    textMessage = new TextMessage(json);
+                }
+                return textMessage;
+            }
+        }
+
+        // COALESCE 정책용 병합 키 (같은 타입 + 같은 필드의 대기 메시지는 마지막 값만 전송)
+        @SuppressWarnings("unchecked")
+        public static String coalesceKeyOf(Object message) {
+            if (message instanceof CoalescibleMessage) {
+                return ((CoalescibleMessage) message).coalesceKey();
+            }
+            if (!(message instanceof Map)) {
+                return null;
+            }
+            Map<String, Object> map = (Map<String, Object>) message;
+            Object type = map.get("type");
+            Object fieldId = map.get("fieldId");
+            if (fieldId == null && map.get("data") instanceof Map) {
+                fieldId = ((Map<String, Object>) map.get("data")).get("fieldId");
+            }
+            return type != null && fieldId != null ? type + ":" + fieldId : null;
+        }
+
+        // 소켓을 룸에 등록 (다른 룸에 있었다면 이전 룸에서 제거)
+        private void joinRoom(String roomId, WebSocketSession session) {
+            String previousRoomId = sessionToRoom.put(session.getId(), roomId);
+            if (previousRoomId != null && !previousRoomId.equals(roomId)) {
+                leaveRoom(previousRoomId, session);
+            }
+            roomSessions.compute(roomId, (key, members) -> {
+                Set<WebSocketSession> roomMembers = members != null ? members : ConcurrentHashMap.newKeySet();
+                roomMembers.add(session);
+                return roomMembers;
+            });
+        }
+
+        // 소켓을 룸에서 제거 (마지막 소켓이면 룸 자체를 제거)
+        private void leaveRoom(String roomId, WebSocketSession session) {
+            roomSessions.computeIfPresent(roomId, (key, members) -> {
+                members.remove(session);
+                return members.isEmpty() ? null : members;
+            });
+        }
 
         @Override
         protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
@@ -170,23 +408,48 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer, WebSoc
                         String userType = jsonNode.get("userType").asText();
                         System.out.println("세션 참여: " + sessionId + ", 사용자 타입: " + userType);
                         
-                        // 세션-방 매핑 저장
-                        sessionToRoom.put(session.getId(), sessionId);
+                        // 세션-방 매핑 및 룸 인덱스 저장
+                        joinRoom(sessionId, session);
                         System.out.println("✅ 세션 매핑 저장: " + session.getId() + " -> " + sessionId);
                         
-                        // 세션 참여 성공 메시지 전송 (단순 WebSocket)
+                        // 프레임 형식 협상 (frameFormat: "compact" 또는 "compact;v=사전 버전" 요청 + 서버 허용 시에만 압축, 아니면 JSON)
+                        int compactVersion = compactFrames.negotiateVersion(
+                            jsonNode.has("frameFormat") ? jsonNode.get("frameFormat").asText() : null);
+                        FrameFormat frameFormat = compactVersion > 0 ? FrameFormat.COMPACT : FrameFormat.JSON;
+                        if (compactVersion > 0) {
+                            socketCompactVersions.put(session.getId(), compactVersion);
+                        } else {
+                            socketCompactVersions.remove(session.getId());
+                        }
+                        
+                        // 세션 참여 성공 메시지 전송 (협상 결과 확인용으로 항상 JSON 텍스트 프레임)
                         String response = objectMapper.writeValueAsString(Map.of(
                             "type", "session-joined",
                             "sessionId", sessionId,
                             "userType", userType,
                             "success", true,
-                            "message", "세션 참여 성공!"
+                            "message", "세션 참여 성공!",
+                            "frameFormat", frameFormat.name().toLowerCase(),
+                            "frameVersion", compactVersion
                         ));
-                        session.sendMessage(new TextMessage(response));
+                        sendQueues.enqueue(session, new TextMessage(response));
+                        
+                        // 현재 화면 상태 스냅샷 전송 (늦게 참여 / 재연결한 태블릿이 다음 이벤트를 기다리지 않도록)
+                        sendToSocket(session, objectMapper.writeValueAsString(stateStore.snapshot(sessionId)));
                         
                         System.out.println("✅ 태블릿 세션 참여 완료: " + sessionId);
                         break;
                         
+                    case "session-resume":
+                        // 재연결 후 놓친 메시지 재전송 (join-session으로 룸에 다시 참여한 뒤 요청)
+                        long lastSeq = jsonNode.has("lastSeq") ? jsonNode.get("lastSeq").asLong() : 0L;
+                        String epoch = jsonNode.has("epoch") ? jsonNode.get("epoch").asText() : null;
+                        System.out.println("🔁 세션 재전송 요청: " + sessionId + ", lastSeq: " + lastSeq);
+                        
+                        String replayResponse = objectMapper.writeValueAsString(replayBuffer.replaySince(sessionId, epoch, lastSeq));
+                        sendToSocket(session, replayResponse);
+                        break;
+                        
                     case "test-message":
                         // 테스트 메시지 처리
                         String clientType = jsonNode.has("clientType") ? jsonNode.get("clientType").asText() : "unknown";
@@ -202,7 +465,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer, WebSoc
                             "response", "백엔드에서 테스트 메시지를 정상적으로 받았습니다!",
                             "timestamp", System.currentTimeMillis()
                         ));
-                        session.sendMessage(new TextMessage(testResponse));
+                        sendToSocket(session, testResponse);
                         
                         System.out.println("✅ 태블릿 테스트 메시지 처리 완료: " + sessionId);
                         break;
@@ -217,7 +480,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer, WebSoc
                             "sessionId", sessionId,
                             "timestamp", System.currentTimeMillis()
                         ));
-                        session.sendMessage(new TextMessage(pongResponse));
+                        sendToSocket(session, pongResponse);
                         break;
                         
                     case "start-consultation":
@@ -228,7 +491,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer, WebSoc
                             "type", "consultation-started",
                             "sessionId", sessionId
                         ));
-                        session.sendMessage(new TextMessage(consultationResponse));
+                        sendToSocket(session, consultationResponse);
                         break;
                         
                     case "customer-info-confirmed":
@@ -238,7 +501,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer, WebSoc
                             "type", "customer-info-confirmed",
                             "sessionId", sessionId
                         ));
-                        session.sendMessage(new TextMessage(customerResponse));
+                        sendToSocket(session, customerResponse);
                         break;
                         
                     case "field-input-completed":
@@ -276,20 +539,10 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer, WebSoc
                             "success", true,
                             "message", "필드 입력이 PC와 동기화되었습니다"
                         ));
-                        session.sendMessage(new TextMessage(fieldResponse));
+                        sendToSocket(session, fieldResponse);
                         
-                        // 다른 세션들에게도 브로드캐스트 (PC 동기화)
-                        broadcastToSimpleWebSocket(sessionId, fieldMessage);
-                        
-                        // STOMP로도 전송 (PC 클라이언트 동기화) - 순환 참조 방지로 제거
-                        // if (messagingTemplate != null) {
-                        //     try {
-                        //         messagingTemplate.convertAndSend("/topic/session/" + sessionId, fieldMessage);
-                        //         System.out.println("✅ STOMP로 PC에 필드 입력 완료 전송");
-                        //     } catch (Exception e) {
-                        //         System.err.println("❌ STOMP 전송 실패: " + e.getMessage());
-                        //     }
-                        // }
+                        // 세션 메시지로 발행 (PC STOMP 구독자 + 브리지 소켓, 순번 부여 / 화면 상태 반영 / 노드 간 팬아웃)
+                        publishToSession(sessionId, fieldMessage);
                         
                         System.out.println("✅ 필드 입력 완료 메시지 브로드캐스트 완료");
                         break;
@@ -340,10 +593,10 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer, WebSoc
                             "success", true,
                             "message", "필드 입력이 PC와 동기화되었습니다"
                         ));
-                        session.sendMessage(new TextMessage(existingFieldResponse));
+                        sendToSocket(session, existingFieldResponse);
                         
-                        // 다른 세션들에게도 브로드캐스트 (PC 동기화)
-                        broadcastToSimpleWebSocket(sessionId, existingFieldMessage);
+                        // 세션 메시지로 발행 (PC STOMP 구독자 + 브리지 소켓, 순번 부여 / 화면 상태 반영 / 노드 간 팬아웃)
+                        publishToSession(sessionId, existingFieldMessage);
                         
                         System.out.println("✅ 기존 형식 필드 입력 완료 메시지 브로드캐스트 완료");
                         break;
@@ -359,36 +612,53 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer, WebSoc
             }
         }
 
+        // 압축 바이너리 프레임 수신 - JSON으로 복원하여 텍스트 메시지와 같은 경로로 처리
+        @Override
+        protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws Exception {
+            byte[] frame = new byte[message.getPayloadLength()];
+            message.getPayload().get(frame);
+            if (!CompactFrameCodec.isCompactFrame(frame)) {
+                System.err.println("❌ 알 수 없는 바이너리 프레임 수신: " + session.getId());
+                return;
+            }
+            try {
+                handleTextMessage(session, new TextMessage(CompactFrameCodec.decodeToJson(objectMapper, frame)));
+            } catch (Exception e) {
+                System.err.println("❌ 압축 프레임 복원 실패: " + e.getMessage());
+            }
+        }
+
         @Override
         public void afterConnectionEstablished(WebSocketSession session) throws Exception {
             System.out.println("단순 WebSocket 연결 성공: " + session.getId());
             sessions.put(session.getId(), session);
+            sendQueues.register(session);
         }
 
         @Override
         public void afterConnectionClosed(WebSocketSession session, org.springframework.web.socket.CloseStatus status) throws Exception {
             System.out.println("단순 WebSocket 연결 종료: " + session.getId() + ", 상태: " + status);
             sessions.remove(session.getId());
+            socketCompactVersions.remove(session.getId());
+            sendQueues.unregister(session);
             String roomId = sessionToRoom.remove(session.getId());
             if (roomId != null) {
+                leaveRoom(roomId, session);
                 System.out.println("✅ 세션 매핑 제거: " + session.getId() + " -> " + roomId);
             }
         }
         
         // 웹에서 태블릿으로 메시지를 전달하는 메서드
         public void sendToTablet(String roomId, String message) {
-            for (Map.Entry<String, String> entry : sessionToRoom.entrySet()) {
-                if (roomId.equals(entry.getValue())) {
-                    String sessionId = entry.getKey();
-                    WebSocketSession session = sessions.get(sessionId);
-                    if (session != null && session.isOpen()) {
-                        try {
-                            session.sendMessage(new TextMessage(message));
-                            System.out.println("✅ 태블릿으로 메시지 전송: " + sessionId + " -> " + roomId);
-                        } catch (Exception e) {
-                            System.err.println("❌ 태블릿 메시지 전송 실패: " + e.getMessage());
-                        }
-                    }
+            Set<WebSocketSession> members = roomSessions.get(roomId);
+            if (members == null) {
+                return;
+            }
+            FrameCache frames = new FrameCache(message);
+            for (WebSocketSession session : members) {
+                if (session.isOpen()) {
+                    sendQueues.enqueue(session, frames.forSocket(session));
+                    System.out.println("✅ 태블릿으로 메시지 전송 예약: " + session.getId() + " -> " + roomId);
                 }
             }
         }
@@ -0,0 +1,77 @@
+package com.hanabank.bankadviser.global.shared.concurrent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이름 있는 제한된 스레드 풀 생성 / 종료
+ * 추천 파이프라인, 추천 이유 생성, WebSocket 핸들러, WebSocket 송신 풀이 같은 방식으로 만들어지고 종료되도록 함
+ *
+ * - 대기열 크기 제한 + AbortPolicy: 가득 차면 RejectedExecutionException (호출 측에서 대체 처리)
+ * - 데몬 스레드, 이름: {threadPrefix}-{순번}
+ * - Micrometer ExecutorServiceMetrics로 풀 크기 / 대기열 / 작업 시간 노출 (executor.* 지표, name 태그)
+ */
+public final class BoundedExecutors {
+
+    private BoundedExecutors() {
+    }
+
+    /**
+     * 제한된 스레드 풀 생성
+     *
+     * @param metricName        ExecutorServiceMetrics 지표 이름 태그
+     * @param threadPrefix      스레드 이름 접두사
+     * @param coreThreadTimeOut 유휴 상태가 60초 지속되면 core 스레드도 종료할지 여부
+     */
+    public static ExecutorService newBoundedExecutor(MeterRegistry meterRegistry, String metricName, String threadPrefix,
+                                                     int corePoolSize, int maxPoolSize, int queueCapacity,
+                                                     boolean coreThreadTimeOut) {
+        int core = Math.max(corePoolSize, 1);
+        ThreadPoolExecutor threadPool = new ThreadPoolExecutor(
+            core, Math.max(core, maxPoolSize), 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)), new DaemonThreadFactory(threadPrefix),
+            new ThreadPoolExecutor.AbortPolicy());
+        threadPool.allowCoreThreadTimeOut(coreThreadTimeOut);
+        return ExecutorServiceMetrics.monitor(meterRegistry, threadPool, metricName, Tags.empty());
+    }
+
+    /**
+     * 새 작업을 받지 않고 진행 중인 작업을 최대 graceSeconds 동안 기다린 뒤 남은 작업 중단
+     * (graceSeconds가 0이면 바로 중단)
+     */
+    public static void shutdown(ExecutorService executor, long graceSeconds) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(graceSeconds, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory {
+        private final String threadPrefix;
+        private final AtomicInteger sequence = new AtomicInteger(1);
+
+        private DaemonThreadFactory(String threadPrefix) {
+            this.threadPrefix = threadPrefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, threadPrefix + "-" + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.hanabank.bankadviser.global.websocket;
+
+/**
+ * STOMP 브로커 구성 방식 (websocket.broker.mode)
+ */
+public enum BrokerMode {
+
+    /**
+     * 단일 JVM 내장 SimpleBroker (기본값)
+     */
+    SIMPLE,
+
+    /**
+     * 외부 STOMP 브로커(RabbitMQ STOMP, ActiveMQ Artemis 등)로 /topic, /queue 릴레이
+     */
+    RELAY,
+
+    /**
+     * 노드별 SimpleBroker + Redis Pub/Sub으로 노드 간 세션 메시지 팬아웃
+     */
+    REDIS,
+
+    /**
+     * 노드별 SimpleBroker + 같은 JVM 내 컨텍스트 간 팬아웃 (다중 노드 테스트용 대체 구현)
+     */
+    EMBEDDED
+}
@@ -0,0 +1,30 @@
+package com.hanabank.bankadviser.global.websocket;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 노드 간 팬아웃되는 세션 메시지
+ * 발행 노드에서 한 번 직렬화한 JSON을 그대로 전달하여 각 노드가 로컬 구독자에게 전송
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClusterMessage {
+
+    // STOMP 목적지 (/topic/session/{id}, /topic/customer/{id} 등)
+    private String destination;
+
+    // 단순 WebSocket 브리지 대상 세션 ID (브리지 전송이 필요 없으면 null)
+    private String bridgeSessionId;
+
+    // 직렬화된 JSON 메시지
+    private String payload;
+
+    // 단순 WebSocket 송신 큐 병합 키
+    private String coalesceKey;
+
+    // 메시지 타입 (수신 노드가 JSON 파싱 없이 세션 화면 상태 반영 여부를 판단, 모르면 null)
+    private String type;
+}
@@ -0,0 +1,14 @@
+package com.hanabank.bankadviser.global.websocket;
+
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 세션 메시지 팬아웃 버스
+ * 발행한 메시지는 발행 노드를 포함한 모든 노드의 구독자에게 전달됨
+ */
+public interface ClusterMessageBus {
+
+    void publish(ClusterMessage message);
+
+    void subscribe(Consumer<ClusterMessage> listener);
+}
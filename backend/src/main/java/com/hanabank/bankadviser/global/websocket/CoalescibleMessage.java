@@ -0,0 +1,13 @@
+package com.hanabank.bankadviser.global.websocket;
+
+/**
+ * 송신 큐/이벤트 병합 시 같은 메시지로 취급할 키를 제공하는 메시지
+ * (JSON 속성으로 직렬화되지 않도록 getter 형태가 아닌 메서드로 정의)
+ */
+public interface CoalescibleMessage {
+
+    /**
+     * 병합 키 (null이면 병합하지 않음)
+     */
+    String coalesceKey();
+}
@@ -0,0 +1,382 @@
+package com.hanabank.bankadviser.global.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 태블릿 동기화 메시지용 압축 바이너리 프레임 코덱
+ * JSON 메시지마다 반복되는 키("type", "sessionId", "timestamp" 등)와 자주 쓰는 값을
+ * 사전 인덱스 1바이트로 줄이고, 숫자는 가변 길이 정수로 인코딩
+ *
+ * 프레임 구조: [MAGIC][사전 버전][값]
+ * 값 태그
+ * - 0x00 null, 0x01 false, 0x02 true
+ * - 0x03 정수 (zigzag varint), 0x04 실수 (IEEE 754 8바이트), 0x05 큰 수 (10진 문자열)
+ * - 0x06 문자열 (varint 길이 + UTF-8), 0x07 사전 문자열 (varint 인덱스)
+ * - 0x08 배열 (varint 개수 + 값...), 0x09 객체 (varint 개수 + [키, 값]...)
+ * 객체 키: varint 0이면 뒤에 문자열(varint 길이 + UTF-8), 1 이상이면 사전 인덱스 + 1
+ *
+ * 사전은 클라이언트와 공유하므로 항목을 뒤에만 추가하고, 항목을 추가할 때마다 VERSION을 올리고 DICTIONARY_SIZES에 크기를 추가
+ * (순서 변경은 기존 클라이언트와 호환되지 않으므로 금지)
+ * 연결마다 클라이언트가 아는 사전 버전을 협상하고, 그 버전 사전에 없는 문자열은 일반 문자열로 인코딩
+ */
+public final class CompactFrameCodec {
+
+    public static final byte MAGIC = (byte) 0xC1;
+
+    // 현재 사전 버전 (서버가 인코딩 / 디코딩할 수 있는 최신 버전)
+    public static final byte VERSION = 4;
+    public static final byte MIN_VERSION = 1;
+
+    private static final int TAG_NULL = 0x00;
+    private static final int TAG_FALSE = 0x01;
+    private static final int TAG_TRUE = 0x02;
+    private static final int TAG_INT = 0x03;
+    private static final int TAG_DOUBLE = 0x04;
+    private static final int TAG_DECIMAL = 0x05;
+    private static final int TAG_STRING = 0x06;
+    private static final int TAG_DICTIONARY = 0x07;
+    private static final int TAG_ARRAY = 0x08;
+    private static final int TAG_OBJECT = 0x09;
+
+    /**
+     * 공유 사전 (키와 값 공용, 인덱스 순서 고정)
+     */
+    public static final List<String> DICTIONARY = List.of(
+        // 공통 메시지 키
+        "type", "sessionId", "timestamp", "data", "action", "messageType", "source", "success", "message", "error",
+        // 필드 / 서식
+        "fieldId", "fieldName", "fieldLabel", "fieldType", "fieldValue", "fieldPlaceholder",
+        "formId", "formName", "formType", "formIndex", "currentFormIndex", "currentForm", "totalForms",
+        "canGoNext", "canGoPrev", "forms",
+        // 상품 / 고객
+        "productId", "productName", "productType", "product", "customerId", "customerData",
+        // 화면 동기화
+        "screenData", "elementId", "highlightType", "color", "currentPage", "totalPages", "userType",
+        // 자주 쓰는 메시지 타입과 값
+        "screen-updated", "screen-highlight", "form-navigation", "field-focus", "field-input-completed",
+        "product-enrollment", "product-description", "product-description-close", "product-simulation",
+        "product-visualization-sync", "customer-selected", "customer-info-updated", "client-message",
+        "session-joined", "start_enrollment", "next", "prev", "text", "tablet", "employee",
+        // 세션 재전송 (순번)
+        "seq", "epoch", "session-replay",
+        // 세션 스냅샷
+        "session-snapshot", "state",
+        // 추천 진행 단계
+        "requestId", "recommendation-intent", "recommendation-products", "recommendation-reason", "recommendations"
+    );
+
+    /**
+     * 사전 버전별 사용 가능한 항목 수 (버전 N 클라이언트는 앞에서부터 DICTIONARY_SIZES[N]개만 알고 있음)
+     */
+    private static final int[] DICTIONARY_SIZES = {
+        0,
+        // v1: 기본 메시지 키 / 타입
+        DICTIONARY.indexOf("employee") + 1,
+        // v2: 세션 재전송 (순번)
+        DICTIONARY.indexOf("session-replay") + 1,
+        // v3: 세션 스냅샷
+        DICTIONARY.indexOf("state") + 1,
+        // v4: 추천 진행 단계
+        DICTIONARY.size()
+    };
+
+    private static final Map<String, Integer> DICTIONARY_INDEX = new HashMap<>();
+
+    static {
+        for (int i = 0; i < DICTIONARY.size(); i++) {
+            DICTIONARY_INDEX.put(DICTIONARY.get(i), i);
+        }
+        if (DICTIONARY_SIZES.length != VERSION + 1 || DICTIONARY_SIZES[VERSION] != DICTIONARY.size()) {
+            throw new IllegalStateException("압축 프레임 사전이 변경되었지만 VERSION / DICTIONARY_SIZES가 갱신되지 않았습니다");
+        }
+    }
+
+    private static final JsonNodeFactory NODE_FACTORY = JsonNodeFactory.instance;
+
+    private CompactFrameCodec() {
+    }
+
+    /**
+     * 압축 프레임 여부 (MAGIC + 지원하는 사전 버전 확인)
+     */
+    public static boolean isCompactFrame(byte[] frame) {
+        return frame != null && frame.length >= 3 && frame[0] == MAGIC && isSupportedVersion(frame[1]);
+    }
+
+    public static boolean isSupportedVersion(int version) {
+        return version >= MIN_VERSION && version <= VERSION;
+    }
+
+    /**
+     * 클라이언트가 요청한 사전 버전과 서버 버전 중 낮은 버전 (지원하지 않는 버전이면 0)
+     */
+    public static int negotiateVersion(int requestedVersion) {
+        int version = Math.min(requestedVersion, VERSION);
+        return isSupportedVersion(version) ? version : 0;
+    }
+
+    /**
+     * JSON 문자열을 압축 프레임으로 변환 (최신 사전)
+     */
+    public static byte[] encodeJson(ObjectMapper objectMapper, String json) throws IOException {
+        return encode(objectMapper.readTree(json), VERSION);
+    }
+
+    /**
+     * JSON 문자열을 협상한 사전 버전의 압축 프레임으로 변환
+     */
+    public static byte[] encodeJson(ObjectMapper objectMapper, String json, int version) throws IOException {
+        return encode(objectMapper.readTree(json), version);
+    }
+
+    /**
+     * JSON 바이트를 협상한 사전 버전의 압축 프레임으로 변환
+     */
+    public static byte[] encodeJson(ObjectMapper objectMapper, byte[] json, int version) throws IOException {
+        return encode(objectMapper.readTree(json), version);
+    }
+
+    /**
+     * JSON 트리를 압축 프레임으로 인코딩 (최신 사전)
+     */
+    public static byte[] encode(JsonNode node) {
+        return encode(node, VERSION);
+    }
+
+    /**
+     * JSON 트리를 사전 버전 version의 압축 프레임으로 인코딩 (그 버전 사전에 없는 문자열은 일반 문자열)
+     */
+    public static byte[] encode(JsonNode node, int version) {
+        if (!isSupportedVersion(version)) {
+            throw new IllegalArgumentException("지원하지 않는 압축 프레임 사전 버전: " + version);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(128);
+        out.write(MAGIC);
+        out.write(version);
+        writeValue(out, node, DICTIONARY_SIZES[version]);
+        return out.toByteArray();
+    }
+
+    /**
+     * 압축 프레임을 JSON 트리로 디코딩
+     */
+    public static JsonNode decode(byte[] frame) {
+        if (!isCompactFrame(frame)) {
+            throw new IllegalArgumentException("압축 프레임 형식이 아닙니다");
+        }
+        Reader reader = new Reader(frame, 2, DICTIONARY_SIZES[frame[1]]);
+        JsonNode node = reader.readValue();
+        if (reader.position != frame.length) {
+            throw new IllegalArgumentException("압축 프레임 뒤에 해석되지 않은 데이터가 있습니다");
+        }
+        return node;
+    }
+
+    /**
+     * 압축 프레임을 JSON 문자열로 디코딩 (기존 JSON 메시지 처리 경로 재사용)
+     */
+    public static String decodeToJson(ObjectMapper objectMapper, byte[] frame) throws IOException {
+        return objectMapper.writeValueAsString(decode(frame));
+    }
+
+    // ===== 인코딩 =====
+
+    private static void writeValue(ByteArrayOutputStream out, JsonNode node, int dictionarySize) {
+        if (node == null || node.isNull() || node.isMissingNode()) {
+            out.write(TAG_NULL);
+        } else if (node.isBoolean()) {
+            out.write(node.booleanValue() ? TAG_TRUE : TAG_FALSE);
+        } else if (node.isIntegralNumber()) {
+            if (node.canConvertToLong()) {
+                out.write(TAG_INT);
+                writeVarint(out, zigzag(node.longValue()));
+            } else {
+                out.write(TAG_DECIMAL);
+                writeString(out, node.asText());
+            }
+        } else if (node.isBigDecimal()) {
+            out.write(TAG_DECIMAL);
+            writeString(out, node.decimalValue().toString());
+        } else if (node.isNumber()) {
+            out.write(TAG_DOUBLE);
+            long bits = Double.doubleToLongBits(node.doubleValue());
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                out.write((int) (bits >>> shift) & 0xFF);
+            }
+        } else if (node.isArray()) {
+            out.write(TAG_ARRAY);
+            writeVarint(out, node.size());
+            for (JsonNode element : node) {
+                writeValue(out, element, dictionarySize);
+            }
+        } else if (node.isObject()) {
+            out.write(TAG_OBJECT);
+            writeVarint(out, node.size());
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                writeKey(out, field.getKey(), dictionarySize);
+                writeValue(out, field.getValue(), dictionarySize);
+            }
+        } else {
+            // 문자열 (바이너리 노드 등은 JSON과 같은 텍스트 표현 사용)
+            String text = node.asText();
+            Integer index = DICTIONARY_INDEX.get(text);
+            if (index != null && index < dictionarySize) {
+                out.write(TAG_DICTIONARY);
+                writeVarint(out, index);
+            } else {
+                out.write(TAG_STRING);
+                writeString(out, text);
+            }
+        }
+    }
+
+    private static void writeKey(ByteArrayOutputStream out, String key, int dictionarySize) {
+        Integer index = DICTIONARY_INDEX.get(key);
+        if (index != null && index < dictionarySize) {
+            writeVarint(out, index + 1L);
+        } else {
+            writeVarint(out, 0);
+            writeString(out, key);
+        }
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    // ===== 디코딩 =====
+
+    private static class Reader {
+        private final byte[] frame;
+        private final int dictionarySize;
+        private int position;
+
+        private Reader(byte[] frame, int position, int dictionarySize) {
+            this.frame = frame;
+            this.position = position;
+            this.dictionarySize = dictionarySize;
+        }
+
+        private JsonNode readValue() {
+            int tag = readByte();
+            switch (tag) {
+                case TAG_NULL:
+                    return NODE_FACTORY.nullNode();
+                case TAG_FALSE:
+                    return NODE_FACTORY.booleanNode(false);
+                case TAG_TRUE:
+                    return NODE_FACTORY.booleanNode(true);
+                case TAG_INT:
+                    return NODE_FACTORY.numberNode(unzigzag(readVarint()));
+                case TAG_DOUBLE:
+                    long bits = 0;
+                    for (int i = 0; i < 8; i++) {
+                        bits = (bits << 8) | readByte();
+                    }
+                    return NODE_FACTORY.numberNode(Double.longBitsToDouble(bits));
+                case TAG_DECIMAL:
+                    return NODE_FACTORY.numberNode(new BigDecimal(readString()));
+                case TAG_STRING:
+                    return NODE_FACTORY.textNode(readString());
+                case TAG_DICTIONARY:
+                    return NODE_FACTORY.textNode(dictionaryEntry(readVarint()));
+                case TAG_ARRAY:
+                    int length = readLength();
+                    ArrayNode array = NODE_FACTORY.arrayNode(length);
+                    for (int i = 0; i < length; i++) {
+                        array.add(readValue());
+                    }
+                    return array;
+                case TAG_OBJECT:
+                    int size = readLength();
+                    ObjectNode object = NODE_FACTORY.objectNode();
+                    for (int i = 0; i < size; i++) {
+                        String key = readKey();
+                        object.set(key, readValue());
+                    }
+                    return object;
+                default:
+                    throw new IllegalArgumentException("알 수 없는 압축 프레임 태그: " + tag);
+            }
+        }
+
+        private String readKey() {
+            long key = readVarint();
+            return key == 0 ? readString() : dictionaryEntry(key - 1);
+        }
+
+        private String readString() {
+            int length = readLength();
+            String value = new String(frame, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        private int readLength() {
+            long length = readVarint();
+            if (length > frame.length - position) {
+                throw new IllegalArgumentException("압축 프레임 길이 정보가 올바르지 않습니다");
+            }
+            return (int) length;
+        }
+
+        private long readVarint() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("압축 프레임 varint가 너무 깁니다");
+        }
+
+        private int readByte() {
+            if (position >= frame.length) {
+                throw new IllegalArgumentException("압축 프레임이 예상보다 짧습니다");
+            }
+            return frame[position++] & 0xFF;
+        }
+
+        private String dictionaryEntry(long index) {
+            if (index < 0 || index >= dictionarySize) {
+                throw new IllegalArgumentException("압축 프레임 사전 인덱스 범위 초과: " + index);
+            }
+            return DICTIONARY.get((int) index);
+        }
+
+        private static long unzigzag(long value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+}
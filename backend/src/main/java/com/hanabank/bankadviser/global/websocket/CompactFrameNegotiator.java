@@ -0,0 +1,265 @@
+package com.hanabank.bankadviser.global.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 압축 프레임 협상 및 변환 (STOMP, 단순 WebSocket 공용)
+ *
+ * - CONNECT 프레임의 frame-format: compact(;v=사전 버전) 헤더로 연결별 협상
+ *   (버전이 없으면 v1 사전 - 클라이언트가 모르는 사전 항목은 일반 문자열로 인코딩)
+ *   (네이티브 WebSocket 엔드포인트만 지원 - SockJS는 바이너리 프레임을 보낼 수 없으므로 JSON 유지)
+ * - 아웃바운드 MESSAGE: JSON 페이로드를 압축 프레임으로 변환 (content-type: application/octet-stream, frame-format: compact)
+ * - 인바운드 SEND: 압축 프레임이면 JSON으로 복원하여 기존 @MessageMapping 처리 경로 재사용
+ * - 단순 WebSocket(/simple-ws)은 join-session 메시지의 frameFormat 값으로 협상하고 이 클래스로 변환
+ *
+ * websocket.compact-frames.enabled=false이면 협상 요청을 무시하고 모든 연결에 JSON 사용
+ */
+@Component
+@Slf4j
+public class CompactFrameNegotiator {
+
+    public static final String FRAME_FORMAT_HEADER = "frame-format";
+
+    // 네이티브 WebSocket 핸드셰이크로 연결된 세션 표시 (SockJS 세션 제외)
+    static final String NATIVE_TRANSPORT_ATTRIBUTE = "compactFrameCapable";
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+
+    // 압축 프레임을 협상한 STOMP 세션 ID -> 사전 버전
+    private final Map<String, Integer> compactSessions = new ConcurrentHashMap<>();
+
+    // 브로커는 구독자별 메시지에 같은 페이로드 배열을 재사용하므로 마지막 변환 결과를 재사용
+    private final AtomicReference<EncodedPayload> lastEncoded = new AtomicReference<>();
+
+    private final Counter stompFrameCounter;
+    private final Counter simpleFrameCounter;
+    private final Counter savedBytesCounter;
+    private final Counter fallbackCounter;
+
+    public CompactFrameNegotiator(ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${websocket.compact-frames.enabled:false}") boolean enabled) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+
+        this.stompFrameCounter = frameCounter(meterRegistry, "stomp");
+        this.simpleFrameCounter = frameCounter(meterRegistry, "simple");
+        this.savedBytesCounter = Counter.builder("websocket.compact.bytes.saved")
+            .description("압축 프레임 사용으로 줄어든 전송 바이트 수")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        this.fallbackCounter = Counter.builder("websocket.compact.fallback")
+            .description("압축 프레임 변환 실패로 JSON을 그대로 전송한 횟수")
+            .register(meterRegistry);
+
+        log.info("압축 프레임 협상 {}", enabled ? "활성화" : "비활성화 (JSON 전용)");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 네이티브 WebSocket 엔드포인트에 등록할 핸드셰이크 인터셉터
+     */
+    public HandshakeInterceptor nativeTransportHandshakeInterceptor() {
+        return new NativeTransportHandshakeInterceptor();
+    }
+
+    /**
+     * clientInboundChannel 인터셉터 (CONNECT 협상, DISCONNECT 정리, 압축 SEND 프레임 복원)
+     */
+    public ChannelInterceptor inboundInterceptor() {
+        return new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                SimpMessageType messageType = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+                if (messageType == SimpMessageType.CONNECT) {
+                    negotiate(message);
+                } else if (messageType == SimpMessageType.DISCONNECT) {
+                    String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+                    if (sessionId != null) {
+                        compactSessions.remove(sessionId);
+                    }
+                } else if (messageType == SimpMessageType.MESSAGE) {
+                    return decodeInbound(message);
+                }
+                return message;
+            }
+        };
+    }
+
+    /**
+     * clientOutboundChannel 인터셉터 (압축 프레임을 협상한 세션의 MESSAGE 변환)
+     */
+    public ChannelInterceptor outboundInterceptor() {
+        return new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                SimpMessageType messageType = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+                return messageType == SimpMessageType.MESSAGE ? encodeOutbound(message) : message;
+            }
+        };
+    }
+
+    /**
+     * 클라이언트 요청 값(frame-format / frameFormat)으로 사용할 압축 사전 버전 결정 (JSON을 사용해야 하면 0)
+     */
+    public int negotiateVersion(String requestedFormat) {
+        if (!enabled || FrameFormat.fromRequest(requestedFormat) != FrameFormat.COMPACT) {
+            return 0;
+        }
+        return CompactFrameCodec.negotiateVersion(FrameFormat.requestedVersion(requestedFormat));
+    }
+
+    /**
+     * 단순 WebSocket 전송용 압축 프레임 변환 (실패하면 null - 호출 측은 JSON 텍스트 프레임으로 대체)
+     */
+    public byte[] encodeForSimpleSocket(String json, int version) {
+        try {
+            byte[] compact = CompactFrameCodec.encodeJson(objectMapper, json, version);
+            simpleFrameCounter.increment();
+            savedBytesCounter.increment(Math.max(json.getBytes(StandardCharsets.UTF_8).length - compact.length, 0));
+            return compact;
+        } catch (Exception e) {
+            fallbackCounter.increment();
+            log.warn("단순 WebSocket 압축 프레임 변환 실패, JSON 전송: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void negotiate(Message<?> message) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        String requestedFormat = accessor.getFirstNativeHeader(FRAME_FORMAT_HEADER);
+        if (FrameFormat.fromRequest(requestedFormat) != FrameFormat.COMPACT || accessor.getSessionId() == null) {
+            return;
+        }
+
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        boolean nativeTransport = attributes != null && Boolean.TRUE.equals(attributes.get(NATIVE_TRANSPORT_ATTRIBUTE));
+        int version = nativeTransport ? negotiateVersion(requestedFormat) : 0;
+        if (version > 0) {
+            compactSessions.put(accessor.getSessionId(), version);
+            log.info("STOMP 압축 프레임 협상 완료 - sessionId: {}, 사전 버전: v{}", accessor.getSessionId(), version);
+        } else {
+            log.info("STOMP 압축 프레임 요청 거절, JSON 사용 - sessionId: {}, enabled: {}, nativeTransport: {}, 요청: {}",
+                accessor.getSessionId(), enabled, nativeTransport, requestedFormat);
+        }
+    }
+
+    private Message<?> encodeOutbound(Message<?> message) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        Integer version = sessionId != null ? compactSessions.get(sessionId) : null;
+        if (version == null || !(message.getPayload() instanceof byte[])) {
+            return message;
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        MimeType contentType = accessor.getContentType();
+        if (contentType == null || !MimeTypeUtils.APPLICATION_JSON.isCompatibleWith(contentType)) {
+            return message;
+        }
+
+        byte[] json = (byte[]) message.getPayload();
+        byte[] compact = encodeCached(json, version);
+        if (compact == null) {
+            return message;
+        }
+
+        accessor.setContentType(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        accessor.setNativeHeader(FRAME_FORMAT_HEADER, "compact");
+        stompFrameCounter.increment();
+        savedBytesCounter.increment(Math.max(json.length - compact.length, 0));
+        return MessageBuilder.createMessage(compact, accessor.getMessageHeaders());
+    }
+
+    private Message<?> decodeInbound(Message<?> message) {
+        if (!(message.getPayload() instanceof byte[]) || !CompactFrameCodec.isCompactFrame((byte[]) message.getPayload())) {
+            return message;
+        }
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(CompactFrameCodec.decode((byte[]) message.getPayload()));
+            StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+            accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            accessor.removeNativeHeader(StompHeaderAccessor.STOMP_CONTENT_LENGTH_HEADER);
+            return MessageBuilder.createMessage(json, accessor.getMessageHeaders());
+        } catch (Exception e) {
+            log.warn("STOMP 압축 프레임 복원 실패 - destination: {}, 원인: {}",
+                SimpMessageHeaderAccessor.getDestination(message.getHeaders()), e.getMessage());
+            return message;
+        }
+    }
+
+    private byte[] encodeCached(byte[] json, int version) {
+        EncodedPayload cached = lastEncoded.get();
+        if (cached != null && cached.json == json && cached.version == version) {
+            return cached.compact;
+        }
+        try {
+            byte[] compact = CompactFrameCodec.encodeJson(objectMapper, json, version);
+            lastEncoded.set(new EncodedPayload(json, version, compact));
+            return compact;
+        } catch (Exception e) {
+            fallbackCounter.increment();
+            log.warn("STOMP 압축 프레임 변환 실패, JSON 전송: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static Counter frameCounter(MeterRegistry meterRegistry, String transport) {
+        return Counter.builder("websocket.compact.frames")
+            .description("압축 프레임으로 전송한 메시지 수")
+            .tag("transport", transport)
+            .register(meterRegistry);
+    }
+
+    private static class EncodedPayload {
+        private final byte[] json;
+        private final int version;
+        private final byte[] compact;
+
+        private EncodedPayload(byte[] json, int version, byte[] compact) {
+            this.json = json;
+            this.version = version;
+            this.compact = compact;
+        }
+    }
+
+    private static class NativeTransportHandshakeInterceptor implements HandshakeInterceptor {
+
+        @Override
+        public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                       WebSocketHandler wsHandler, Map<String, Object> attributes) {
+            attributes.put(NATIVE_TRANSPORT_ATTRIBUTE, Boolean.TRUE);
+            return true;
+        }
+
+        @Override
+        public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Exception exception) {
+        }
+    }
+}
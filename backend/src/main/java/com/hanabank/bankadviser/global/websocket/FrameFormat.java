@@ -0,0 +1,44 @@
+package com.hanabank.bankadviser.global.websocket;
+
+/**
+ * 연결별 메시지 프레임 형식 (클라이언트가 연결 시 요청, 지원하지 않으면 JSON으로 대체)
+ */
+public enum FrameFormat {
+
+    /**
+     * JSON 텍스트 프레임 (기본값)
+     */
+    JSON,
+
+    /**
+     * 압축 바이너리 프레임 (CompactFrameCodec)
+     */
+    COMPACT;
+
+    /**
+     * 클라이언트 요청 값 해석 ("compact" 또는 "compact;v=사전 버전"이 아니면 JSON)
+     */
+    public static FrameFormat fromRequest(String value) {
+        return value != null && "compact".equalsIgnoreCase(value.split(";", 2)[0].trim()) ? COMPACT : JSON;
+    }
+
+    /**
+     * 요청 값의 압축 프레임 사전 버전 ("compact;v=3" -> 3, 버전이 없는 기존 클라이언트는 1)
+     */
+    public static int requestedVersion(String value) {
+        if (value == null) {
+            return 1;
+        }
+        for (String parameter : value.split(";")) {
+            String trimmed = parameter.trim();
+            if (trimmed.startsWith("v=")) {
+                try {
+                    return Integer.parseInt(trimmed.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 1;
+                }
+            }
+        }
+        return 1;
+    }
+}
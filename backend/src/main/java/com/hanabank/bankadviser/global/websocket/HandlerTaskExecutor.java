@@ -0,0 +1,191 @@
+package com.hanabank.bankadviser.global.websocket;
+
+import com.hanabank.bankadviser.global.shared.concurrent.BoundedExecutors;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * @MessageMapping 핸들러의 블로킹 작업(OpenAI 호출, JDBC 조회 등) 전용 실행기
+ * clientInboundChannel 스레드는 작업을 넘기고 바로 반환하여, 느린 호출 몇 개가
+ * 다른 세션의 메시지 처리를 막지 않도록 함
+ *
+ * - execute: 순서와 무관한 작업 (추천 요청 등)
+ * - executeInOrder: 같은 키(세션 ID)의 작업을 제출 순서대로 하나씩 실행 (상품 가입 -> 서식 이동 등)
+ *
+ * 스레드 수와 대기열이 제한되어 있으며, 가득 차면 작업 대신 onRejected를 호출 스레드에서 실행
+ */
+@Component
+@Slf4j
+public class HandlerTaskExecutor {
+
+    private final ExecutorService executor;
+    private final int maxPendingPerKey;
+
+    // 키별 순차 실행 대기열 (맵 연산 안에서만 변경)
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+
+    private final Counter rejectedCounter;
+
+    public HandlerTaskExecutor(MeterRegistry meterRegistry,
+                               @Value("${websocket.handler-executor.core-pool-size:8}") int corePoolSize,
+                               @Value("${websocket.handler-executor.max-pool-size:32}") int maxPoolSize,
+                               @Value("${websocket.handler-executor.queue-capacity:200}") int queueCapacity,
+                               @Value("${websocket.handler-executor.max-pending-per-session:32}") int maxPendingPerKey) {
+        this.maxPendingPerKey = maxPendingPerKey;
+        this.executor = BoundedExecutors.newBoundedExecutor(meterRegistry, "websocket.handler", "ws-handler",
+            corePoolSize, maxPoolSize, queueCapacity, false);
+        this.rejectedCounter = Counter.builder("websocket.handler.tasks.rejected")
+            .description("핸들러 실행기가 가득 차 거절된 작업 수")
+            .register(meterRegistry);
+
+        log.info("WebSocket 핸들러 실행기 초기화 - core: {}, max: {}, queue: {}, perSession: {}",
+            corePoolSize, maxPoolSize, queueCapacity, maxPendingPerKey);
+    }
+
+    /**
+     * 순서와 무관한 블로킹 작업 실행
+     *
+     * @param onRejected 실행기가 가득 찬 경우 호출 스레드에서 대신 실행 (오류 응답, 기본값 응답 등)
+     */
+    public void execute(String taskName, Runnable task, Runnable onRejected) {
+        try {
+            executor.execute(() -> run(taskName, task));
+        } catch (RejectedExecutionException e) {
+            reject(taskName, onRejected);
+        }
+    }
+
+    /**
+     * 같은 키의 작업을 제출 순서대로 실행 (다른 키의 작업과는 병렬)
+     */
+    public void executeInOrder(String key, String taskName, Runnable task, Runnable onRejected) {
+        if (key == null) {
+            execute(taskName, task, onRejected);
+            return;
+        }
+
+        Task submitted = new Task(taskName, task, onRejected);
+        boolean[] accepted = {false};
+        boolean[] startDrain = {false};
+        lanes.compute(key, (k, lane) -> {
+            Lane current = lane != null ? lane : new Lane();
+            if (current.pending.size() < maxPendingPerKey) {
+                current.pending.addLast(submitted);
+                accepted[0] = true;
+                if (!current.running) {
+                    current.running = true;
+                    startDrain[0] = true;
+                }
+            }
+            return current.pending.isEmpty() && !current.running ? null : current;
+        });
+
+        if (!accepted[0]) {
+            reject(taskName, onRejected);
+            return;
+        }
+        if (startDrain[0]) {
+            submitDrain(key);
+        }
+    }
+
+    private void submitDrain(String key) {
+        try {
+            executor.execute(() -> drain(key));
+        } catch (RejectedExecutionException e) {
+            // 대기 중인 작업을 모두 거절 처리하고 대기열 제거
+            Lane lane = lanes.remove(key);
+            if (lane != null) {
+                lane.pending.forEach(pendingTask -> reject(pendingTask.name, pendingTask.onRejected));
+            }
+        }
+    }
+
+    private void drain(String key) {
+        boolean drained = false;
+        try {
+            while (true) {
+                Task[] next = {null};
+                lanes.computeIfPresent(key, (k, lane) -> {
+                    next[0] = lane.pending.pollFirst();
+                    // 더 실행할 작업이 없으면 대기열 제거 (다음 제출 시 새로 생성)
+                    return next[0] == null ? null : lane;
+                });
+                if (next[0] == null) {
+                    drained = true;
+                    return;
+                }
+                run(next[0].name, next[0].task);
+            }
+        } finally {
+            // 작업이 Error로 중단되면 남은 작업을 새 실행으로 이어서 처리 (대기열이 실행 중 상태로 멈추지 않도록)
+            if (!drained) {
+                resumeDrain(key);
+            }
+        }
+    }
+
+    private void resumeDrain(String key) {
+        boolean[] hasPending = {false};
+        lanes.computeIfPresent(key, (k, lane) -> {
+            hasPending[0] = !lane.pending.isEmpty();
+            return hasPending[0] ? lane : null;
+        });
+        if (hasPending[0]) {
+            submitDrain(key);
+        }
+    }
+
+    private void run(String taskName, Runnable task) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            log.error("WebSocket 핸들러 작업 실패 - task: {}", taskName, e);
+        }
+    }
+
+    private void reject(String taskName, Runnable onRejected) {
+        rejectedCounter.increment();
+        log.warn("WebSocket 핸들러 실행기 포화로 작업 거절 - task: {}", taskName);
+        if (onRejected != null) {
+            try {
+                onRejected.run();
+            } catch (Exception e) {
+                log.error("거절 작업 대체 처리 실패 - task: {}", taskName, e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        BoundedExecutors.shutdown(executor, 10);
+    }
+
+    private static class Lane {
+        private final Deque<Task> pending = new ArrayDeque<>();
+        private boolean running;
+    }
+
+    private static class Task {
+        private final String name;
+        private final Runnable task;
+        private final Runnable onRejected;
+
+        private Task(String name, Runnable task, Runnable onRejected) {
+            this.name = name;
+            this.task = task;
+            this.onRejected = onRejected;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.hanabank.bankadviser.global.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 같은 JVM 안의 애플리케이션 컨텍스트끼리 메시지를 팬아웃하는 내장 버스
+ * 외부 브로커 없이 한 머신에서 컨텍스트를 여러 개 띄워 다중 노드 팬아웃을 검증할 때 사용
+ */
+@Component
+@ConditionalOnProperty(name = "websocket.broker.mode", havingValue = "EMBEDDED")
+@Slf4j
+public class InProcessClusterMessageBus implements ClusterMessageBus {
+
+    // JVM 전역 구독자 목록 (컨텍스트 = 노드)
+    private static final List<Consumer<ClusterMessage>> SUBSCRIBERS = new CopyOnWriteArrayList<>();
+
+    // 이 컨텍스트가 등록한 구독자 (종료 시 제거)
+    private final List<Consumer<ClusterMessage>> ownSubscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(ClusterMessage message) {
+        for (Consumer<ClusterMessage> subscriber : SUBSCRIBERS) {
+            try {
+                subscriber.accept(message);
+            } catch (Exception e) {
+                log.error("내장 버스 메시지 전달 실패 - destination: {}", message.getDestination(), e);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<ClusterMessage> listener) {
+        ownSubscribers.add(listener);
+        SUBSCRIBERS.add(listener);
+    }
+
+    @PreDestroy
+    public void close() {
+        SUBSCRIBERS.removeAll(ownSubscribers);
+        ownSubscribers.clear();
+    }
+}
@@ -0,0 +1,86 @@
+package com.hanabank.bankadviser.global.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Redis Pub/Sub 기반 노드 간 세션 메시지 팬아웃
+ * 모든 백엔드 노드가 같은 채널을 구독하고, 수신한 메시지를 자신의 SimpleBroker 구독자에게 전달
+ */
+@Component
+@ConditionalOnProperty(name = "websocket.broker.mode", havingValue = "REDIS")
+@Slf4j
+public class RedisClusterMessageBus implements ClusterMessageBus {
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ChannelTopic topic;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final List<Consumer<ClusterMessage>> subscribers = new CopyOnWriteArrayList<>();
+
+    public RedisClusterMessageBus(RedisConnectionFactory connectionFactory,
+                                  ObjectMapper objectMapper,
+                                  @Value("${websocket.broker.redis-channel:hana:session-messages}") String channel) {
+        this.redisTemplate = new StringRedisTemplate(connectionFactory);
+        this.objectMapper = objectMapper;
+        this.topic = new ChannelTopic(channel);
+
+        this.listenerContainer = new RedisMessageListenerContainer();
+        this.listenerContainer.setConnectionFactory(connectionFactory);
+        this.listenerContainer.addMessageListener((message, pattern) -> dispatch(message.getBody()), topic);
+        this.listenerContainer.afterPropertiesSet();
+        this.listenerContainer.start();
+
+        log.info("Redis 세션 메시지 팬아웃 활성화 - channel: {}", channel);
+    }
+
+    @Override
+    public void publish(ClusterMessage message) {
+        try {
+            redisTemplate.convertAndSend(topic.getTopic(), objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            log.error("Redis 세션 메시지 발행 실패 - destination: {}", message.getDestination(), e);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<ClusterMessage> listener) {
+        subscribers.add(listener);
+    }
+
+    private void dispatch(byte[] body) {
+        ClusterMessage message;
+        try {
+            message = objectMapper.readValue(new String(body, StandardCharsets.UTF_8), ClusterMessage.class);
+        } catch (Exception e) {
+            log.error("Redis 세션 메시지 역직렬화 실패", e);
+            return;
+        }
+        for (Consumer<ClusterMessage> subscriber : subscribers) {
+            try {
+                subscriber.accept(message);
+            } catch (Exception e) {
+                log.error("Redis 세션 메시지 전달 실패 - destination: {}", message.getDestination(), e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() throws Exception {
+        listenerContainer.stop();
+        listenerContainer.destroy();
+    }
+}
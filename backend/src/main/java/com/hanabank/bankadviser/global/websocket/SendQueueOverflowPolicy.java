@@ -0,0 +1,23 @@
+package com.hanabank.bankadviser.global.websocket;
+
+/**
+ * 소켓별 송신 큐가 가득 찼을 때의 처리 정책
+ */
+public enum SendQueueOverflowPolicy {
+
+    /**
+     * 가장 오래된 메시지를 버리고 새 메시지를 넣음
+     */
+    DROP_OLDEST,
+
+    /**
+     * 같은 키(type + fieldId)의 대기 메시지를 새 메시지로 교체 (마지막 값 우선),
+     * 교체할 대상이 없으면 가장 오래된 메시지를 버림
+     */
+    COALESCE,
+
+    /**
+     * 느린 소켓으로 판단하고 연결을 종료 (클라이언트 재연결 유도)
+     */
+    DISCONNECT
+}
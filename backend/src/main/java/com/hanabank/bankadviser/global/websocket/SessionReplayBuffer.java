@@ -0,0 +1,254 @@
+package com.hanabank.bankadviser.global.websocket;
+
+import com.fasterxml.jackson.databind.util.RawValue;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 세션 메시지 순번 부여 및 재전송 버퍼
+ * /topic/session/{sessionId} 메시지마다 세션별 단조 증가 순번(seq)을 JSON에 추가하고,
+ * 최근 메시지를 세션별 링 버퍼(개수 / 바이트 상한)에 보관
+ *
+ * 재연결한 클라이언트가 마지막으로 받은 seq를 보내면 그 이후 메시지만 재전송하고,
+ * 버퍼에서 이미 밀려났거나 epoch가 다르면(노드 재시작, 다른 노드로 재연결) 전체 재동기화를 요청
+ * (재구독 직후 받은 실시간 메시지와 재전송 메시지가 겹칠 수 있으므로 클라이언트는 이미 처리한 seq를 무시)
+ *
+ * 순번은 메시지를 구독자에게 전달하는 노드에서 부여 (SockJS는 sticky 세션이 필요하므로 재연결도 같은 노드)
+ */
+@Component
+@Slf4j
+public class SessionReplayBuffer {
+
+    /**
+     * 재전송 요청 처리 결과
+     */
+    public enum ReplayStatus {
+        // 놓친 메시지를 재전송
+        REPLAYED,
+        // 놓친 메시지 없음
+        UP_TO_DATE,
+        // 버퍼로 복구할 수 없음 - 클라이언트가 전체 화면 상태를 다시 요청해야 함
+        RESYNC_REQUIRED
+    }
+
+    private final int capacity;
+    private final long maxBytes;
+    private final long retentionMillis;
+
+    private final Map<String, Ring> rings = new ConcurrentHashMap<>();
+
+    private final Counter replayedCounter;
+    private final Counter upToDateCounter;
+    private final Counter resyncCounter;
+
+    public SessionReplayBuffer(MeterRegistry meterRegistry,
+                               @Value("${session.replay.capacity:256}") int capacity,
+                               @Value("${session.replay.max-bytes:262144}") long maxBytes,
+                               @Value("${session.replay.retention-ms:7200000}") long retentionMillis) {
+        this.capacity = capacity;
+        this.maxBytes = maxBytes;
+        this.retentionMillis = retentionMillis;
+
+        Gauge.builder("session.replay.buffers", rings, Map::size)
+            .description("재전송 버퍼를 보유한 세션 수")
+            .register(meterRegistry);
+        Gauge.builder("session.replay.buffered.bytes", rings, r -> r.values().stream().mapToLong(Ring::bytes).sum())
+            .description("재전송 버퍼에 보관 중인 메시지 바이트 수 (UTF-16 문자 기준 근사값)")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        this.replayedCounter = resumeCounter(meterRegistry, ReplayStatus.REPLAYED);
+        this.upToDateCounter = resumeCounter(meterRegistry, ReplayStatus.UP_TO_DATE);
+        this.resyncCounter = resumeCounter(meterRegistry, ReplayStatus.RESYNC_REQUIRED);
+
+        log.info("세션 재전송 버퍼 초기화 - capacity: {}, maxBytes: {}, retention: {}ms", capacity, maxBytes, retentionMillis);
+    }
+
+    /**
+     * 메시지에 순번을 부여하고 버퍼에 보관한 뒤 전달
+     * 순번 부여와 전달을 세션 단위로 직렬화하여 구독자가 seq 순서대로 받도록 함
+     *
+     * @param delivery 순번이 추가된 JSON과 epoch / 순번을 구독자에게 전달하는 작업
+     */
+    public void stampAndDeliver(String sessionId, String json, StampedDelivery delivery) {
+        Ring ring = rings.computeIfAbsent(sessionId, id -> new Ring());
+        synchronized (ring) {
+            String stamped = ring.append(json);
+            delivery.deliver(stamped, ring.epoch, ring.lastSeq);
+        }
+    }
+
+    /**
+     * 순번이 부여된 메시지 전달 작업 (세션 순번 잠금 안에서 호출되므로 가벼운 작업만 수행)
+     */
+    @FunctionalInterface
+    public interface StampedDelivery {
+        void deliver(String json, String epoch, long seq);
+    }
+
+    /**
+     * 마지막으로 받은 순번 이후의 메시지 조회
+     *
+     * @param epoch   클라이언트가 마지막으로 받은 메시지의 epoch (없으면 null)
+     * @param lastSeq 클라이언트가 마지막으로 받은 순번
+     */
+    public Replay replaySince(String sessionId, String epoch, long lastSeq) {
+        Ring ring = sessionId != null ? rings.get(sessionId) : null;
+        Replay replay = ring != null
+            ? ring.since(sessionId, epoch, lastSeq)
+            : new Replay(sessionId, null, ReplayStatus.RESYNC_REQUIRED, 0, Collections.emptyList());
+
+        switch (replay.getStatus()) {
+            case REPLAYED:
+                replayedCounter.increment();
+                break;
+            case UP_TO_DATE:
+                upToDateCounter.increment();
+                break;
+            default:
+                resyncCounter.increment();
+                break;
+        }
+        log.info("세션 재전송 요청 - sessionId: {}, lastSeq: {}, 결과: {}, 재전송: {}개",
+            sessionId, lastSeq, replay.getStatus(), replay.getMessages().size());
+        return replay;
+    }
+
+    /**
+     * 세션 종료 시 버퍼 제거
+     */
+    public void remove(String sessionId) {
+        rings.remove(sessionId);
+    }
+
+    /**
+     * 보존 기간 동안 새 메시지가 없는 세션의 버퍼 정리
+     */
+    @Scheduled(fixedDelayString = "${session.replay.evict-interval-ms:60000}")
+    public void evictIdleBuffers() {
+        long now = System.currentTimeMillis();
+        int before = rings.size();
+        rings.values().removeIf(ring -> now - ring.lastAppendAt() > retentionMillis);
+        int evicted = before - rings.size();
+        if (evicted > 0) {
+            log.info("🧹 유휴 세션 재전송 버퍼 정리 - {}개 제거", evicted);
+        }
+    }
+
+    private static Counter resumeCounter(MeterRegistry meterRegistry, ReplayStatus status) {
+        return Counter.builder("session.replay.requests")
+            .description("세션 재전송 요청 처리 결과")
+            .tag("result", status.name().toLowerCase())
+            .register(meterRegistry);
+    }
+
+    /**
+     * 재전송 응답 (STOMP /user/queue/replay, 단순 WebSocket 모두 같은 구조)
+     * messages에는 원래 전송된 JSON(seq 포함)을 그대로 담음
+     */
+    @Getter
+    public static class Replay {
+        private final String type = "session-replay";
+        private final String sessionId;
+        private final String epoch;
+        private final ReplayStatus status;
+        private final long lastSeq;
+        private final List<RawValue> messages;
+        private final long timestamp = System.currentTimeMillis();
+
+        private Replay(String sessionId, String epoch, ReplayStatus status, long lastSeq, List<RawValue> messages) {
+            this.sessionId = sessionId;
+            this.epoch = epoch;
+            this.status = status;
+            this.lastSeq = lastSeq;
+            this.messages = messages;
+        }
+    }
+
+    /**
+     * 세션 하나의 순번 카운터와 최근 메시지 링 버퍼
+     */
+    private class Ring {
+        // 노드 재시작 / 버퍼 재생성 구분용 (같은 seq라도 epoch가 다르면 다른 스트림)
+        private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+        private final Deque<Entry> entries = new ArrayDeque<>();
+        private long lastSeq = 0;
+        private long bytes = 0;
+        private volatile long lastAppendAt = System.currentTimeMillis();
+
+        synchronized String append(String json) {
+            long seq = ++lastSeq;
+            String stamped = stamp(json, seq);
+            entries.addLast(new Entry(seq, stamped));
+            bytes += stamped.length();
+            while (!entries.isEmpty() && (entries.size() > capacity || bytes > maxBytes)) {
+                bytes -= entries.pollFirst().json.length();
+            }
+            lastAppendAt = System.currentTimeMillis();
+            return stamped;
+        }
+
+        synchronized Replay since(String sessionId, String clientEpoch, long clientSeq) {
+            if (clientEpoch != null && !epoch.equals(clientEpoch) || clientSeq > lastSeq) {
+                return new Replay(sessionId, epoch, ReplayStatus.RESYNC_REQUIRED, lastSeq, Collections.emptyList());
+            }
+            if (clientSeq == lastSeq) {
+                return new Replay(sessionId, epoch, ReplayStatus.UP_TO_DATE, lastSeq, Collections.emptyList());
+            }
+            // 놓친 첫 메시지가 이미 버퍼에서 밀려났으면 복구 불가
+            long oldestSeq = entries.isEmpty() ? lastSeq + 1 : entries.peekFirst().seq;
+            if (clientSeq + 1 < oldestSeq) {
+                return new Replay(sessionId, epoch, ReplayStatus.RESYNC_REQUIRED, lastSeq, Collections.emptyList());
+            }
+
+            List<RawValue> missed = new ArrayList<>();
+            for (Entry entry : entries) {
+                if (entry.seq > clientSeq) {
+                    missed.add(new RawValue(entry.json));
+                }
+            }
+            return new Replay(sessionId, epoch, ReplayStatus.REPLAYED, lastSeq, missed);
+        }
+
+        synchronized long bytes() {
+            return bytes;
+        }
+
+        long lastAppendAt() {
+            return lastAppendAt;
+        }
+
+        // {"seq":N,"epoch":"...", + 원래 필드} 형태로 JSON 객체 앞에 순번 추가 (재직렬화 없이 문자열만 결합)
+        private String stamp(String json, long seq) {
+            if (json.length() < 2 || json.charAt(0) != '{') {
+                return json;
+            }
+            String header = "{\"seq\":" + seq + ",\"epoch\":\"" + epoch + "\"";
+            return json.trim().equals("{}") ? header + "}" : header + "," + json.substring(1);
+        }
+    }
+
+    private static class Entry {
+        private final long seq;
+        private final String json;
+
+        private Entry(long seq, String json) {
+            this.seq = seq;
+            this.json = json;
+        }
+    }
+}
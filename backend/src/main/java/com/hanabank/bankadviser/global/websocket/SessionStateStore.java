@@ -0,0 +1,293 @@
+package com.hanabank.bankadviser.global.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상담 세션별 현재 화면 상태 저장소
+ * /topic/session/{sessionId}로 전달되는 메시지를 받아 선택된 고객, 상품 상세, 가입 서식과 현재 서식 위치,
+ * 입력 완료된 필드 값 등을 점진적으로 갱신하고,
+ * 늦게 참여한 태블릿 / 재연결한 클라이언트에는 이벤트 재생 대신 스냅샷 메시지 하나를 전송
+ *
+ * 스냅샷에는 반영된 마지막 메시지의 seq / epoch가 포함되므로
+ * 클라이언트는 스냅샷 적용 후 그보다 큰 seq의 메시지만 처리하면 됨 (SessionReplayBuffer와 같은 순번)
+ *
+ * 화면 상태에 영향을 주는 타입의 메시지만 JSON 파싱하며, 파싱은 세션 순번 잠금 밖에서 수행 (parse -> apply)
+ * 그 외 메시지는 seq / epoch만 갱신
+ */
+@Component
+@Slf4j
+public class SessionStateStore {
+
+    // 화면 상태에 반영하는 메시지 타입 (SessionState.apply와 동일)
+    private static final Set<String> STATE_TYPES = Set.of(
+        "customer-selected", "customer-info-updated", "product-visualization-sync", "screen-updated",
+        "product-enrollment", "form-navigation", "field-focus", "field-input-completed",
+        "product-description", "product-description-close", "product-simulation");
+
+    private final ObjectMapper objectMapper;
+    private final long retentionMillis;
+
+    private final Map<String, SessionState> states = new ConcurrentHashMap<>();
+
+    private final Counter appliedCounter;
+    private final Counter snapshotCounter;
+
+    public SessionStateStore(ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${session.replay.retention-ms:7200000}") long retentionMillis) {
+        this.objectMapper = objectMapper;
+        this.retentionMillis = retentionMillis;
+
+        Gauge.builder("session.snapshot.sessions", states, Map::size)
+            .description("현재 화면 상태를 보관 중인 세션 수")
+            .register(meterRegistry);
+        this.appliedCounter = Counter.builder("session.snapshot.updates")
+            .description("세션 화면 상태에 반영된 메시지 수")
+            .register(meterRegistry);
+        this.snapshotCounter = Counter.builder("session.snapshot.sent")
+            .description("참여 / 재연결 시 전송한 세션 스냅샷 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 화면 상태에 반영할 메시지만 파싱 (상태와 무관한 타입이면 파싱하지 않고 null)
+     * 세션 순번 잠금 밖에서 호출
+     *
+     * @param type 발행 시점에 알고 있는 메시지 타입 (모르면 null - 파싱 후 판단)
+     */
+    public ObjectNode parse(String sessionId, String type, String json) {
+        if (type != null && !STATE_TYPES.contains(type)) {
+            return null;
+        }
+        JsonNode message;
+        try {
+            message = objectMapper.readTree(json);
+        } catch (Exception e) {
+            log.warn("세션 화면 상태 반영 실패 (JSON 파싱) - sessionId: {}, 원인: {}", sessionId, e.getMessage());
+            return null;
+        }
+        return message.isObject() && STATE_TYPES.contains(message.path("type").asText()) ? (ObjectNode) message : null;
+    }
+
+    /**
+     * 전달된 메시지의 seq / epoch와 파싱된 메시지(없으면 null)를 화면 상태에 반영
+     * 메시지 전달 순서와 같은 순서로 호출되어야 함 (SessionReplayBuffer 전달 콜백 안에서 호출)
+     */
+    public void apply(String sessionId, ObjectNode message, String epoch, long seq) {
+        SessionState state = states.computeIfAbsent(sessionId, id -> new SessionState());
+        synchronized (state) {
+            state.seq = seq;
+            state.epoch = epoch;
+            state.updatedAt = System.currentTimeMillis();
+            if (message != null) {
+                state.apply(message);
+                appliedCounter.increment();
+            }
+        }
+    }
+
+    /**
+     * 세션의 현재 화면 상태 스냅샷 (보관 중인 상태가 없으면 빈 스냅샷)
+     */
+    public Snapshot snapshot(String sessionId) {
+        SessionState state = sessionId != null ? states.get(sessionId) : null;
+        snapshotCounter.increment();
+        if (state == null) {
+            return new Snapshot(sessionId, null, 0, Collections.emptyMap());
+        }
+        synchronized (state) {
+            return new Snapshot(sessionId, state.epoch, state.seq, state.toView());
+        }
+    }
+
+    /**
+     * 세션 종료 시 상태 제거
+     */
+    public void remove(String sessionId) {
+        states.remove(sessionId);
+    }
+
+    /**
+     * 보존 기간 동안 갱신이 없는 세션의 상태 정리
+     */
+    @Scheduled(fixedDelayString = "${session.state.evict-interval-ms:60000}")
+    public void evictIdleStates() {
+        long now = System.currentTimeMillis();
+        int before = states.size();
+        states.values().removeIf(state -> now - state.updatedAt > retentionMillis);
+        int evicted = before - states.size();
+        if (evicted > 0) {
+            log.info("🧹 유휴 세션 화면 상태 정리 - {}개 제거", evicted);
+        }
+    }
+
+    /**
+     * 참여 시 전송하는 스냅샷 메시지
+     */
+    @Getter
+    public static class Snapshot {
+        private final String type = "session-snapshot";
+        private final String sessionId;
+        private final String epoch;
+        private final long seq;
+        private final Map<String, Object> state;
+        private final long timestamp = System.currentTimeMillis();
+
+        private Snapshot(String sessionId, String epoch, long seq, Map<String, Object> state) {
+            this.sessionId = sessionId;
+            this.epoch = epoch;
+            this.seq = seq;
+            this.state = state;
+        }
+    }
+
+    /**
+     * 세션 하나의 화면 상태 (메시지 타입별 점진 갱신)
+     */
+    private static class SessionState {
+        private String epoch;
+        private long seq;
+        private volatile long updatedAt = System.currentTimeMillis();
+
+        private JsonNode customer;
+        private JsonNode productDetail;
+        private JsonNode screen;
+        private JsonNode enrollment;
+        private Integer currentFormIndex;
+        private JsonNode currentForm;
+        private Boolean canGoNext;
+        private Boolean canGoPrev;
+        private JsonNode focusedField;
+        private JsonNode productDescription;
+        private JsonNode simulation;
+        private final Map<String, Map<String, Object>> fieldValues = new LinkedHashMap<>();
+
+        private void apply(ObjectNode message) {
+            JsonNode data = message.get("data");
+            switch (message.path("type").asText()) {
+                case "customer-selected":
+                    // 새 고객 선택 시 이전 고객의 상품 / 서식 상태는 초기화
+                    resetConsultation();
+                    customer = message.has("customerData") ? message.get("customerData") : data;
+                    break;
+                case "customer-info-updated":
+                    if (customer instanceof ObjectNode && data != null && data.isObject()) {
+                        ((ObjectNode) customer).setAll((ObjectNode) data.deepCopy());
+                    } else if (data != null) {
+                        customer = data;
+                    }
+                    break;
+                case "product-visualization-sync":
+                    productDetail = data;
+                    break;
+                case "screen-updated":
+                    screen = data;
+                    break;
+                case "product-enrollment":
+                    enrollment = data;
+                    fieldValues.clear();
+                    focusedField = null;
+                    currentFormIndex = data != null && data.has("currentFormIndex") ? data.get("currentFormIndex").asInt() : 0;
+                    currentForm = data != null ? data.path("forms").path(currentFormIndex) : null;
+                    if (currentForm != null && currentForm.isMissingNode()) {
+                        currentForm = null;
+                    }
+                    int totalForms = data != null ? data.path("totalForms").asInt(0) : 0;
+                    canGoNext = currentFormIndex < totalForms - 1;
+                    canGoPrev = currentFormIndex > 0;
+                    break;
+                case "form-navigation":
+                    if (data != null) {
+                        currentFormIndex = data.path("currentFormIndex").asInt(currentFormIndex != null ? currentFormIndex : 0);
+                        currentForm = data.get("currentForm");
+                        canGoNext = data.path("canGoNext").asBoolean(false);
+                        canGoPrev = data.path("canGoPrev").asBoolean(false);
+                    }
+                    break;
+                case "field-focus":
+                    focusedField = data;
+                    break;
+                case "field-input-completed":
+                    String fieldId = message.path("fieldId").asText(null);
+                    if (fieldId != null) {
+                        Map<String, Object> field = new LinkedHashMap<>();
+                        field.put("value", message.path("fieldValue").asText(null));
+                        field.put("label", message.path("fieldLabel").asText(null));
+                        field.put("formId", message.path("formId").asText(null));
+                        fieldValues.put(fieldId, field);
+                    }
+                    break;
+                case "product-description":
+                    productDescription = data;
+                    break;
+                case "product-description-close":
+                    productDescription = null;
+                    break;
+                case "product-simulation":
+                    simulation = data;
+                    break;
+                default:
+                    // 화면 상태와 무관한 메시지 (parse에서 걸러짐)
+                    break;
+            }
+        }
+
+        private void resetConsultation() {
+            productDetail = null;
+            screen = null;
+            enrollment = null;
+            currentFormIndex = null;
+            currentForm = null;
+            canGoNext = null;
+            canGoPrev = null;
+            focusedField = null;
+            productDescription = null;
+            simulation = null;
+            fieldValues.clear();
+        }
+
+        // 값이 있는 항목만 포함 (JsonNode는 이후 갱신에서 교체만 하므로 그대로 공유, 필드 값 맵은 복사)
+        private Map<String, Object> toView() {
+            Map<String, Object> view = new LinkedHashMap<>();
+            putIfPresent(view, "customer", customer != null ? customer.deepCopy() : null);
+            putIfPresent(view, "productDetail", productDetail);
+            putIfPresent(view, "screen", screen);
+            putIfPresent(view, "enrollment", enrollment);
+            putIfPresent(view, "currentFormIndex", currentFormIndex);
+            putIfPresent(view, "currentForm", currentForm);
+            putIfPresent(view, "canGoNext", canGoNext);
+            putIfPresent(view, "canGoPrev", canGoPrev);
+            putIfPresent(view, "focusedField", focusedField);
+            putIfPresent(view, "productDescription", productDescription);
+            putIfPresent(view, "simulation", simulation);
+            if (!fieldValues.isEmpty()) {
+                Map<String, Object> fields = new LinkedHashMap<>();
+                fieldValues.forEach((id, field) -> fields.put(id, new LinkedHashMap<>(field)));
+                view.put("fieldValues", fields);
+            }
+            return view;
+        }
+
+        private static void putIfPresent(Map<String, Object> view, String key, Object value) {
+            if (value != null) {
+                view.put(key, value);
+            }
+        }
+    }
+}
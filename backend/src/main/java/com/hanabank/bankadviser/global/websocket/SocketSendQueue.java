@@ -0,0 +1,190 @@
+package com.hanabank.bankadviser.global.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 소켓 하나에 대한 제한된 크기의 송신 큐
+ * 호출 스레드는 enqueue만 하고, 실제 전송은 전용 송신 스레드에서 순서대로 수행
+ * (WebSocketSession.sendMessage는 동시 호출이 안전하지 않으므로 소켓당 한 번에 하나의 드레인만 실행)
+ * 드레인 한 번에 최대 drainBatch개만 보내고 남은 메시지는 송신 풀 큐 뒤에 다시 예약하여,
+ * 메시지가 많은 소켓 하나가 공유 송신 스레드를 계속 점유하지 않도록 함
+ */
+@Slf4j
+public class SocketSendQueue {
+
+    /**
+     * 오버플로우 처리 결과
+     */
+    public enum EnqueueResult {
+        QUEUED,
+        COALESCED,
+        DROPPED_OLDEST,
+        DISCONNECTED,
+        CLOSED
+    }
+
+    private final WebSocketSession session;
+    private final int capacity;
+    private final int drainBatch;
+    private final SendQueueOverflowPolicy overflowPolicy;
+    private final Executor senderExecutor;
+
+    private final Deque<QueuedMessage> queue = new ArrayDeque<>();
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private volatile boolean closed = false;
+
+    SocketSendQueue(WebSocketSession session, int capacity, int drainBatch,
+                    SendQueueOverflowPolicy overflowPolicy, Executor senderExecutor) {
+        this.session = session;
+        this.capacity = capacity;
+        this.drainBatch = Math.max(drainBatch, 1);
+        this.overflowPolicy = overflowPolicy;
+        this.senderExecutor = senderExecutor;
+    }
+
+    /**
+     * 메시지를 큐에 넣고 필요하면 드레인 작업을 예약
+     *
+     * @param coalesceKey COALESCE 정책에서 병합 기준이 되는 키 (null이면 병합하지 않음)
+     */
+    public EnqueueResult enqueue(WebSocketMessage<?> message, String coalesceKey) {
+        if (closed || !session.isOpen()) {
+            return EnqueueResult.CLOSED;
+        }
+
+        EnqueueResult result = EnqueueResult.QUEUED;
+        synchronized (queue) {
+            if (overflowPolicy == SendQueueOverflowPolicy.COALESCE && coalesceKey != null
+                    && replaceQueued(coalesceKey, message)) {
+                return EnqueueResult.COALESCED;
+            }
+
+            if (queue.size() >= capacity) {
+                if (overflowPolicy == SendQueueOverflowPolicy.DISCONNECT) {
+                    result = EnqueueResult.DISCONNECTED;
+                } else {
+                    queue.pollFirst();
+                    result = EnqueueResult.DROPPED_OLDEST;
+                }
+            }
+
+            if (result != EnqueueResult.DISCONNECTED) {
+                queue.addLast(new QueuedMessage(message, coalesceKey));
+            }
+        }
+
+        if (result == EnqueueResult.DISCONNECTED) {
+            disconnectSlowConsumer();
+            return result;
+        }
+
+        scheduleDrain();
+        return result;
+    }
+
+    /**
+     * 현재 대기 중인 메시지 수
+     */
+    public int depth() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    public String getSocketId() {
+        return session.getId();
+    }
+
+    /**
+     * 소켓 종료 시 큐 정리
+     */
+    void close() {
+        closed = true;
+        synchronized (queue) {
+            queue.clear();
+        }
+    }
+
+    private boolean replaceQueued(String coalesceKey, WebSocketMessage<?> message) {
+        Iterator<QueuedMessage> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            QueuedMessage queued = iterator.next();
+            if (coalesceKey.equals(queued.coalesceKey)) {
+                queued.message = message;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            try {
+                senderExecutor.execute(this::drain);
+            } catch (Exception e) {
+                draining.set(false);
+                log.warn("송신 작업 예약 실패 - socketId: {}, 원인: {}", session.getId(), e.getMessage());
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            for (int sent = 0; sent < drainBatch; sent++) {
+                QueuedMessage next;
+                synchronized (queue) {
+                    next = queue.pollFirst();
+                }
+                if (next == null) {
+                    break;
+                }
+                if (closed || !session.isOpen()) {
+                    close();
+                    break;
+                }
+                try {
+                    session.sendMessage(next.message);
+                } catch (Exception e) {
+                    log.warn("WebSocket 송신 실패 - socketId: {}, 원인: {}", session.getId(), e.getMessage());
+                }
+            }
+        } finally {
+            draining.set(false);
+        }
+
+        // 배치 상한에 도달해 남은 메시지, 또는 드레인 종료 직후 들어온 메시지가 있으면
+        // 송신 풀 큐 뒤에 다시 예약 (다른 소켓에 차례를 넘기고 wake-up 유실도 방지)
+        if (!closed && depth() > 0) {
+            scheduleDrain();
+        }
+    }
+
+    private void disconnectSlowConsumer() {
+        log.warn("송신 큐 초과로 느린 소켓 연결 종료 - socketId: {}, capacity: {}", session.getId(), capacity);
+        close();
+        try {
+            session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (Exception e) {
+            log.warn("느린 소켓 종료 실패 - socketId: {}, 원인: {}", session.getId(), e.getMessage());
+        }
+    }
+
+    private static class QueuedMessage {
+        private WebSocketMessage<?> message;
+        private final String coalesceKey;
+
+        private QueuedMessage(WebSocketMessage<?> message, String coalesceKey) {
+            this.message = message;
+            this.coalesceKey = coalesceKey;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.hanabank.bankadviser.global.websocket;
+
+import com.hanabank.bankadviser.global.shared.concurrent.BoundedExecutors;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import javax.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 단순 WebSocket(/simple-ws) 소켓별 송신 큐 관리
+ * 느린 태블릿 하나가 STOMP 컨트롤러 스레드를 막지 않도록 전송을 전용 송신 스레드로 분리하고,
+ * 큐 깊이를 Micrometer 지표로 노출하여 지연 중인 태블릿을 확인할 수 있게 함
+ */
+@Component
+@Slf4j
+public class SocketSendQueueManager {
+
+    private static final String QUEUE_DEPTH_METRIC = "websocket.send.queue.depth";
+
+    private final MeterRegistry meterRegistry;
+    private final int capacity;
+    private final int drainBatch;
+    private final SendQueueOverflowPolicy overflowPolicy;
+    private final ExecutorService senderExecutor;
+
+    private final Map<String, SocketSendQueue> queues = new ConcurrentHashMap<>();
+    private final Map<String, Gauge> depthGauges = new ConcurrentHashMap<>();
+
+    private final Counter coalescedCounter;
+    private final Counter droppedCounter;
+    private final Counter disconnectedCounter;
+
+    public SocketSendQueueManager(MeterRegistry meterRegistry,
+                                  @Value("${websocket.send-queue.capacity:256}") int capacity,
+                                  @Value("${websocket.send-queue.overflow-policy:DROP_OLDEST}") SendQueueOverflowPolicy overflowPolicy,
+                                  @Value("${websocket.send-queue.sender-threads:4}") int senderThreads,
+                                  @Value("${websocket.send-queue.sender-queue-capacity:1024}") int senderQueueCapacity,
+                                  @Value("${websocket.send-queue.drain-batch:32}") int drainBatch) {
+        this.meterRegistry = meterRegistry;
+        this.capacity = capacity;
+        this.drainBatch = drainBatch;
+        this.overflowPolicy = overflowPolicy;
+        // 소켓당 드레인 작업은 한 번에 하나이므로 대기열 크기는 동시 송신 중인 소켓 수 기준
+        this.senderExecutor = BoundedExecutors.newBoundedExecutor(meterRegistry, "websocket.sender", "ws-sender",
+            senderThreads, senderThreads, senderQueueCapacity, false);
+
+        Gauge.builder("websocket.send.queue.total.depth", queues, q -> q.values().stream().mapToInt(SocketSendQueue::depth).sum())
+            .description("단순 WebSocket 전체 송신 대기 메시지 수")
+            .register(meterRegistry);
+        Gauge.builder("websocket.send.queue.sockets", queues, Map::size)
+            .description("송신 큐가 등록된 단순 WebSocket 소켓 수")
+            .register(meterRegistry);
+
+        this.coalescedCounter = overflowCounter("coalesced");
+        this.droppedCounter = overflowCounter("dropped_oldest");
+        this.disconnectedCounter = overflowCounter("disconnected");
+
+        log.info("WebSocket 송신 큐 초기화 - capacity: {}, policy: {}, senderThreads: {}, drainBatch: {}",
+            capacity, overflowPolicy, senderThreads, drainBatch);
+    }
+
+    /**
+     * 소켓 연결 시 송신 큐 등록
+     */
+    public void register(WebSocketSession session) {
+        SocketSendQueue queue = new SocketSendQueue(session, capacity, drainBatch, overflowPolicy, senderExecutor);
+        queues.put(session.getId(), queue);
+        depthGauges.put(session.getId(), Gauge.builder(QUEUE_DEPTH_METRIC, queue, SocketSendQueue::depth)
+            .description("단순 WebSocket 소켓별 송신 대기 메시지 수")
+            .tag("socketId", session.getId())
+            .register(meterRegistry));
+    }
+
+    /**
+     * 소켓 종료 시 송신 큐 및 지표 제거
+     */
+    public void unregister(WebSocketSession session) {
+        SocketSendQueue queue = queues.remove(session.getId());
+        if (queue != null) {
+            queue.close();
+        }
+        Gauge gauge = depthGauges.remove(session.getId());
+        if (gauge != null) {
+            meterRegistry.remove(gauge);
+        }
+    }
+
+    /**
+     * 메시지를 소켓의 송신 큐에 넣음 (즉시 반환)
+     */
+    public void enqueue(WebSocketSession session, WebSocketMessage<?> message) {
+        enqueue(session, message, null);
+    }
+
+    public void enqueue(WebSocketSession session, WebSocketMessage<?> message, String coalesceKey) {
+        SocketSendQueue queue = queues.get(session.getId());
+        if (queue == null) {
+            log.warn("송신 큐가 없는 소켓으로 전송 시도 - socketId: {}", session.getId());
+            return;
+        }
+
+        switch (queue.enqueue(message, coalesceKey)) {
+            case COALESCED:
+                coalescedCounter.increment();
+                break;
+            case DROPPED_OLDEST:
+                droppedCounter.increment();
+                log.debug("송신 큐 초과로 오래된 메시지 폐기 - socketId: {}", session.getId());
+                break;
+            case DISCONNECTED:
+                disconnectedCounter.increment();
+                break;
+            default:
+                break;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        BoundedExecutors.shutdown(senderExecutor, 5);
+    }
+
+    private Counter overflowCounter(String action) {
+        return Counter.builder("websocket.send.queue.overflow")
+            .description("송신 큐 오버플로우 처리 횟수")
+            .tag("policy", overflowPolicy.name())
+            .tag("action", action)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,67 @@
+package com.hanabank.bankadviser.domain.product.service;
+
+import com.hanabank.bankadviser.domain.product.service.RecommendationPipelineService.CustomerProfile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CustomerProfileCacheTest {
+
+    private final CustomerProfileCache cache = new CustomerProfileCache(new SimpleMeterRegistry(), 60_000);
+
+    @Test
+    void otherCustomerInvalidationDoesNotDropInFlightLoad() {
+        long loadGeneration = cache.currentGeneration();
+
+        // C001 적재 중 다른 고객 정보가 변경됨
+        cache.invalidate("C002");
+        cache.put(profile("C001"), loadGeneration);
+
+        assertThat(cache.contains("C001")).isTrue();
+    }
+
+    @Test
+    void sameCustomerInvalidationDropsStaleLoad() {
+        long loadGeneration = cache.currentGeneration();
+
+        cache.invalidate("C001");
+        cache.put(profile("C001"), loadGeneration);
+
+        assertThat(cache.contains("C001")).isFalse();
+
+        // 무효화 이후 시작한 적재는 저장
+        cache.put(profile("C001"), cache.currentGeneration());
+        assertThat(cache.contains("C001")).isTrue();
+    }
+
+    @Test
+    void invalidateAllDropsEveryInFlightLoad() {
+        long loadGeneration = cache.currentGeneration();
+
+        cache.invalidate(null);
+        cache.put(profile("C001"), loadGeneration);
+        cache.put(profile("C002"), loadGeneration);
+
+        assertThat(cache.contains("C001")).isFalse();
+        assertThat(cache.contains("C002")).isFalse();
+    }
+
+    @Test
+    void reapKeepsRecentInvalidationUntilNextRun() {
+        long loadGeneration = cache.currentGeneration();
+        cache.invalidate("C001");
+
+        // 무효화 직후 첫 정리에서는 기록을 유지하여 진행 중인 적재를 계속 막음
+        cache.reapExpired();
+        cache.put(profile("C001"), loadGeneration);
+        assertThat(cache.contains("C001")).isFalse();
+    }
+
+    private static CustomerProfile profile(String customerId) {
+        return CustomerProfile.builder()
+            .customerId(customerId)
+            .name("테스트")
+            .build();
+    }
+}
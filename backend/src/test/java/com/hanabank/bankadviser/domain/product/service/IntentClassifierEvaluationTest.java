@@ -0,0 +1,175 @@
+package com.hanabank.bankadviser.domain.product.service;
+
+import com.hanabank.bankadviser.domain.product.service.IntentCentroidModel.LabelledTranscript;
+import com.hanabank.bankadviser.domain.product.service.IntentCentroidModel.Prediction;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 의도 분류기 평가 - 라벨이 있는 평가 예문(intent/intent-eval.tsv)으로 정확도와 로컬 처리 정밀도를 검사
+ * 기준값(min-similarity / min-confidence)은 운영 설정 파일에서 읽으므로, 기준값을 바꾸면 이 테스트로 영향이 확인됨
+ */
+class IntentClassifierEvaluationTest {
+
+    private static final int DIMENSIONS = 4096;
+    private static final String PRODUCTION_PROPERTIES = "application-production.properties";
+
+    // 기준값과 관계없이 1위 의도가 맞아야 하는 최소 비율
+    private static final double MIN_ACCURACY = 0.9;
+    // 기준값을 넘어 OpenAI 없이 답한 결과 중 맞아야 하는 최소 비율 (잘못된 로컬 응답은 추천 품질에 바로 영향)
+    private static final double MIN_LOCAL_PRECISION = 0.95;
+    // OpenAI 호출을 줄이는 의미가 있도록 로컬에서 처리해야 하는 최소 비율
+    private static final double MIN_LOCAL_COVERAGE = 0.3;
+
+    private static Report report;
+    private static Set<String> trainedIntents;
+
+    @BeforeAll
+    static void evaluate() throws IOException {
+        List<LabelledTranscript> training = load("intent/intent-examples.tsv");
+        List<LabelledTranscript> evaluation = load("intent/intent-eval.tsv");
+        trainedIntents = training.stream().map(LabelledTranscript::getIntent).collect(Collectors.toCollection(TreeSet::new));
+
+        Properties production = new Properties();
+        Path propertiesPath = Paths.get(PRODUCTION_PROPERTIES);
+        if (Files.exists(propertiesPath)) {
+            try (InputStream input = Files.newInputStream(propertiesPath)) {
+                production.load(input);
+            }
+        }
+        // 기본값은 LocalIntentClassifier의 @Value 기본값과 동일
+        double minSimilarity = Double.parseDouble(production.getProperty("recommendation.intent-classifier.min-similarity", "0.35"));
+        double minConfidence = Double.parseDouble(production.getProperty("recommendation.intent-classifier.min-confidence", "0.8"));
+
+        IntentCentroidModel model = IntentCentroidModel.train(training, DIMENSIONS);
+        report = new Report(evaluation.size());
+        for (LabelledTranscript sample : evaluation) {
+            Prediction prediction = model.predict(sample.getTranscript());
+            boolean hit = sample.getIntent().equals(prediction.getIntent());
+            boolean confident = prediction.getSimilarity() >= minSimilarity && prediction.getConfidence() >= minConfidence;
+            report.record(sample, prediction, hit, confident);
+        }
+
+        System.out.printf("학습 예문 %d개, 평가 예문 %d개, 기준: similarity >= %.2f, confidence >= %.2f%n",
+            training.size(), evaluation.size(), minSimilarity, minConfidence);
+        report.print();
+    }
+
+    @Test
+    void topIntentAccuracyMeetsFloor() {
+        assertThat(report.accuracy())
+            .as("전체 정확도, 오분류: %s", report.errors)
+            .isGreaterThanOrEqualTo(MIN_ACCURACY);
+    }
+
+    @Test
+    void locallyAnsweredIntentsArePrecise() {
+        assertThat(report.local).as("로컬 처리 건수").isPositive();
+        assertThat(report.localPrecision())
+            .as("로컬 정확도, 오분류: %s", report.errors)
+            .isGreaterThanOrEqualTo(MIN_LOCAL_PRECISION);
+    }
+
+    @Test
+    void thresholdsStillAnswerEnoughLocally() {
+        assertThat(report.localCoverage())
+            .as("로컬 처리 비율")
+            .isGreaterThanOrEqualTo(MIN_LOCAL_COVERAGE);
+    }
+
+    @Test
+    void everyTrainedIntentIsEvaluated() {
+        // 의도가 평가 예문에서 빠지면 해당 의도의 정확도 저하를 놓치므로 학습한 의도마다 평가 예문이 있어야 함
+        assertThat(report.perIntent.keySet()).containsExactlyElementsOf(trainedIntents);
+    }
+
+    private static List<LabelledTranscript> load(String classpathResource) throws IOException {
+        InputStream input = IntentClassifierEvaluationTest.class.getClassLoader().getResourceAsStream(classpathResource);
+        if (input == null) {
+            throw new IOException("클래스패스에서 예문 파일을 찾을 수 없습니다: " + classpathResource);
+        }
+        try (InputStream in = input) {
+            return IntentCentroidModel.readTsv(in);
+        }
+    }
+
+    /**
+     * 평가 결과 집계 (의도별 전체 / 정답 / 로컬 처리 수)
+     */
+    private static class Report {
+        private final int total;
+        private int correct;
+        private int local;
+        private int localCorrect;
+        private final Map<String, int[]> perIntent = new TreeMap<>();
+        private final List<String> errors = new ArrayList<>();
+
+        private Report(int total) {
+            this.total = total;
+        }
+
+        private void record(LabelledTranscript sample, Prediction prediction, boolean hit, boolean confident) {
+            int[] counts = perIntent.computeIfAbsent(sample.getIntent(), intent -> new int[3]);
+            counts[0]++;
+            if (hit) {
+                correct++;
+                counts[1]++;
+            }
+            if (confident) {
+                local++;
+                counts[2]++;
+                if (hit) {
+                    localCorrect++;
+                }
+            }
+            if (!hit) {
+                errors.add(String.format("%s %s -> %s | %s", confident ? "[로컬]" : "[OpenAI]",
+                    sample.getIntent(), prediction, sample.getTranscript()));
+            }
+        }
+
+        private double accuracy() {
+            return ratio(correct, total);
+        }
+
+        private double localPrecision() {
+            return ratio(localCorrect, local);
+        }
+
+        private double localCoverage() {
+            return ratio(local, total);
+        }
+
+        private void print() {
+            System.out.printf("전체 정확도: %.1f%% (%d/%d)%n", accuracy() * 100, correct, total);
+            System.out.printf("로컬 처리 비율: %.1f%% (%d/%d)%n", localCoverage() * 100, local, total);
+            System.out.printf("로컬 정확도: %.1f%% (%d/%d)%n", localPrecision() * 100, localCorrect, local);
+            for (Map.Entry<String, int[]> entry : perIntent.entrySet()) {
+                int[] counts = entry.getValue();
+                System.out.printf("  %-8s %5.1f%% (%d/%d), 로컬 %d%n",
+                    entry.getKey(), ratio(counts[1], counts[0]) * 100, counts[1], counts[0], counts[2]);
+            }
+            errors.forEach(error -> System.out.println("  오분류 " + error));
+        }
+
+        private static double ratio(int part, int whole) {
+            return whole > 0 ? (double) part / whole : 0.0;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.hanabank.bankadviser.domain.product.service;
+
+import com.hanabank.bankadviser.domain.customer.entity.Customer;
+import com.hanabank.bankadviser.domain.customer.repository.CustomerRepository;
+import com.hanabank.bankadviser.domain.product.entity.FinancialProduct;
+import com.hanabank.bankadviser.domain.product.event.ProductChangedEvent;
+import com.hanabank.bankadviser.domain.product.repository.FinancialProductRepository;
+import com.hanabank.bankadviser.domain.product.service.ProductScoringIndex.IndexedProduct;
+import com.hanabank.bankadviser.domain.product.service.RecommendationPipelineService.CustomerProfile;
+import com.hanabank.bankadviser.domain.product.service.RecommendationPipelineService.ProductRecommendation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NextBestOfferBatchServiceTest {
+
+    // 조회마다 카탈로그가 만료되어 재적재되도록 짧게 설정
+    private static final long REFRESH_MILLIS = 1;
+
+    private final FinancialProductRepository productRepository = mock(FinancialProductRepository.class);
+    private final CustomerRepository customerRepository = mock(CustomerRepository.class);
+    private final RecommendationPipelineService pipelineService = mock(RecommendationPipelineService.class);
+
+    private volatile BigDecimal savingsRate = new BigDecimal("3.50");
+    private ProductCatalog productCatalog;
+    private NextBestOfferBatchService batchService;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        // DB 재조회를 흉내 내도록 매번 새 엔티티 반환
+        when(productRepository.findAll()).thenAnswer(invocation -> List.of(
+            product("P001", "하나 급여적금", "적금", "판매중", savingsRate),
+            product("P002", "하나 주택담보대출", "대출", "판매중", new BigDecimal("4.20")),
+            product("P003", "구 정기예금", "예금", "판매중지", new BigDecimal("2.10"))));
+
+        Customer customer = new Customer();
+        customer.setCustomerId("C001");
+        customer.setName("홍길동");
+        when(customerRepository.findAll(any(Pageable.class)))
+            .thenReturn(new PageImpl<>(Collections.singletonList(customer)));
+        when(customerRepository.findByCustomerId("C001")).thenReturn(Optional.of(customer));
+
+        when(pipelineService.toCustomerProfile(any(Customer.class)))
+            .thenReturn(CustomerProfile.builder().customerId("C001").build());
+        when(pipelineService.inferProfileIntent(any(CustomerProfile.class))).thenReturn("적금상품문의");
+        when(pipelineService.scoreProfileOnly(any(CustomerProfile.class), anyList(), anyInt()))
+            .thenAnswer(invocation -> {
+                List<IndexedProduct> products = invocation.getArgument(1);
+                return products.stream()
+                    .map(product -> ProductRecommendation.builder()
+                        .productId(product.getProductId())
+                        .score(0.5)
+                        .build())
+                    .collect(Collectors.toList());
+            });
+
+        productCatalog = new ProductCatalog(productRepository, meterRegistry, REFRESH_MILLIS);
+        ProductScoringIndex productScoringIndex = new ProductScoringIndex(productCatalog, meterRegistry);
+        batchService = new NextBestOfferBatchService(customerRepository, pipelineService, productScoringIndex,
+            meterRegistry, 100, 5, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchService.shutdown();
+    }
+
+    @Test
+    void precomputedOffersSurviveCatalogRefreshWithoutChanges() throws InterruptedException {
+        assertThat(batchService.runBatch()).isEqualTo(1);
+        long catalogVersion = productCatalog.getVersion();
+
+        Thread.sleep(10);
+        NextBestOfferBatchService.NextBestOffers offers = batchService.getRecommendations("C001").orElseThrow();
+
+        assertThat(offers.isPrecomputed()).isTrue();
+        assertThat(offers.getRecommendations()).extracting(ProductRecommendation::getProductId)
+            .containsExactly("P001", "P002");
+        assertThat(productCatalog.getVersion()).isEqualTo(catalogVersion);
+        verify(customerRepository, never()).findByCustomerId("C001");
+    }
+
+    @Test
+    void precomputedOffersSurviveChangeEventForProductsNotOnSale() {
+        assertThat(batchService.runBatch()).isEqualTo(1);
+
+        // 판매중지 상품 변경 이벤트: 카탈로그 버전은 오르지만 판매중 상품 내용은 그대로
+        productCatalog.onProductChanged(ProductChangedEvent.of("P003"));
+        NextBestOfferBatchService.NextBestOffers offers = batchService.getRecommendations("C001").orElseThrow();
+
+        assertThat(offers.isPrecomputed()).isTrue();
+        verify(customerRepository, never()).findByCustomerId("C001");
+    }
+
+    @Test
+    void precomputedOffersAreRescoredAfterOnSaleProductChanges() throws InterruptedException {
+        assertThat(batchService.runBatch()).isEqualTo(1);
+        long catalogVersion = productCatalog.getVersion();
+
+        // DB에서 직접 금리를 바꾼 경우: 만료 재적재에서 변경을 감지해 다시 계산
+        savingsRate = new BigDecimal("3.80");
+        Thread.sleep(10);
+        NextBestOfferBatchService.NextBestOffers offers = batchService.getRecommendations("C001").orElseThrow();
+
+        assertThat(offers.isPrecomputed()).isFalse();
+        assertThat(productCatalog.getVersion()).isGreaterThan(catalogVersion);
+        verify(customerRepository, times(1)).findByCustomerId("C001");
+
+        // 다시 계산한 결과는 다음 조회부터 그대로 사용
+        Thread.sleep(10);
+        assertThat(batchService.getRecommendations("C001").orElseThrow().isPrecomputed()).isTrue();
+    }
+
+    private static FinancialProduct product(String productId, String productName, String productType,
+                                            String salesStatus, BigDecimal baseRate) {
+        return FinancialProduct.builder()
+            .productId(productId)
+            .productName(productName)
+            .productType(productType)
+            .salesStatus(salesStatus)
+            .baseRate(baseRate)
+            .minAmount(new BigDecimal("100000.00"))
+            .maxAmount(new BigDecimal("50000000.00"))
+            .build();
+    }
+}
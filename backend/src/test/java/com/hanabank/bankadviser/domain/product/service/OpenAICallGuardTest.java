@@ -0,0 +1,134 @@
+package com.hanabank.bankadviser.domain.product.service;
+
+import com.hanabank.bankadviser.domain.product.service.OpenAICallGuard.OpenAIUnavailableException;
+import com.hanabank.bankadviser.domain.product.service.OpenAICallGuard.State;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OpenAICallGuardTest {
+
+    private static final long OPEN_DURATION_MILLIS = 100;
+
+    // window 4, 최소 4건, 실패율 50%, OPEN 100ms, 시험 호출 2건, 동시 호출 1건 (대기 없음)
+    private final OpenAICallGuard guard = new OpenAICallGuard(new SimpleMeterRegistry(),
+        4, 4, 50, OPEN_DURATION_MILLIS, 2, 1, 0);
+
+    @Test
+    void opensWhenFailureRateReachesThreshold() {
+        succeed();
+        succeed();
+        fail();
+        assertThat(guard.getState()).isEqualTo(State.CLOSED);
+
+        fail();
+        assertThat(guard.getState()).isEqualTo(State.OPEN);
+
+        // OPEN 상태에서는 호출하지 않고 즉시 실패
+        AtomicInteger invoked = new AtomicInteger();
+        assertThatThrownBy(() -> guard.call("test", invoked::incrementAndGet))
+            .isInstanceOf(OpenAIUnavailableException.class);
+        assertThat(invoked).hasValue(0);
+    }
+
+    @Test
+    void staysClosedBelowMinimumCalls() {
+        fail();
+        fail();
+        fail();
+        assertThat(guard.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    void halfOpenClosesAfterSuccessfulTrialCalls() throws InterruptedException {
+        open();
+        Thread.sleep(OPEN_DURATION_MILLIS + 50);
+        assertThat(guard.getState()).isEqualTo(State.HALF_OPEN);
+
+        succeed();
+        assertThat(guard.getState()).isEqualTo(State.HALF_OPEN);
+        succeed();
+        assertThat(guard.getState()).isEqualTo(State.CLOSED);
+
+        // CLOSED로 돌아오면 이전 실패 기록은 초기화
+        fail();
+        fail();
+        fail();
+        assertThat(guard.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    void halfOpenReopensOnTrialFailure() throws InterruptedException {
+        open();
+        Thread.sleep(OPEN_DURATION_MILLIS + 50);
+        assertThat(guard.getState()).isEqualTo(State.HALF_OPEN);
+
+        fail();
+        assertThat(guard.getState()).isEqualTo(State.OPEN);
+    }
+
+    @Test
+    void resetClosesOpenCircuit() {
+        open();
+        guard.reset();
+
+        assertThat(guard.getState()).isEqualTo(State.CLOSED);
+        assertThat(guard.call("test", () -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    void bulkheadRejectsCallsOverConcurrencyLimit() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> inFlight = CompletableFuture.supplyAsync(() -> guard.call("slow", () -> {
+            started.countDown();
+            await(release);
+            return "slow";
+        }));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+        AtomicInteger invoked = new AtomicInteger();
+        assertThatThrownBy(() -> guard.call("test", invoked::incrementAndGet))
+            .isInstanceOf(OpenAIUnavailableException.class)
+            .hasMessageContaining("동시 호출");
+        assertThat(invoked).hasValue(0);
+
+        release.countDown();
+        assertThat(inFlight.get(1, TimeUnit.SECONDS)).isEqualTo("slow");
+        // 동시 호출 거절은 실패율에 반영하지 않고, 슬롯이 비면 다시 호출 가능
+        assertThat(guard.getState()).isEqualTo(State.CLOSED);
+        assertThat(guard.call("test", () -> "ok")).isEqualTo("ok");
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            fail();
+        }
+        assertThat(guard.getState()).isEqualTo(State.OPEN);
+    }
+
+    private void succeed() {
+        assertThat(guard.call("test", () -> "ok")).isEqualTo("ok");
+    }
+
+    private void fail() {
+        assertThatThrownBy(() -> guard.call("test", () -> {
+            throw new IllegalStateException("upstream 503");
+        })).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
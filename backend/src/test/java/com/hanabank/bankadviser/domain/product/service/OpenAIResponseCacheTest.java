@@ -0,0 +1,41 @@
+package com.hanabank.bankadviser.domain.product.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpenAIResponseCacheTest {
+
+    @Test
+    void differentlyPhrasedTranscriptsShareKey() {
+        String expected = "주택대출금리알려주세요";
+
+        assertThat(OpenAIResponseCache.normalize("주택 대출 금리를 알려주세요.")).isEqualTo(expected);
+        assertThat(OpenAIResponseCache.normalize("주택 대출 금리 알려주세요")).isEqualTo(expected);
+        assertThat(OpenAIResponseCache.normalize("주택대출 금리를 알려주세요.")).isEqualTo(expected);
+    }
+
+    @Test
+    void particlesAreStrippedOnlyAfterHangulStem() {
+        assertThat(OpenAIResponseCache.normalize("적금은 얼마까지 되나요?"))
+            .isEqualTo(OpenAIResponseCache.normalize("적금 얼마까지 되나요"));
+        // 명사 끝 글자와 겹치는 한 글자는 조사로 보지 않음
+        assertThat(OpenAIResponseCache.normalize("하나 적금")).isEqualTo("하나적금");
+        assertThat(OpenAIResponseCache.normalize("필요해요")).isEqualTo("필요해요");
+    }
+
+    @Test
+    void figuresKeepInnerPunctuation() {
+        assertThat(OpenAIResponseCache.normalize("대출 5천만"))
+            .isNotEqualTo(OpenAIResponseCache.normalize("대출 5천"));
+        assertThat(OpenAIResponseCache.normalize("금리 3.5%"))
+            .isNotEqualTo(OpenAIResponseCache.normalize("금리 35%"));
+        assertThat(OpenAIResponseCache.normalize("금리 3.5%.")).isEqualTo("금리3.5%");
+    }
+
+    @Test
+    void lowercasesAndHandlesNull() {
+        assertThat(OpenAIResponseCache.normalize("Hana 적금!")).isEqualTo("hana적금");
+        assertThat(OpenAIResponseCache.normalize(null)).isEmpty();
+    }
+}
@@ -0,0 +1,84 @@
+package com.hanabank.bankadviser.global.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompactFrameCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 디코딩한 정수는 LongNode, 큰 수는 DecimalNode이므로 숫자는 값으로 비교
+    private static final Comparator<JsonNode> SAME_VALUE = (left, right) -> {
+        if (left.isNumber() && right.isNumber()) {
+            return left.decimalValue().compareTo(right.decimalValue());
+        }
+        return left.equals(right) ? 0 : 1;
+    };
+
+    // 모든 버전의 사전 항목과 사전에 없는 키 / 값, 숫자 / 불리언 / null / 중첩 구조를 함께 포함
+    private static final String MESSAGE = "{"
+        + "\"type\":\"recommendation-products\",\"sessionId\":\"S-1001\",\"timestamp\":1718000000000,"
+        + "\"seq\":42,\"epoch\":\"k3j2h1\",\"requestId\":\"req-1\","
+        + "\"state\":{\"type\":\"session-snapshot\",\"currentFormIndex\":2,\"canGoNext\":true,\"canGoPrev\":false},"
+        + "\"recommendations\":[{\"productId\":\"P001\",\"productName\":\"하나 급여적금\",\"score\":0.875,"
+        + "\"interestRate\":3.5,\"minAmount\":-100000}],"
+        + "\"fieldValue\":null,\"customField\":\"사전에 없는 값\",\"bigNumber\":123456789012345678901234567890"
+        + "}";
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4})
+    void roundTripsAtEverySupportedVersion(int version) throws Exception {
+        JsonNode original = objectMapper.readTree(MESSAGE);
+
+        byte[] frame = CompactFrameCodec.encodeJson(objectMapper, MESSAGE, version);
+
+        assertThat(frame[0]).isEqualTo(CompactFrameCodec.MAGIC);
+        assertThat(frame[1]).isEqualTo((byte) version);
+        assertThat(CompactFrameCodec.isCompactFrame(frame)).isTrue();
+        assertThat(CompactFrameCodec.decode(frame).equals(SAME_VALUE, original)).isTrue();
+        assertThat(objectMapper.readTree(CompactFrameCodec.decodeToJson(objectMapper, frame))).isEqualTo(original);
+    }
+
+    @Test
+    void newerDictionaryProducesSmallerFrames() throws Exception {
+        int previous = Integer.MAX_VALUE;
+        for (int version = CompactFrameCodec.MIN_VERSION; version <= CompactFrameCodec.VERSION; version++) {
+            int size = CompactFrameCodec.encodeJson(objectMapper, MESSAGE, version).length;
+            assertThat(size).isLessThan(previous);
+            previous = size;
+        }
+        assertThat(previous).isLessThan(MESSAGE.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    void negotiatesDownToServerVersion() {
+        assertThat(CompactFrameCodec.negotiateVersion(1)).isEqualTo(1);
+        assertThat(CompactFrameCodec.negotiateVersion(CompactFrameCodec.VERSION)).isEqualTo(CompactFrameCodec.VERSION);
+        assertThat(CompactFrameCodec.negotiateVersion(CompactFrameCodec.VERSION + 5)).isEqualTo(CompactFrameCodec.VERSION);
+        assertThat(CompactFrameCodec.negotiateVersion(0)).isZero();
+    }
+
+    @Test
+    void rejectsUnsupportedVersionsAndForeignFrames() {
+        JsonNode node = objectMapper.createObjectNode().put("type", "screen-updated");
+
+        assertThatThrownBy(() -> CompactFrameCodec.encode(node, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CompactFrameCodec.encode(node, CompactFrameCodec.VERSION + 1))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        byte[] frame = CompactFrameCodec.encode(node, CompactFrameCodec.VERSION);
+        frame[1] = (byte) (CompactFrameCodec.VERSION + 1);
+        assertThat(CompactFrameCodec.isCompactFrame(frame)).isFalse();
+        assertThatThrownBy(() -> CompactFrameCodec.decode(frame)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(CompactFrameCodec.isCompactFrame("{\"type\":1}".getBytes(StandardCharsets.UTF_8))).isFalse();
+    }
+}
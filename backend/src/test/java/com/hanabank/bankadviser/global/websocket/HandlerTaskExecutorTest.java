@@ -0,0 +1,141 @@
+package com.hanabank.bankadviser.global.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HandlerTaskExecutorTest {
+
+    private static final int TASKS_PER_SESSION = 200;
+
+    // 스레드 4개, 대기열 100, 세션당 대기 작업 최대 3개 (세션별 한도 테스트용으로 작게)
+    private final HandlerTaskExecutor executor = new HandlerTaskExecutor(new SimpleMeterRegistry(), 4, 4, 100, 3);
+    private final HandlerTaskExecutor roomyExecutor =
+        new HandlerTaskExecutor(new SimpleMeterRegistry(), 4, 4, 100, TASKS_PER_SESSION * 2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+        roomyExecutor.shutdown();
+    }
+
+    @Test
+    void runsTasksOfSameKeyInSubmissionOrder() throws InterruptedException {
+        List<Integer> first = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> second = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(TASKS_PER_SESSION * 2);
+
+        for (int i = 0; i < TASKS_PER_SESSION; i++) {
+            int order = i;
+            roomyExecutor.executeInOrder("S1", "task", () -> record(first, order, done), done::countDown);
+            roomyExecutor.executeInOrder("S2", "task", () -> record(second, order, done), done::countDown);
+        }
+
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        List<Integer> expected = IntStream.range(0, TASKS_PER_SESSION).boxed().collect(Collectors.toList());
+        assertThat(first).containsExactlyElementsOf(expected);
+        assertThat(second).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void tasksOfDifferentKeysRunInParallel() throws InterruptedException {
+        CountDownLatch bothRunning = new CountDownLatch(2);
+        CountDownLatch done = new CountDownLatch(2);
+        Runnable task = () -> {
+            bothRunning.countDown();
+            try {
+                // 다른 세션 작업이 동시에 실행되지 않으면 여기서 시간 초과
+                if (bothRunning.await(5, TimeUnit.SECONDS)) {
+                    done.countDown();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        executor.executeInOrder("S1", "task", task, null);
+        executor.executeInOrder("S2", "task", task, null);
+
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void rejectsTasksOverPerKeyLimit() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch ran = new CountDownLatch(3);
+
+        executor.executeInOrder("S1", "blocking", () -> {
+            started.countDown();
+            await(release);
+        }, rejected::incrementAndGet);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 실행 중인 작업 외에 3개까지 대기, 네 번째는 호출 스레드에서 거절 처리
+        for (int i = 0; i < 4; i++) {
+            executor.executeInOrder("S1", "queued", ran::countDown, rejected::incrementAndGet);
+        }
+        assertThat(rejected).hasValue(1);
+
+        // 대기 중이던 작업은 모두 실행
+        release.countDown();
+        assertThat(ran.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(rejected).hasValue(1);
+    }
+
+    @Test
+    void laneKeepsDrainingAfterTaskThrowsError() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+
+        executor.executeInOrder("S1", "blocking", () -> await(release), null);
+        executor.executeInOrder("S1", "error", () -> {
+            order.add("error");
+            throw new AssertionError("handler bug");
+        }, null);
+        executor.executeInOrder("S1", "after-error", () -> {
+            order.add("after-error");
+            done.countDown();
+        }, null);
+        release.countDown();
+
+        // Error 이후 새로 제출한 작업도 대기열이 멈추지 않고 실행됨
+        executor.executeInOrder("S1", "later", () -> {
+            order.add("later");
+            done.countDown();
+        }, null);
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(order).containsExactly("error", "after-error", "later");
+    }
+
+    private static void record(List<Integer> target, int order, CountDownLatch done) {
+        if (ThreadLocalRandom.current().nextInt(10) == 0) {
+            Thread.yield();
+        }
+        target.add(order);
+        done.countDown();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.hanabank.bankadviser.global.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanabank.bankadviser.domain.consultation.service.SessionDirectory;
+import com.hanabank.bankadviser.domain.consultation.service.SessionMessagePublisher;
+import com.hanabank.bankadviser.global.config.WebSocketConfig.SimpleWebSocketHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * EMBEDDED 모드 다중 노드 팬아웃 - 한 JVM에 애플리케이션 컨텍스트 두 개(= 노드 두 개)를 띄워 검증
+ */
+class InProcessClusterMessageBusTest {
+
+    private final List<Node> nodes = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(node -> node.context.close());
+    }
+
+    @Test
+    void messagePublishedOnOneNodeReachesSubscriberOnOtherNodeExactlyOnce() throws Exception {
+        Node nodeA = startNode();
+        Node nodeB = startNode();
+
+        // 노드 B에 태블릿 소켓 하나가 세션 S1에 참여
+        WebSocketSession tablet = mock(WebSocketSession.class);
+        when(tablet.getId()).thenReturn("tablet-1");
+        when(tablet.isOpen()).thenReturn(true);
+        nodeB.handler.afterConnectionEstablished(tablet);
+        nodeB.handler.handleMessage(tablet,
+            new TextMessage("{\"type\":\"join-session\",\"sessionId\":\"S1\",\"userType\":\"tablet\"}"));
+        clearInvocations(nodeB.sendQueues);
+
+        nodeA.publisher.publish("S1", Map.of("type", "screen-updated", "screen", "product-detail"));
+
+        // 노드 B의 브리지 소켓에는 정확히 한 번, 노드 A에는 연결된 소켓이 없으므로 전송 없음
+        ArgumentCaptor<WebSocketMessage<?>> frame = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(nodeB.sendQueues, times(1)).enqueue(eq(tablet), frame.capture(), any());
+        assertThat((String) frame.getValue().getPayload()).contains("product-detail");
+        verify(nodeA.sendQueues, never()).enqueue(any(WebSocketSession.class), any(), any());
+
+        // STOMP 구독자에게는 노드마다 한 번씩 전달
+        ArgumentCaptor<Message<?>> stompMessage = ArgumentCaptor.forClass(Message.class);
+        verify(nodeB.messagingTemplate, times(1)).send(eq("/topic/session/S1"), stompMessage.capture());
+        assertThat(new String((byte[]) stompMessage.getValue().getPayload(), StandardCharsets.UTF_8))
+            .contains("product-detail");
+        verify(nodeA.messagingTemplate, times(1)).send(eq("/topic/session/S1"), any(Message.class));
+    }
+
+    @Test
+    void closedNodeNoLongerReceivesMessages() {
+        Node nodeA = startNode();
+        Node nodeB = startNode();
+        nodeB.context.close();
+
+        nodeA.publisher.publish("S1", Map.of("type", "screen-updated", "screen", "home"));
+
+        verify(nodeA.messagingTemplate, times(1)).send(eq("/topic/session/S1"), any(Message.class));
+        verify(nodeB.messagingTemplate, never()).send(anyString(), any(Message.class));
+    }
+
+    private Node startNode() {
+        Node node = new Node();
+        nodes.add(node);
+        return node;
+    }
+
+    /**
+     * 노드 하나 = 애플리케이션 컨텍스트 하나 (STOMP 템플릿과 소켓 송신 큐만 mock)
+     */
+    private static class Node {
+        private final AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+        private final SocketSendQueueManager sendQueues = mock(SocketSendQueueManager.class);
+        private final SimpleWebSocketHandler handler;
+        private final SessionMessagePublisher publisher;
+
+        private Node() {
+            context.getEnvironment().getPropertySources()
+                .addFirst(new MapPropertySource("node", Map.of("websocket.broker.mode", "EMBEDDED")));
+            context.registerBean(ObjectMapper.class, ObjectMapper::new);
+            context.registerBean(MeterRegistry.class, SimpleMeterRegistry::new);
+            context.registerBean(SimpMessagingTemplate.class, () -> messagingTemplate);
+            context.registerBean(SocketSendQueueManager.class, () -> sendQueues);
+            context.registerBean(SessionDirectory.class, () -> mock(SessionDirectory.class));
+            context.register(InProcessClusterMessageBus.class, SessionReplayBuffer.class, SessionStateStore.class,
+                CompactFrameNegotiator.class, SessionMessagePublisher.class, HandlerConfig.class);
+            context.refresh();
+            this.handler = context.getBean(SimpleWebSocketHandler.class);
+            this.publisher = context.getBean(SessionMessagePublisher.class);
+        }
+    }
+
+    // WebSocketConfig.simpleWebSocketHandler()와 같은 구성 (STOMP 브로커 설정 없이 핸들러만)
+    @Configuration
+    static class HandlerConfig {
+        @Bean
+        SimpleWebSocketHandler simpleWebSocketHandler(ObjectMapper objectMapper, SocketSendQueueManager sendQueueManager,
+                                                      CompactFrameNegotiator compactFrameNegotiator,
+                                                      SessionReplayBuffer replayBuffer, SessionStateStore stateStore,
+                                                      ObjectProvider<SessionMessagePublisher> publisherProvider) {
+            return new SimpleWebSocketHandler(objectMapper, sendQueueManager, compactFrameNegotiator,
+                replayBuffer, stateStore, publisherProvider);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.hanabank.bankadviser.global.websocket;
+
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.hanabank.bankadviser.global.websocket.SessionReplayBuffer.Replay;
+import com.hanabank.bankadviser.global.websocket.SessionReplayBuffer.ReplayStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SessionReplayBufferTest {
+
+    // 세션당 최근 3개 메시지만 보관
+    private final SessionReplayBuffer buffer = new SessionReplayBuffer(new SimpleMeterRegistry(), 3, 1_000_000, 60_000);
+
+    private final List<String> delivered = new ArrayList<>();
+    private String epoch;
+
+    @Test
+    void stampsMessagesWithIncreasingSeq() {
+        publish("S1", "{\"type\":\"screen-updated\"}");
+        publish("S1", "{}");
+
+        assertThat(delivered).containsExactly(
+            "{\"seq\":1,\"epoch\":\"" + epoch + "\",\"type\":\"screen-updated\"}",
+            "{\"seq\":2,\"epoch\":\"" + epoch + "\"}");
+    }
+
+    @Test
+    void upToDateWhenClientHasLatestSeq() {
+        publish("S1", "{\"n\":1}");
+        publish("S1", "{\"n\":2}");
+
+        Replay replay = buffer.replaySince("S1", epoch, 2);
+
+        assertThat(replay.getStatus()).isEqualTo(ReplayStatus.UP_TO_DATE);
+        assertThat(replay.getMessages()).isEmpty();
+    }
+
+    @Test
+    void replaysOnlyMissedMessages() {
+        for (int n = 1; n <= 3; n++) {
+            publish("S1", "{\"n\":" + n + "}");
+        }
+
+        Replay replay = buffer.replaySince("S1", epoch, 1);
+
+        assertThat(replay.getStatus()).isEqualTo(ReplayStatus.REPLAYED);
+        assertThat(replay.getLastSeq()).isEqualTo(3);
+        assertThat(payloads(replay)).containsExactly(delivered.get(1), delivered.get(2));
+    }
+
+    @Test
+    void replaysEverythingForClientWithoutEpoch() {
+        publish("S1", "{\"n\":1}");
+
+        Replay replay = buffer.replaySince("S1", null, 0);
+
+        assertThat(replay.getStatus()).isEqualTo(ReplayStatus.REPLAYED);
+        assertThat(payloads(replay)).containsExactly(delivered.get(0));
+    }
+
+    @Test
+    void resyncRequiredWhenMissedMessagesWereEvicted() {
+        for (int n = 1; n <= 5; n++) {
+            publish("S1", "{\"n\":" + n + "}");
+        }
+
+        // seq 2는 이미 밀려남 (3, 4, 5만 보관)
+        assertThat(buffer.replaySince("S1", epoch, 1).getStatus()).isEqualTo(ReplayStatus.RESYNC_REQUIRED);
+        assertThat(buffer.replaySince("S1", epoch, 2).getStatus()).isEqualTo(ReplayStatus.REPLAYED);
+    }
+
+    @Test
+    void resyncRequiredWhenEpochChanges() {
+        publish("S1", "{\"n\":1}");
+
+        assertThat(buffer.replaySince("S1", "other-epoch", 1).getStatus()).isEqualTo(ReplayStatus.RESYNC_REQUIRED);
+
+        // 버퍼가 다시 만들어지면(노드 재시작 / 세션 종료 후 재생성) 같은 seq라도 새 epoch
+        String previousEpoch = epoch;
+        buffer.remove("S1");
+        publish("S1", "{\"n\":1}");
+        assertThat(epoch).isNotEqualTo(previousEpoch);
+        assertThat(buffer.replaySince("S1", previousEpoch, 1).getStatus()).isEqualTo(ReplayStatus.RESYNC_REQUIRED);
+    }
+
+    @Test
+    void resyncRequiredWhenClientIsAheadOrSessionUnknown() {
+        publish("S1", "{\"n\":1}");
+
+        assertThat(buffer.replaySince("S1", epoch, 5).getStatus()).isEqualTo(ReplayStatus.RESYNC_REQUIRED);
+        assertThat(buffer.replaySince("unknown", null, 0).getStatus()).isEqualTo(ReplayStatus.RESYNC_REQUIRED);
+    }
+
+    private void publish(String sessionId, String json) {
+        buffer.stampAndDeliver(sessionId, json, (stamped, stampedEpoch, seq) -> {
+            delivered.add(stamped);
+            epoch = stampedEpoch;
+        });
+    }
+
+    private static List<String> payloads(Replay replay) {
+        return replay.getMessages().stream()
+            .map(RawValue::rawValue)
+            .map(Object::toString)
+            .collect(Collectors.toList());
+    }
+}